@@ -0,0 +1,84 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Stack heights the board benchmarks are parameterized over.
+ * Boards are built by dropping seeded bricks at random columns, so every run measures the same layout.
+ */
+public enum BoardFill {
+
+    /** No settled blocks. */
+    EMPTY(0),
+    /** Stack reaching about half of the visible play area. */
+    HALF(11),
+    /** Stack a few rows below the danger line. */
+    NEAR_TOP(20);
+
+    /** Board height used by the benchmarks. */
+    public static final int ROWS = 25;
+    /** Board width used by the benchmarks. */
+    public static final int COLUMNS = 10;
+
+    private final int stackHeight;
+
+    BoardFill(int stackHeight) {
+        this.stackHeight = stackHeight;
+    }
+
+    /**
+     * Gets the number of rows the stack should reach.
+     * 
+     * @return the target stack height
+     */
+    public int getStackHeight() {
+        return stackHeight;
+    }
+
+    /**
+     * Builds a board whose stack reaches this height, with a fresh brick waiting at the spawn location.
+     * 
+     * @param seed the seed for the bricks and drop columns
+     * @return the prepared board
+     */
+    public SimpleBoard build(long seed) {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new SevenBagBrickGenerator(seed));
+        SplittableRandom random = new SplittableRandom(seed);
+        board.newGame();
+        int targetTop = ROWS - stackHeight;
+        while (stackHeight > 0 && highestFilledRow(board.getBoardMatrix()) > targetTop) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.isDangerLineReached()) {
+                board.newGame();
+            } else {
+                board.createNewBrick();
+            }
+        }
+        return board;
+    }
+
+    // Row of the highest settled block, or the row count when the board is empty
+    private static int highestFilledRow(int[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            for (int cell : matrix[row]) {
+                if (cell != 0) {
+                    return row;
+                }
+            }
+        }
+        return matrix.length;
+    }
+}
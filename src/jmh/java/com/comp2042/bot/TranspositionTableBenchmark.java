@@ -0,0 +1,84 @@
+package com.comp2042.bot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures transposition table probes and stores for a table that fits in cache and one that does not.
+ * Keys are random, like Zobrist hashes, so every probe lands on an unpredictable bucket.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TranspositionTableBenchmark {
+
+    // Keys cycled through by each benchmark, a power of two for cheap wrapping
+    private static final int KEY_COUNT = 1 << 16;
+
+    @Param({"64", "65536"})
+    private int kilobytes;
+
+    private TranspositionTable table;
+    private long[] storedKeys;
+    private long[] absentKeys;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        table = TranspositionTable.ofBytes(kilobytes * 1024L);
+        SplittableRandom random = new SplittableRandom(1);
+        storedKeys = new long[KEY_COUNT];
+        absentKeys = new long[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            absentKeys[i] = random.nextLong();
+        }
+        // Fill the table, then keep only the keys that survived replacement, so every probe of them hits
+        int surviving = 0;
+        for (int i = 0; i < KEY_COUNT; i++) {
+            storedKeys[i] = random.nextLong();
+            table.store(storedKeys[i], i, 0);
+        }
+        for (long key : storedKeys.clone()) {
+            if (!Double.isNaN(table.probe(key, 0))) {
+                storedKeys[surviving++] = key;
+            }
+        }
+        for (int i = surviving; i < KEY_COUNT; i++) {
+            storedKeys[i] = storedKeys[i % surviving];
+        }
+        System.out.println(table.getCapacity() + " entries, " + surviving + " of " + KEY_COUNT + " keys kept");
+    }
+
+    @Benchmark
+    public double probeHit() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        return table.probe(storedKeys[index], 0);
+    }
+
+    @Benchmark
+    public double probeMiss() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        return table.probe(absentKeys[index], 0);
+    }
+
+    @Benchmark
+    public void store() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        table.store(absentKeys[index], index, 0);
+    }
+}
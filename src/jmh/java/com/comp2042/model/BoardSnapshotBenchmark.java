@@ -0,0 +1,73 @@
+package com.comp2042.model;
+
+import com.comp2042.benchmark.BoardFill;
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures taking and restoring board snapshots on boards with different stack heights.
+ * The gc profiler's normalised allocation of the snapshot benchmarks is the snapshot size; the estimate from
+ * {@link BoardSnapshot#getSizeBytes()} is printed once per trial for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardSnapshotBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    private BoardFill fill;
+
+    private SimpleBoard simpleBoard;
+    private BitBoard bitBoard;
+    private BoardSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        simpleBoard = fill.build(1);
+        snapshot = simpleBoard.snapshot();
+        bitBoard = new BitBoard(BoardFill.ROWS, BoardFill.COLUMNS, new SevenBagBrickGenerator(1));
+        bitBoard.newGame();
+        bitBoard.restore(snapshot);
+        System.out.println(fill + " snapshot: " + snapshot.getSizeBytes() + " bytes, "
+                + (BoardFill.ROWS - snapshot.getFirstRow()) + " rows stored");
+    }
+
+    @Benchmark
+    public BoardSnapshot simpleBoardSnapshot() {
+        return simpleBoard.snapshot();
+    }
+
+    @Benchmark
+    public BoardSnapshot bitBoardSnapshot() {
+        return bitBoard.snapshot();
+    }
+
+    // Restoring the state the board is already in writes the same rows as any restore to that height
+    @Benchmark
+    public int simpleBoardRestore() {
+        simpleBoard.restore(snapshot);
+        return simpleBoard.getScore().getScore();
+    }
+
+    @Benchmark
+    public int bitBoardRestore() {
+        bitBoard.restore(snapshot);
+        return bitBoard.getScore().getScore();
+    }
+}
@@ -0,0 +1,58 @@
+package com.comp2042.model;
+
+import com.comp2042.benchmark.BoardFill;
+import com.comp2042.util.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ghost position strategies on boards with different stack heights:
+ * the original copy-and-scan approach, the in-place scan and the skyline cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GhostPositionBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    private BoardFill fill;
+
+    private SimpleBoard board;
+
+    @Setup
+    public void setUp() {
+        board = fill.build(1);
+    }
+
+    // The ghost calculation as it was before the skyline cache: copy the whole board, then test every row
+    // The copied corner cell is folded into the result so the JIT cannot drop the copy
+    @Benchmark
+    public int copyAndScan() {
+        int[][] matrix = MatrixOperations.copy(board.getBoardMatrix());
+        return board.calculateGhostPositionByScan() + matrix[matrix.length - 1][0];
+    }
+
+    @Benchmark
+    public int inPlaceScan() {
+        return board.calculateGhostPositionByScan();
+    }
+
+    @Benchmark
+    public int skylineCache() {
+        return board.calculateGhostPosition();
+    }
+}
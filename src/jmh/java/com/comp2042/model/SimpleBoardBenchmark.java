@@ -0,0 +1,80 @@
+package com.comp2042.model;
+
+import com.comp2042.benchmark.BoardFill;
+import com.comp2042.data.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the SimpleBoard operations the game calls on every input, on boards with
+ * different stack heights. Operations that would leave the brick somewhere else are paired
+ * with the move that undoes them, or with a respawn, so every invocation starts from the same state.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleBoardBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    private BoardFill fill;
+
+    private SimpleBoard board;
+
+    @Setup
+    public void setUp() {
+        board = fill.build(1);
+    }
+
+    // Steps down until the brick lands, then respawns it, so most invocations are plain moves
+    @Benchmark
+    public boolean moveBrickDown() {
+        if (board.moveBrickDown()) {
+            return true;
+        }
+        board.createNewBrick();
+        return false;
+    }
+
+    @Benchmark
+    public boolean moveBrickLeftThenRight() {
+        return board.moveBrickLeft() & board.moveBrickRight();
+    }
+
+    @Benchmark
+    public boolean moveBrickRightThenLeft() {
+        return board.moveBrickRight() & board.moveBrickLeft();
+    }
+
+    // Cycles through the rotation states of the current brick
+    @Benchmark
+    public boolean rotateLeftBrick() {
+        return board.rotateLeftBrick();
+    }
+
+    // Includes respawning the brick, which is allocation free with the 7-bag generator
+    @Benchmark
+    public int hardDropBrick() {
+        int distance = board.hardDropBrick();
+        board.createNewBrick();
+        return distance;
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+}
@@ -0,0 +1,127 @@
+package com.comp2042.ui;
+
+import com.comp2042.benchmark.BoardFill;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.util.MatrixOperations;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of restyling the visible board cells after a lock, alternating between a board and the same board
+ * with one more brick merged. Compares the former per-cell restyle, which created its colors on every call,
+ * with the cached CellGrid, which only touches the cells whose color changed.
+ * Rectangles are used without a scene, so this measures property writes and allocation, not layout or CSS.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CellRefreshBenchmark {
+
+    private static final int HIDDEN_ROWS = 2;
+    private static final int CELL_SIZE = 20;
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    private BoardFill fill;
+
+    private int[][] before;
+    private int[][] after;
+    private boolean showAfter;
+
+    private Rectangle[][] legacyCells;
+    private CellGrid cachedCells;
+
+    @Setup
+    public void setUp() {
+        SimpleBoard board = fill.build(1);
+        before = MatrixOperations.copy(board.getBoardMatrix());
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        after = MatrixOperations.copy(board.getBoardMatrix());
+
+        legacyCells = new Rectangle[BoardFill.ROWS][BoardFill.COLUMNS];
+        for (int i = HIDDEN_ROWS; i < BoardFill.ROWS; i++) {
+            for (int j = 0; j < BoardFill.COLUMNS; j++) {
+                legacyCells[i][j] = new Rectangle(CELL_SIZE, CELL_SIZE);
+            }
+        }
+        cachedCells = new CellGrid(BoardFill.ROWS - HIDDEN_ROWS, BoardFill.COLUMNS, CELL_SIZE, CellGrid.Style.BOARD);
+    }
+
+    private int[][] nextBoard() {
+        showAfter = !showAfter;
+        return showAfter ? after : before;
+    }
+
+    @Benchmark
+    public Rectangle[][] legacyRestyle() {
+        int[][] board = nextBoard();
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                legacySetRectangleData(board[i][j], legacyCells[i][j]);
+            }
+        }
+        return legacyCells;
+    }
+
+    @Benchmark
+    public CellGrid cachedGrid() {
+        int[][] board = nextBoard();
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                cachedCells.set(i - HIDDEN_ROWS, j, board[i][j]);
+            }
+        }
+        return cachedCells;
+    }
+
+    // The cell restyle GuiController used before the palette cache, kept here as the baseline
+    private static void legacySetRectangleData(int color, Rectangle rectangle) {
+        rectangle.setFill(legacyFillColor(color));
+        if (color != 0) {
+            rectangle.setArcHeight(9);
+            rectangle.setArcWidth(9);
+            rectangle.setStroke(Color.rgb(255, 255, 255, 0.3));
+            rectangle.setStrokeWidth(0.5);
+            rectangle.setStrokeType(StrokeType.INSIDE);
+        } else {
+            rectangle.setFill(Color.rgb(25, 40, 70, 0.4));
+            rectangle.setArcHeight(0);
+            rectangle.setArcWidth(0);
+            rectangle.setStroke(Color.rgb(45, 65, 100, 0.5));
+            rectangle.setStrokeWidth(0.5);
+            rectangle.setStrokeType(StrokeType.INSIDE);
+        }
+    }
+
+    private static Paint legacyFillColor(int color) {
+        switch (color) {
+            case 0: return Color.TRANSPARENT;
+            case 1: return Color.AQUA;
+            case 2: return Color.BLUEVIOLET;
+            case 3: return Color.DARKGREEN;
+            case 4: return Color.YELLOW;
+            case 5: return Color.RED;
+            case 6: return Color.BEIGE;
+            case 7: return Color.BURLYWOOD;
+            default: return Color.WHITE;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.util;
+
+import com.comp2042.benchmark.BoardFill;
+import com.comp2042.data.ClearRow;
+import com.comp2042.model.bricks.ShapeTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the matrix helpers on boards with different stack heights,
+ * using a T brick at the spawn column.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    private static final int SPAWN_X = 4;
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    private BoardFill fill;
+
+    private int[][] matrix;
+    private int[][] brick;
+    private int landingY;
+
+    @Setup
+    public void setUp() {
+        matrix = MatrixOperations.copy(fill.build(1).getBoardMatrix());
+        brick = ShapeTable.get(ShapeTable.T, 0).getMatrix();
+        landingY = 0;
+        while (!MatrixOperations.intersect(matrix, brick, SPAWN_X, landingY + 1)) {
+            landingY++;
+        }
+    }
+
+    @Benchmark
+    public boolean intersectFree() {
+        return MatrixOperations.intersect(matrix, brick, SPAWN_X, 0);
+    }
+
+    @Benchmark
+    public boolean intersectBlocked() {
+        return MatrixOperations.intersect(matrix, brick, SPAWN_X, landingY + 1);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, brick, SPAWN_X, landingY);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,475 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.engine.BatchReport;
+import com.comp2042.engine.BatchRunner;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plans the falling brick by looking ahead through the hold slot and the preview queue with a beam search.
+ * <p>
+ * Level one places the falling brick, or the brick holding would bring in, in every reachable position. Each
+ * following level places the next brick of the preview on every playfield kept from the level before, again
+ * with the hold option. Only the best playfields of each level are kept, ranked by the evaluator's score of the
+ * playfield plus the lines cleared on the way there. The plan is the first placement on the path to the best
+ * playfield of the deepest level finished.
+ * <p>
+ * Different orders of placements often reach the same playfield with the same bricks to come; such
+ * transpositions are recognised by their {@link com.comp2042.model.Zobrist} hash and kept once, so they do not
+ * crowd the beam. Scores can be cached across plans and threads in a shared {@link TranspositionTable}.
+ * <p>
+ * The playfields of a level are expanded in parallel when a {@link ForkJoinPool} is given; the plan does not
+ * depend on the pool. Level one always finishes. A deeper level is dropped if the time budget runs out while
+ * it is expanded, so a plan takes about the budget at most and falls back to a shallower lookahead.
+ * <p>
+ * The statistics are kept per planner, so a planner should serve one game at a time.
+ */
+public class BeamSearchPlanner implements PlacementPlanner {
+
+    /** Playfields kept per level when none is given. */
+    public static final int DEFAULT_BEAM_WIDTH = 8;
+
+    /** Bricks looked ahead when none is given, counting the falling one. */
+    public static final int DEFAULT_DEPTH = 3;
+
+    /** Time allowed per plan when none is given, in nanoseconds. */
+    public static final long DEFAULT_BUDGET_NANOS = 5_000_000;
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score).reversed();
+
+    private final int beamWidth;
+    private final int depth;
+    private final long budgetNanos;
+    private final PlacementSearch search;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    private long plans;
+    private long totalNodes;
+    private long totalNanos;
+    private long totalDepth;
+    private long cutShortPlans;
+    private int lastNodes;
+    private int lastDepth;
+    private long lastElapsedNanos;
+
+    /**
+     * Constructs a planner with the default width, depth, budget and weights that expands on the calling thread.
+     */
+    public BeamSearchPlanner() {
+        this(DEFAULT_BEAM_WIDTH, DEFAULT_DEPTH, DEFAULT_BUDGET_NANOS, PlacementEvaluator.DEFAULT, null);
+    }
+
+    /**
+     * Constructs a planner.
+     *
+     * @param beamWidth the number of playfields kept per level
+     * @param depth the number of bricks looked ahead, counting the falling one; limited by the preview length
+     * @param budgetNanos the time allowed per plan, in nanoseconds
+     * @param evaluator scores the playfields
+     * @param pool the pool to expand each level on, or null to expand on the calling thread
+     * @throws IllegalArgumentException if beamWidth or depth is less than 1 or budgetNanos is not positive
+     */
+    public BeamSearchPlanner(int beamWidth, int depth, long budgetNanos, PlacementEvaluator evaluator,
+                             ForkJoinPool pool) {
+        this(beamWidth, depth, budgetNanos, evaluator, pool, null);
+    }
+
+    /**
+     * Constructs a planner that caches scores.
+     *
+     * @param beamWidth the number of playfields kept per level
+     * @param depth the number of bricks looked ahead, counting the falling one; limited by the preview length
+     * @param budgetNanos the time allowed per plan, in nanoseconds
+     * @param evaluator scores the playfields
+     * @param pool the pool to expand each level on, or null to expand on the calling thread
+     * @param table the cache of scores by playfield hash, or null not to cache; it may be shared with other
+     *              planners and searches using the same evaluator
+     * @throws IllegalArgumentException if beamWidth or depth is less than 1 or budgetNanos is not positive
+     */
+    public BeamSearchPlanner(int beamWidth, int depth, long budgetNanos, PlacementEvaluator evaluator,
+                             ForkJoinPool pool, TranspositionTable table) {
+        if (beamWidth < 1 || depth < 1 || budgetNanos <= 0) {
+            throw new IllegalArgumentException("Beam width, depth and budget must be positive");
+        }
+        this.beamWidth = beamWidth;
+        this.depth = depth;
+        this.budgetNanos = budgetNanos;
+        this.search = new PlacementSearch(evaluator, null, table);
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Plans a board's falling brick, looking ahead through its hold slot and preview queue.
+     *
+     * @param board the board
+     * @return the first placement of the best plan, or null if the brick cannot move at all
+     * @throws IllegalArgumentException if the board is wider than a playfield allows
+     */
+    @Override
+    public Placement findBest(Board board) {
+        BoardSnapshot snapshot = board.snapshot();
+        int[] queue = new int[board.getPreviewCount()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = board.getPreviewType(i);
+        }
+        return plan(Playfield.of(snapshot), snapshot.getBrickType(), snapshot.getRotation(), snapshot.getOffsetX(),
+                snapshot.getOffsetY(), snapshot.getHeldType(), snapshot.canHold(), queue);
+    }
+
+    /**
+     * Plans a brick, looking ahead through the hold slot and the upcoming bricks.
+     *
+     * @param field the settled blocks
+     * @param type the type id of the falling brick
+     * @param rotation its rotation index
+     * @param x the column of its shape origin
+     * @param y the row of its shape origin
+     * @param heldType the type id of the held brick, or 0 if none is held
+     * @param canHold true if the falling brick may be held
+     * @param queue the type ids of the upcoming bricks, next first
+     * @return the first placement of the best plan, or null if the brick cannot move at all
+     */
+    public Placement plan(Playfield field, int type, int rotation, int x, int y, int heldType, boolean canHold,
+                          int[] queue) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        int levels = Math.min(depth, Math.max(1, queue.length));
+        double linesWeight = search.getEvaluator().getLinesWeight();
+        if (table != null) {
+            table.newGeneration();
+        }
+
+        Node root = new Node(field, type, heldType, canHold, 0, 0, 0, null);
+        List<Node> beam = new ArrayList<>();
+        int nodes = 0;
+        int completed = 0;
+        boolean cutShort = false;
+        for (int level = 1; level <= levels; level++) {
+            Node[][] children = new Node[level == 1 ? 1 : beam.size()][];
+            if (level == 1) {
+                children[0] = expand(root, rotation, x, y, queue, linesWeight);
+            } else {
+                ExpandTask task = new ExpandTask(beam, children, queue, linesWeight, deadline, 0, beam.size());
+                if (pool != null && beam.size() > 1) {
+                    pool.invoke(task);
+                } else {
+                    task.compute();
+                }
+                if (System.nanoTime() > deadline && !isComplete(children)) {
+                    cutShort = true;
+                    break;
+                }
+            }
+            List<Node> next = new ArrayList<>();
+            for (Node[] expanded : children) {
+                nodes += expanded.length;
+                for (Node child : expanded) {
+                    next.add(child);
+                }
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            next.sort(BEST_FIRST);
+            beam = distinctBest(next);
+            completed = level;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        plans++;
+        totalNodes += nodes;
+        totalNanos += elapsed;
+        totalDepth += completed;
+        if (cutShort) {
+            cutShortPlans++;
+        }
+        lastNodes = nodes;
+        lastDepth = completed;
+        lastElapsedNanos = elapsed;
+        return beam.isEmpty() ? null : beam.get(0).first;
+    }
+
+    // Places a node's falling brick, or the one holding brings in, in every reachable position
+    private Node[] expand(Node node, int rotation, int x, int y, int[] queue, double linesWeight) {
+        if (node.current == 0 || node.field.isDangerLineReached()) {
+            return new Node[0];
+        }
+        int holdType = 0;
+        if (node.canHold) {
+            holdType = node.held != 0 ? node.held : node.queueIndex < queue.length ? queue[node.queueIndex] : 0;
+            if (holdType == node.current) {
+                holdType = 0;
+            }
+        }
+        List<Placement> placements = search.enumerate(node.field, node.current, rotation, x, y, holdType);
+        Node[] children = new Node[placements.size()];
+        for (int i = 0; i < children.length; i++) {
+            Placement placement = placements.get(i);
+            int held = node.held;
+            int nextIndex = node.queueIndex;
+            if (placement.isHold()) {
+                // Holding with an empty slot takes the next brick from the queue
+                if (held == 0) {
+                    nextIndex++;
+                }
+                held = node.current;
+            }
+            int next = nextIndex < queue.length ? queue[nextIndex] : 0;
+            children[i] = new Node(placement.getResult(), next, held, true, nextIndex + 1,
+                    node.lineReward + linesWeight * placement.getLinesCleared(),
+                    node.lineReward + placement.getScore(), node.first != null ? node.first : placement);
+        }
+        return children;
+    }
+
+    // Keeps the first beamWidth nodes of a sorted level, skipping transpositions of nodes already kept
+    private List<Node> distinctBest(List<Node> sorted) {
+        List<Node> kept = new ArrayList<>(beamWidth);
+        for (int i = 0; i < sorted.size() && kept.size() < beamWidth; i++) {
+            Node node = sorted.get(i);
+            boolean seen = false;
+            for (int k = 0; k < kept.size() && !seen; k++) {
+                seen = kept.get(k).isTranspositionOf(node);
+            }
+            if (!seen) {
+                kept.add(node);
+            }
+        }
+        return kept;
+    }
+
+    private static boolean isComplete(Node[][] children) {
+        for (Node[] expanded : children) {
+            if (expanded == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of plans made.
+     *
+     * @return the plan count
+     */
+    public long getPlanCount() {
+        return plans;
+    }
+
+    /**
+     * Gets the placements evaluated over all plans.
+     *
+     * @return the node count
+     */
+    public long getTotalNodes() {
+        return totalNodes;
+    }
+
+    /**
+     * Gets the time spent planning over all plans.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the placements evaluated per second of planning over all plans.
+     *
+     * @return the node rate, or 0 before the first plan
+     */
+    public double getNodesPerSecond() {
+        return totalNanos == 0 ? 0 : totalNodes * 1e9 / totalNanos;
+    }
+
+    /**
+     * Gets the average number of levels finished per plan.
+     *
+     * @return the average depth, or 0 before the first plan
+     */
+    public double getAverageDepth() {
+        return plans == 0 ? 0 : (double) totalDepth / plans;
+    }
+
+    /**
+     * Gets the number of plans that ran out of time before the full depth.
+     *
+     * @return the cut short plan count
+     */
+    public long getCutShortCount() {
+        return cutShortPlans;
+    }
+
+    /**
+     * Gets the placements evaluated by the last plan.
+     *
+     * @return the node count
+     */
+    public int getLastNodes() {
+        return lastNodes;
+    }
+
+    /**
+     * Gets the number of levels the last plan finished.
+     *
+     * @return the depth reached
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * Gets the time the last plan took.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getLastElapsedNanos() {
+        return lastElapsedNanos;
+    }
+
+    // A playfield reached by a sequence of placements, with the brick to place on it next
+    private static final class Node {
+        private final Playfield field;
+        private final int current;
+        private final int held;
+        private final boolean canHold;
+        private final int queueIndex;
+        // The lines weight times the lines cleared on the way here
+        private final double lineReward;
+        private final double score;
+        private final Placement first;
+
+        Node(Playfield field, int current, int held, boolean canHold, int queueIndex, double lineReward,
+             double score, Placement first) {
+            this.field = field;
+            this.current = current;
+            this.held = held;
+            this.canHold = canHold;
+            this.queueIndex = queueIndex;
+            this.lineReward = lineReward;
+            this.score = score;
+            this.first = first;
+        }
+
+        // Same blocks and the same bricks to come, however they were reached
+        boolean isTranspositionOf(Node other) {
+            return field.getHash() == other.field.getHash() && current == other.current && held == other.held
+                    && canHold == other.canHold && queueIndex == other.queueIndex;
+        }
+    }
+
+    // Expands a range of the beam, splitting it in halves down to single playfields; playfields left when the
+    // deadline passes are not expanded and keep a null entry
+    private final class ExpandTask extends RecursiveAction {
+        private final List<Node> beam;
+        private final Node[][] children;
+        private final int[] queue;
+        private final double linesWeight;
+        private final long deadline;
+        private final int from;
+        private final int to;
+
+        ExpandTask(List<Node> beam, Node[][] children, int[] queue, double linesWeight, long deadline, int from,
+                   int to) {
+            this.beam = beam;
+            this.children = children;
+            this.queue = queue;
+            this.linesWeight = linesWeight;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                if (System.nanoTime() <= deadline) {
+                    children[from] = expand(beam.get(from), 0, Playfield.SPAWN_X, Playfield.SPAWN_Y, queue,
+                            linesWeight);
+                }
+            } else if (to > from) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ExpandTask(beam, children, queue, linesWeight, deadline, from, mid),
+                        new ExpandTask(beam, children, queue, linesWeight, deadline, mid, to));
+            }
+        }
+    }
+
+    /**
+     * Plays a batch of headless games with beam search bots and prints the batch report with the planners'
+     * node rate, average depth and plans cut short.
+     * Arguments: number of games (default 4), piece limit per game (default 2000), beam width (default 8),
+     * depth (default 3), budget per plan in microseconds (default 5000), expansion threads per plan
+     * (default 0, expanding on the game thread) and score cache size in kilobytes (default 0, no cache).
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int maxPieces = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int width = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BEAM_WIDTH;
+        int depth = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_DEPTH;
+        long budgetNanos = args.length > 4 ? Long.parseLong(args[4]) * 1000 : DEFAULT_BUDGET_NANOS;
+        int expandThreads = args.length > 5 ? Integer.parseInt(args[5]) : 0;
+        long tableKilobytes = args.length > 6 ? Long.parseLong(args[6]) : 0;
+
+        ForkJoinPool expandPool = expandThreads > 0 ? new ForkJoinPool(expandThreads) : null;
+        TranspositionTable table = tableKilobytes > 0 ? TranspositionTable.ofBytes(tableKilobytes * 1024) : null;
+        try {
+            Queue<BeamSearchPlanner> planners = new ConcurrentLinkedQueue<>();
+            BatchRunner runner = new BatchRunner(1, maxPieces,
+                    seed -> new SimpleBoard(BatchRunner.BOARD_ROWS, BatchRunner.BOARD_COLUMNS,
+                            new SevenBagBrickGenerator(seed)),
+                    seed -> {
+                        BeamSearchPlanner planner = new BeamSearchPlanner(width, depth, budgetNanos,
+                                PlacementEvaluator.DEFAULT, expandPool, table);
+                        planners.add(planner);
+                        return new PlacementBot(planner);
+                    });
+            // Warm up the JIT on a short game so the measured run is not penalised
+            runner.playGame(-1);
+            planners.clear();
+            if (table != null) {
+                table.clear();
+            }
+            BatchReport report = runner.run(0, games);
+
+            long nodes = 0;
+            long nanos = 0;
+            long plans = 0;
+            long cutShort = 0;
+            double depthSum = 0;
+            for (BeamSearchPlanner planner : planners) {
+                nodes += planner.getTotalNodes();
+                nanos += planner.getTotalNanos();
+                plans += planner.getPlanCount();
+                cutShort += planner.getCutShortCount();
+                depthSum += planner.getAverageDepth() * planner.getPlanCount();
+            }
+            System.out.println(report);
+            System.out.printf("  beam %d  depth %d  budget %d us  nodes/s %.0f  avg depth %.2f  cut short %d of %d%n",
+                    width, depth, budgetNanos / 1000, nanos == 0 ? 0 : nodes * 1e9 / nanos,
+                    plans == 0 ? 0 : depthSum / plans, cutShort, plans);
+            if (table != null) {
+                System.out.println("  score cache " + table);
+            }
+        } finally {
+            if (expandPool != null) {
+                expandPool.shutdown();
+            }
+        }
+    }
+}
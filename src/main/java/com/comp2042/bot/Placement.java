@@ -0,0 +1,172 @@
+package com.comp2042.bot;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+
+/**
+ * One reachable final position of a brick, with the inputs that get it there and the playfield it leaves.
+ * The inputs are an optional hold, a number of rotations in place, a horizontal shift and a hard drop.
+ */
+public final class Placement {
+
+    private final boolean hold;
+    private final int type;
+    private final int rotation;
+    private final int column;
+    private final int row;
+    private final int rotatePresses;
+    private final int shift;
+    private final Playfield result;
+    private final double score;
+
+    /**
+     * Constructs a placement.
+     *
+     * @param hold true if the brick is reached by holding the current one first
+     * @param type the type id of the placed brick
+     * @param rotation the rotation index of the placed brick
+     * @param column the column of the shape origin
+     * @param row the landing row of the shape origin
+     * @param rotatePresses the rotations applied before shifting
+     * @param shift the columns moved, negative for left
+     * @param result the playfield after locking the brick and clearing lines
+     * @param score the evaluator's score of the result
+     */
+    public Placement(boolean hold, int type, int rotation, int column, int row, int rotatePresses, int shift,
+                     Playfield result, double score) {
+        this.hold = hold;
+        this.type = type;
+        this.rotation = rotation;
+        this.column = column;
+        this.row = row;
+        this.rotatePresses = rotatePresses;
+        this.shift = shift;
+        this.result = result;
+        this.score = score;
+    }
+
+    /**
+     * Sends the placement's inputs to a listener: hold, rotations, shifts and a hard drop.
+     *
+     * @param listener the listener receiving the moves, typically the game engine
+     */
+    public void play(InputEventListener listener) {
+        if (hold) {
+            listener.onHoldEvent(MoveEvent.of(EventType.HOLD, EventSource.USER));
+        }
+        MoveEvent rotate = MoveEvent.of(EventType.ROTATE, EventSource.USER);
+        for (int i = 0; i < rotatePresses; i++) {
+            listener.onRotateEvent(rotate);
+        }
+        if (shift < 0) {
+            MoveEvent left = MoveEvent.of(EventType.LEFT, EventSource.USER);
+            for (int i = 0; i < -shift; i++) {
+                listener.onLeftEvent(left);
+            }
+        } else {
+            MoveEvent right = MoveEvent.of(EventType.RIGHT, EventSource.USER);
+            for (int i = 0; i < shift; i++) {
+                listener.onRightEvent(right);
+            }
+        }
+        listener.onHardDropEvent(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+    }
+
+    /**
+     * Checks whether the current brick is held first.
+     *
+     * @return true if the placement starts with a hold
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Gets the type of the placed brick.
+     *
+     * @return the brick type id
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Gets the rotation of the placed brick.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column of the placed brick's shape origin.
+     *
+     * @return the column
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Gets the row the placed brick's shape origin lands on.
+     *
+     * @return the landing row
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the number of rotations applied before shifting.
+     *
+     * @return the rotate presses
+     */
+    public int getRotatePresses() {
+        return rotatePresses;
+    }
+
+    /**
+     * Gets the horizontal move applied after rotating.
+     *
+     * @return the columns moved, negative for left
+     */
+    public int getShift() {
+        return shift;
+    }
+
+    /**
+     * Gets the playfield the placement leaves.
+     *
+     * @return the playfield after locking the brick and clearing lines
+     */
+    public Playfield getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the number of lines the placement clears.
+     *
+     * @return the lines cleared
+     */
+    public int getLinesCleared() {
+        return result.getLinesCleared();
+    }
+
+    /**
+     * Gets the evaluator's score of the placement.
+     *
+     * @return the score, higher is better
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[" + (hold ? "hold, " : "") + "type=" + type + ", rotation=" + rotation
+                + ", column=" + column + ", row=" + row + ", lines=" + getLinesCleared() + ", score=" + score + "]";
+    }
+}
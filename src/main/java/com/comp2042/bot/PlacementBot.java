@@ -0,0 +1,109 @@
+package com.comp2042.bot;
+
+import com.comp2042.engine.BatchRunner;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.GameStrategy;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+
+/**
+ * Computer player that puts each brick where a {@link PlacementPlanner} chooses and plays the
+ * moves through an {@link InputEventListener}, like a player's key presses.
+ * It can drive headless games as a {@link GameStrategy} or just suggest a placement as a hint.
+ */
+public class PlacementBot implements GameStrategy {
+
+    private final PlacementPlanner planner;
+
+    /**
+     * Constructs a bot with the default weights that searches on the calling thread.
+     */
+    public PlacementBot() {
+        this(new PlacementSearch());
+    }
+
+    /**
+     * Constructs a bot.
+     *
+     * @param planner the planner choosing each placement
+     */
+    public PlacementBot(PlacementPlanner planner) {
+        this.planner = planner;
+    }
+
+    /**
+     * Finds the placement the bot would play, without playing it.
+     *
+     * @param board the board
+     * @return the best placement, or null if the brick cannot move at all
+     */
+    public Placement suggest(Board board) {
+        return planner.findBest(board);
+    }
+
+    /**
+     * Plays the board's falling brick to its best placement. If no placement is found the brick is
+     * hard dropped where it is, so exactly one brick locks either way.
+     *
+     * @param board the board to search
+     * @param listener the listener receiving the moves, which must act on the same board
+     * @return the placement played, or null if the brick was dropped where it was
+     */
+    public Placement playPiece(Board board, InputEventListener listener) {
+        Placement best = planner.findBest(board);
+        if (best == null) {
+            listener.onHardDropEvent(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+        } else {
+            best.play(listener);
+        }
+        return best;
+    }
+
+    /**
+     * Plays the engine's falling brick to its best placement.
+     *
+     * @param engine the engine whose current brick should be placed
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        playPiece(engine.getBoard(), engine);
+    }
+
+    /**
+     * Plays a batch of headless games with the bot and prints the report, including pieces per second.
+     * Arguments: number of games (default 8), piece limit per game (default 10000), game threads
+     * (default the number of available processors) and search threads per placement (default 0, searching
+     * on the game thread).
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int maxPieces = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int searchThreads = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        ForkJoinPool searchPool = searchThreads > 0 ? new ForkJoinPool(searchThreads) : null;
+        try {
+            LongFunction<Board> boards = seed -> new SimpleBoard(BatchRunner.BOARD_ROWS, BatchRunner.BOARD_COLUMNS,
+                    new SevenBagBrickGenerator(seed));
+            LongFunction<GameStrategy> bots =
+                    seed -> new PlacementBot(new PlacementSearch(PlacementEvaluator.DEFAULT, searchPool));
+            // Warm up the JIT on a short batch so the measured run is not penalised
+            new BatchRunner(threads, Math.min(maxPieces, 2000), boards, bots).run(-1, Math.min(games, 4));
+            System.out.println(new BatchRunner(threads, maxPieces, boards, bots).run(0, games));
+        } finally {
+            if (searchPool != null) {
+                searchPool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.bot;
+
+/**
+ * Scores a playfield after a placement with a weighted sum of four features: aggregate column height,
+ * lines cleared, holes (empty cells below a column's top block) and bumpiness (height differences between
+ * neighbouring columns). Higher scores are better; a playfield that has reached the danger line scores
+ * negative infinity.
+ */
+public final class PlacementEvaluator {
+
+    /** Weights tuned for standard boards by a genetic search, as published by Yiyuan Lee (2013). */
+    public static final PlacementEvaluator DEFAULT = new PlacementEvaluator(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    private final double heightWeight;
+    private final double linesWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+
+    /**
+     * Constructs an evaluator.
+     *
+     * @param heightWeight the weight of the aggregate column height
+     * @param linesWeight the weight of the lines cleared by the placement
+     * @param holesWeight the weight of the number of holes
+     * @param bumpinessWeight the weight of the summed height differences of neighbouring columns
+     */
+    public PlacementEvaluator(double heightWeight, double linesWeight, double holesWeight, double bumpinessWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+    }
+
+    /**
+     * Gets the weight of the lines cleared by a placement, for searches that add up lines over several placements.
+     *
+     * @return the lines weight
+     */
+    public double getLinesWeight() {
+        return linesWeight;
+    }
+
+    /**
+     * Scores a playfield.
+     *
+     * @param field the playfield after a placement
+     * @return the score, or negative infinity if the game would be over
+     */
+    public double evaluate(Playfield field) {
+        if (field.isDangerLineReached()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int rows = field.getRows();
+        int columns = field.getColumns();
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        // Column heights are collected as each column's top block is met, scanning down from the top
+        int seen = 0;
+        int[] heights = new int[columns];
+        for (int r = 0; r < rows; r++) {
+            int bits = field.getRowBits(r);
+            holes += Integer.bitCount(seen & ~bits);
+            int tops = bits & ~seen;
+            while (tops != 0) {
+                int col = Integer.numberOfTrailingZeros(tops);
+                heights[col] = rows - r;
+                aggregateHeight += rows - r;
+                tops &= tops - 1;
+            }
+            seen |= bits;
+        }
+        for (int c = 1; c < columns; c++) {
+            bumpiness += Math.abs(heights[c] - heights[c - 1]);
+        }
+        return heightWeight * aggregateHeight + linesWeight * field.getLinesCleared()
+                + holesWeight * holes + bumpinessWeight * bumpiness;
+    }
+}
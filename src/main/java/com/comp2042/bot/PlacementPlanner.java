@@ -0,0 +1,17 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.Board;
+
+/**
+ * Chooses where a board's falling brick should go.
+ */
+public interface PlacementPlanner {
+
+    /**
+     * Chooses the placement for a board's falling brick.
+     *
+     * @param board the board, which is read but not changed
+     * @return the chosen placement, or null if the brick cannot move at all
+     */
+    Placement findBest(Board board);
+}
@@ -0,0 +1,265 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.model.Board;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.ShapeTable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Enumerates every final position the falling brick can reach and scores each with a {@link PlacementEvaluator}.
+ * <p>
+ * A brick is rotated in place the way the boards rotate it, with no wall kicks, then shifted sideways at its
+ * current row and hard dropped, so every position found is one the real board reaches with the same inputs.
+ * When the brick may be held, the positions of the brick that holding would bring in are searched too.
+ * <p>
+ * Listing the positions is cheap; locking the brick into a copy of the playfield and scoring it is the expensive
+ * part, so that step is split over a {@link ForkJoinPool} when one is given. The result does not depend on the
+ * pool: ties go to the position listed first. Scores can also be cached by playfield hash in a
+ * {@link TranspositionTable}, which may be shared with other searches using the same evaluator.
+ */
+public class PlacementSearch implements PlacementPlanner {
+
+    // Candidate ranges at most this long are evaluated without splitting further
+    static final int SEQUENTIAL_THRESHOLD = 16;
+
+    // Packed candidate: hold flag, rotate presses, shift and landing row
+    private static final int PRESS_SHIFT = 1;
+    private static final int COLUMN_SHIFT = 3;
+    private static final int ROW_SHIFT = 9;
+    private static final int COLUMN_BIAS = 32;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_SHAPE_SIZE = 4;
+    // Scaled by the lines cleared and mixed into the playfield hash to key cached scores
+    private static final long LINES_KEY = 0x9E3779B97F4A7C15L;
+
+    private final PlacementEvaluator evaluator;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    /**
+     * Constructs a search with the default weights that evaluates on the calling thread.
+     */
+    public PlacementSearch() {
+        this(PlacementEvaluator.DEFAULT, null);
+    }
+
+    /**
+     * Constructs a search.
+     *
+     * @param evaluator scores the playfield each position leaves
+     * @param pool the pool to evaluate positions on, or null to evaluate on the calling thread
+     */
+    public PlacementSearch(PlacementEvaluator evaluator, ForkJoinPool pool) {
+        this(evaluator, pool, null);
+    }
+
+    /**
+     * Constructs a search that caches scores.
+     *
+     * @param evaluator scores the playfield each position leaves
+     * @param pool the pool to evaluate positions on, or null to evaluate on the calling thread
+     * @param table the cache of scores by playfield hash, or null not to cache; it must only be shared with
+     *              searches using the same evaluator
+     */
+    public PlacementSearch(PlacementEvaluator evaluator, ForkJoinPool pool, TranspositionTable table) {
+        this.evaluator = evaluator;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Gets the evaluator scoring the positions.
+     *
+     * @return the evaluator
+     */
+    public PlacementEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Finds the best position for a board's falling brick, holding it first if that scores better.
+     *
+     * @param board the board
+     * @return the best placement, or null if the brick cannot move at all
+     * @throws IllegalArgumentException if the board is wider than a playfield allows
+     */
+    @Override
+    public Placement findBest(Board board) {
+        BoardSnapshot snapshot = board.snapshot();
+        return findBest(Playfield.of(snapshot), snapshot.getBrickType(), snapshot.getRotation(),
+                snapshot.getOffsetX(), snapshot.getOffsetY(), holdAlternative(board, snapshot));
+    }
+
+    /**
+     * Finds the best position for a brick.
+     *
+     * @param field the settled blocks
+     * @param type the type id of the falling brick
+     * @param rotation its rotation index
+     * @param x the column of its shape origin
+     * @param y the row of its shape origin
+     * @param holdType the type id of the brick holding would bring in at the spawn position, or 0 not to hold
+     * @return the best placement, or null if none is reachable
+     */
+    public Placement findBest(Playfield field, int type, int rotation, int x, int y, int holdType) {
+        Placement[] placements = evaluate(field, type, rotation, x, y, holdType);
+        Placement best = null;
+        for (Placement placement : placements) {
+            if (best == null || placement.getScore() > best.getScore()) {
+                best = placement;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Lists and scores every reachable position of a brick.
+     *
+     * @param field the settled blocks
+     * @param type the type id of the falling brick
+     * @param rotation its rotation index
+     * @param x the column of its shape origin
+     * @param y the row of its shape origin
+     * @param holdType the type id of the brick holding would bring in at the spawn position, or 0 not to hold
+     * @return the placements, those of the falling brick first
+     */
+    public List<Placement> enumerate(Playfield field, int type, int rotation, int x, int y, int holdType) {
+        return Arrays.asList(evaluate(field, type, rotation, x, y, holdType));
+    }
+
+    /**
+     * Gets the brick that holding would bring in on a board.
+     *
+     * @param board the board
+     * @param snapshot a snapshot of the board
+     * @return the held brick's type, the next brick's type if nothing is held, or 0 if holding is not possible
+     *         or would bring in the same type
+     */
+    public static int holdAlternative(Board board, BoardSnapshot snapshot) {
+        if (!snapshot.canHold()) {
+            return 0;
+        }
+        int type = snapshot.getHeldType();
+        if (type == 0 && board.getPreviewCount() > 0) {
+            type = board.getPreviewType(0);
+        }
+        return type == snapshot.getBrickType() ? 0 : type;
+    }
+
+    private Placement[] evaluate(Playfield field, int type, int rotation, int x, int y, int holdType) {
+        // Each rotation reaches at most one position per column the shape origin can take
+        int[] moves = new int[2 * MAX_ROTATIONS * (field.getColumns() + MAX_SHAPE_SIZE)];
+        int count = collect(field, type, rotation, x, y, false, moves, 0);
+        if (holdType != 0) {
+            count = collect(field, holdType, 0, Playfield.SPAWN_X, Playfield.SPAWN_Y, true, moves, count);
+        }
+        Placement[] placements = new Placement[count];
+        EvaluateTask task = new EvaluateTask(field, type, rotation, x, holdType, moves, placements, 0, count);
+        if (pool != null && count > SEQUENTIAL_THRESHOLD) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+        return placements;
+    }
+
+    // Appends the packed moves reaching each final position of a brick, returning the new count
+    private static int collect(Playfield field, int type, int rotation, int x, int y, boolean hold,
+                               int[] moves, int count) {
+        int rotationCount = ShapeTable.getRotationCount(type);
+        for (int presses = 0; presses < rotationCount; presses++) {
+            BrickShape shape = ShapeTable.get(type, (rotation + presses) % rotationCount);
+            if (!field.fits(shape, x, y)) {
+                // Rotation is blocked here, and so is every further press
+                break;
+            }
+            int left = x;
+            while (field.fits(shape, left - 1, y)) {
+                left--;
+            }
+            int right = x;
+            while (field.fits(shape, right + 1, y)) {
+                right++;
+            }
+            for (int column = left; column <= right; column++) {
+                int row = field.dropRow(shape, column, y);
+                moves[count++] = (hold ? 1 : 0) | presses << PRESS_SHIFT
+                        | (column - x + COLUMN_BIAS) << COLUMN_SHIFT | row << ROW_SHIFT;
+            }
+        }
+        return count;
+    }
+
+    // Locks and scores a range of packed moves, splitting it in halves down to the threshold
+    private final class EvaluateTask extends RecursiveAction {
+        private final Playfield field;
+        private final int type;
+        private final int rotation;
+        private final int x;
+        private final int holdType;
+        private final int[] moves;
+        private final Placement[] placements;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(Playfield field, int type, int rotation, int x, int holdType, int[] moves,
+                     Placement[] placements, int from, int to) {
+            this.field = field;
+            this.type = type;
+            this.rotation = rotation;
+            this.x = x;
+            this.holdType = holdType;
+            this.moves = moves;
+            this.placements = placements;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    placements[i] = place(moves[i]);
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new EvaluateTask(field, type, rotation, x, holdType, moves, placements, from, mid),
+                        new EvaluateTask(field, type, rotation, x, holdType, moves, placements, mid, to));
+            }
+        }
+
+        private Placement place(int move) {
+            boolean hold = (move & 1) != 0;
+            int presses = move >>> PRESS_SHIFT & 0x3;
+            int shift = (move >>> COLUMN_SHIFT & 0x3F) - COLUMN_BIAS;
+            int row = move >>> ROW_SHIFT;
+            int placedType = hold ? holdType : type;
+            int startRotation = hold ? 0 : rotation;
+            int startX = hold ? Playfield.SPAWN_X : x;
+            int placedRotation = (startRotation + presses) % ShapeTable.getRotationCount(placedType);
+            Playfield result = field.place(ShapeTable.get(placedType, placedRotation), startX + shift, row);
+            return new Placement(hold, placedType, placedRotation, startX + shift, row, presses, shift, result,
+                    score(result));
+        }
+    }
+
+    // Scores a playfield through the cache when there is one; a cached score equals the computed one
+    private double score(Playfield field) {
+        if (table == null) {
+            return evaluator.evaluate(field);
+        }
+        // The score rewards the lines the placement cleared, which the blocks alone do not show
+        long key = field.getHash() ^ field.getLinesCleared() * LINES_KEY;
+        double score = table.probe(key, 0);
+        if (Double.isNaN(score)) {
+            score = evaluator.evaluate(field);
+            table.store(key, score, 0);
+        }
+        return score;
+    }
+}
@@ -0,0 +1,252 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.model.Zobrist;
+import com.comp2042.model.bricks.BrickShape;
+
+/**
+ * Immutable settled-block grid used by the bots, one int bitmask per row like {@link com.comp2042.model.BitBoard}.
+ * Placing a brick returns a new playfield with full rows already cleared, so a search can branch from any
+ * position without undoing moves. Each playfield carries the {@link Zobrist} hash of its blocks, equal to
+ * {@link com.comp2042.model.Board#getSettledHash()} for the same blocks and updated row by row as bricks are placed.
+ */
+public final class Playfield {
+
+    /** Row whose filling ends the game, as on both boards. */
+    public static final int DANGER_ROW = 2;
+
+    /** Column where both boards spawn bricks. */
+    public static final int SPAWN_X = 4;
+
+    /** Row where both boards spawn bricks. */
+    public static final int SPAWN_Y = 0;
+
+    // Bitmasks use one int per row
+    private static final int MAX_COLUMNS = 31;
+
+    private final int columns;
+    private final int fullRowMask;
+    // Bit c of rowBits[r] is set when cell (r, c) is occupied
+    private final int[] rowBits;
+    private final int linesCleared;
+    private final long hash;
+
+    /**
+     * Constructs an empty playfield.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns, at most 31
+     * @throws IllegalArgumentException if the playfield is wider than a row bitmask allows
+     */
+    public Playfield(int rows, int columns) {
+        this(columns, new int[rows], 0, 0);
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Playfield supports 1 to " + MAX_COLUMNS + " columns, got " + columns);
+        }
+    }
+
+    private Playfield(int columns, int[] rowBits, int linesCleared, long hash) {
+        this.columns = columns;
+        this.fullRowMask = (int) ((1L << columns) - 1);
+        this.rowBits = rowBits;
+        this.linesCleared = linesCleared;
+        this.hash = hash;
+    }
+
+    /**
+     * Builds the playfield of a board's settled blocks.
+     *
+     * @param snapshot a snapshot of the board
+     * @return the playfield
+     * @throws IllegalArgumentException if the board is wider than a row bitmask allows
+     */
+    public static Playfield of(BoardSnapshot snapshot) {
+        int columns = snapshot.getColumns();
+        Playfield field = new Playfield(snapshot.getRows(), columns);
+        int cellsPerWord = Long.SIZE / BoardSnapshot.BITS_PER_CELL;
+        for (int row = snapshot.getFirstRow(); row < snapshot.getRows(); row++) {
+            int bits = 0;
+            for (int col = 0; col < columns; col += cellsPerWord) {
+                long word = snapshot.getRowWord(row, col / cellsPerWord);
+                for (int c = col; word != 0; c++) {
+                    if ((word & 0xF) != 0) {
+                        bits |= 1 << c;
+                    }
+                    word >>>= BoardSnapshot.BITS_PER_CELL;
+                }
+            }
+            field.rowBits[row] = bits;
+        }
+        return field.rehashed();
+    }
+
+    /**
+     * Builds a playfield from row bitmasks.
+     *
+     * @param columns the number of columns, at most 31
+     * @param rowBits one bitmask per row, bit c set for an occupied cell in column c; copied
+     * @return the playfield
+     */
+    public static Playfield of(int columns, int... rowBits) {
+        Playfield field = new Playfield(rowBits.length, columns);
+        System.arraycopy(rowBits, 0, field.rowBits, 0, rowBits.length);
+        return field.rehashed();
+    }
+
+    // Copy with the hash computed from every row
+    private Playfield rehashed() {
+        long full = 0;
+        for (int row = 0; row < rowBits.length; row++) {
+            full ^= Zobrist.rowTerm(row, Zobrist.rowContent(rowBits[row]));
+        }
+        return new Playfield(columns, rowBits, linesCleared, full);
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rowBits.length;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the occupied cells of one row.
+     *
+     * @param row the row index
+     * @return the row bitmask, bit c set for an occupied cell in column c
+     */
+    public int getRowBits(int row) {
+        return rowBits[row];
+    }
+
+    /**
+     * Gets the number of full rows the placement that produced this playfield cleared.
+     *
+     * @return the lines cleared, 0 for a playfield not produced by {@link #place(BrickShape, int, int)}
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the Zobrist hash of the blocks.
+     *
+     * @return the settled hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Checks whether any block has reached the danger line, which ends the game.
+     *
+     * @return true if the danger row holds a block
+     */
+    public boolean isDangerLineReached() {
+        return rowBits[DANGER_ROW] != 0;
+    }
+
+    /**
+     * Checks whether a brick fits at a position, inside the walls and floor and clear of settled blocks.
+     *
+     * @param shape the brick shape
+     * @param x the column of the shape origin
+     * @param y the row of the shape origin
+     * @return true if the brick fits
+     */
+    public boolean fits(BrickShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= rowBits.length) {
+                return false;
+            }
+            long shifted;
+            if (x >= 0) {
+                shifted = (long) mask << x;
+            } else {
+                // Any cell shifted past column 0 is outside the left wall
+                if ((mask & ((1 << -x) - 1)) != 0) {
+                    return false;
+                }
+                shifted = mask >>> -x;
+            }
+            if ((shifted & ~(long) fullRowMask) != 0 || (rowBits[row] & shifted) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the row a brick lands on when hard dropped from a position where it fits.
+     *
+     * @param shape the brick shape
+     * @param x the column of the shape origin
+     * @param y the row of the shape origin
+     * @return the landing row of the shape origin
+     */
+    public int dropRow(BrickShape shape, int x, int y) {
+        while (fits(shape, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Locks a brick at a position and clears the rows it completes.
+     *
+     * @param shape the brick shape, which must fit at the position
+     * @param x the column of the shape origin
+     * @param y the row of the shape origin
+     * @return the new playfield, reporting the lines cleared
+     */
+    public Playfield place(BrickShape shape, int x, int y) {
+        int rows = rowBits.length;
+        int[] placed = rowBits.clone();
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask != 0) {
+                placed[y + r] |= x >= 0 ? mask << x : mask >>> -x;
+            }
+        }
+        // Compact the surviving rows downwards over the full ones
+        int lowestCleared = -1;
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (placed[read] != fullRowMask) {
+                placed[write--] = placed[read];
+            } else if (lowestCleared < 0) {
+                lowestCleared = read;
+            }
+        }
+        int cleared = write + 1;
+        for (int r = 0; r <= write; r++) {
+            placed[r] = 0;
+        }
+        // Only the brick's rows change, or with a clear every row down to the lowest cleared one
+        int bottom = Math.max(y + shape.getMaxRow(), lowestCleared);
+        long updated = hash;
+        for (int r = cleared > 0 ? 0 : y + shape.getMinRow(); r <= bottom; r++) {
+            if (rowBits[r] != placed[r]) {
+                updated ^= Zobrist.rowTerm(r, Zobrist.rowContent(rowBits[r]))
+                        ^ Zobrist.rowTerm(r, Zobrist.rowContent(placed[r]));
+            }
+        }
+        return new Playfield(columns, placed, cleared, updated);
+    }
+}
@@ -0,0 +1,274 @@
+package com.comp2042.bot;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size cache of search results keyed by 64-bit {@link com.comp2042.model.Zobrist} hashes, safe to share
+ * between search threads without locks.
+ * <p>
+ * The table is an array of two-slot buckets. The first slot keeps the deepest result stored for the bucket and
+ * is only replaced by a deeper result, a newer result for the same key, or any result once the stored one is
+ * from an earlier generation; the second slot takes whatever the first one refuses.
+ * <p>
+ * Each slot is three longs: the value, a word holding the depth and generation, and a check word, the XOR of the
+ * key with both. A reader that sees the words of two different writes finds the check does not match and treats
+ * the slot as a miss, so writers never lock and readers never see a torn entry.
+ * <p>
+ * Hits, misses and stores are counted, and one probe in {@value #LATENCY_SAMPLE_RATE} is timed, so the table can
+ * be sized against the memory available.
+ */
+public final class TranspositionTable {
+
+    /** One probe in this many is timed for the probe latency statistic. */
+    public static final int LATENCY_SAMPLE_RATE = 64;
+
+    // Longs per slot: check, value, meta; two slots per bucket
+    private static final int SLOT_WORDS = 3;
+    private static final int BUCKET_WORDS = 2 * SLOT_WORDS;
+    // Meta word: valid bit, 8-bit depth and 16-bit generation
+    private static final long VALID = 1L << 63;
+    private static final int DEPTH_SHIFT = 16;
+    private static final int MAX_DEPTH = 0xFF;
+    private static final int GENERATION_MASK = 0xFFFF;
+
+    private final AtomicLongArray words;
+    private final int bucketMask;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder overwrites = new LongAdder();
+    private final LongAdder sampledProbes = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+
+    /**
+     * Constructs a table holding about the given number of entries, rounded down to a power of two.
+     *
+     * @param entries the number of entries, at least 2
+     * @throws IllegalArgumentException if entries is less than 2 or too large for one array
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 2 || (long) entries * SLOT_WORDS > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Transposition table entries out of range: " + entries);
+        }
+        int buckets = Integer.highestOneBit(entries / 2);
+        this.words = new AtomicLongArray(buckets * BUCKET_WORDS);
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Constructs the largest table that fits in a memory budget.
+     *
+     * @param bytes the memory for the entries, in bytes
+     * @return the table
+     * @throws IllegalArgumentException if the budget does not fit one bucket
+     */
+    public static TranspositionTable ofBytes(long bytes) {
+        long entries = bytes / (SLOT_WORDS * Long.BYTES);
+        return new TranspositionTable((int) Math.min(entries, Integer.MAX_VALUE / SLOT_WORDS));
+    }
+
+    /**
+     * Looks up a result.
+     *
+     * @param key the state hash
+     * @param minDepth the shallowest stored depth accepted
+     * @return the stored value, or NaN if the key is absent or was stored at a shallower depth
+     */
+    public double probe(long key, int minDepth) {
+        boolean timed = ThreadLocalRandom.current().nextInt(LATENCY_SAMPLE_RATE) == 0;
+        long start = timed ? System.nanoTime() : 0;
+        double value = Double.NaN;
+        int base = bucket(key);
+        for (int slot = base; slot < base + BUCKET_WORDS; slot += SLOT_WORDS) {
+            long check = words.getAcquire(slot);
+            long data = words.getAcquire(slot + 1);
+            long meta = words.getAcquire(slot + 2);
+            if ((meta & VALID) != 0 && (check ^ data ^ meta) == key) {
+                if (depthOf(meta) >= minDepth) {
+                    value = Double.longBitsToDouble(data);
+                }
+                break;
+            }
+        }
+        if (timed) {
+            sampledNanos.add(System.nanoTime() - start);
+            sampledProbes.increment();
+        }
+        if (Double.isNaN(value)) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores a result, replacing an older entry of the same key or the entry the replacement policy gives up.
+     *
+     * @param key the state hash
+     * @param value the value, not NaN
+     * @param depth how deep the search behind the value looked, from 0 to 255
+     */
+    public void store(long key, double value, int depth) {
+        long data = Double.doubleToRawLongBits(value);
+        long meta = VALID | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT | generation.get() & GENERATION_MASK;
+        int base = bucket(key);
+        int target = base + SLOT_WORDS;
+        long preferredMeta = words.getAcquire(base + 2);
+        long preferredKey = words.getAcquire(base) ^ words.getAcquire(base + 1) ^ preferredMeta;
+        if ((preferredMeta & VALID) == 0 || preferredKey == key || depth > depthOf(preferredMeta)
+                || (preferredMeta & GENERATION_MASK) != (meta & GENERATION_MASK)) {
+            target = base;
+        }
+        long replacedMeta = words.getAcquire(target + 2);
+        if ((replacedMeta & VALID) != 0
+                && (words.getAcquire(target) ^ words.getAcquire(target + 1) ^ replacedMeta) != key) {
+            overwrites.increment();
+        }
+        words.setRelease(target + 1, data);
+        words.setRelease(target + 2, meta);
+        words.setRelease(target, key ^ data ^ meta);
+        stores.increment();
+    }
+
+    /**
+     * Starts a new generation, so entries stored before it give way to any new result in the deep slot.
+     * Call it between searches, for example once per piece.
+     */
+    public void newGeneration() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Empties the table and resets the statistics.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.setRelease(i, 0);
+        }
+        resetStatistics();
+    }
+
+    /**
+     * Resets the hit, store and latency statistics, keeping the entries.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        stores.reset();
+        overwrites.reset();
+        sampledProbes.reset();
+        sampledNanos.reset();
+    }
+
+    /**
+     * Gets the number of entries the table holds.
+     *
+     * @return the capacity in entries
+     */
+    public int getCapacity() {
+        return words.length() / SLOT_WORDS;
+    }
+
+    /**
+     * Gets the memory the entries take.
+     *
+     * @return the size in bytes
+     */
+    public long getSizeBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /**
+     * Counts the occupied slots by scanning the table.
+     *
+     * @return the number of valid entries
+     */
+    public int countEntries() {
+        int count = 0;
+        for (int slot = 0; slot < words.length(); slot += SLOT_WORDS) {
+            if ((words.getAcquire(slot + 2) & VALID) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of probes that found a usable entry.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of probes that found no usable entry.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the share of probes that hit.
+     *
+     * @return the hit rate from 0 to 1, or 0 before the first probe
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * Gets the number of stores.
+     *
+     * @return the store count
+     */
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * Gets the number of stores that evicted an entry of a different key.
+     *
+     * @return the overwrite count
+     */
+    public long getOverwrites() {
+        return overwrites.sum();
+    }
+
+    /**
+     * Gets the mean time of the sampled probes.
+     *
+     * @return the mean probe latency in nanoseconds, or 0 before a probe was sampled
+     */
+    public double getMeanProbeNanos() {
+        long count = sampledProbes.sum();
+        return count == 0 ? 0 : (double) sampledNanos.sum() / count;
+    }
+
+    private int bucket(long key) {
+        // The low bits pick the bucket; the full key is verified against the check word
+        return ((int) key & bucketMask) * BUCKET_WORDS;
+    }
+
+    private static int depthOf(long meta) {
+        return (int) (meta >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d entries (%d KB): hit rate %.1f%% of %d probes, %d stores, %d overwrites, "
+                        + "probe %.0f ns mean", getCapacity(), getSizeBytes() / 1024, getHitRate() * 100,
+                getHits() + getMisses(), getStores(), getOverwrites(), getMeanProbeNanos());
+    }
+}
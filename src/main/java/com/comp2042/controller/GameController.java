@@ -1,45 +1,240 @@
 package com.comp2042.controller;
 
-import com.comp2042.data.ClearRow;
+import com.comp2042.data.BoardChanges;
 import com.comp2042.data.DownData;
 import com.comp2042.data.ViewData;
-import com.comp2042.event.EventSource;
+import com.comp2042.engine.EngineThread;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.GameListener;
+import com.comp2042.engine.ReplayRecorder;
+import com.comp2042.engine.RewindBuffer;
 import com.comp2042.event.InputEventListener;
 import com.comp2042.event.MoveEvent;
+import com.comp2042.model.BitBoard;
 import com.comp2042.model.Board;
+import com.comp2042.model.Score;
 import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
 import com.comp2042.ui.GuiController;
+import com.comp2042.ui.ScoreProperties;
+import com.comp2042.util.KeyBindingManager;
+
+import java.nio.file.Paths;
 
 /**
- * Main game controller that manages the Tetris game logic and coordinates between the model and view.
- * Implements event handling for player inputs and manages game state transitions.
+ * Main game controller that connects the JavaFX view to the game engine.
+ * Forwards player inputs to the {@link GameEngine}, which owns the game rules, and relays
+ * the engine's background and game over notifications back to the view.
+ * With {@value #ENGINE_THREAD_PROPERTY} set, the engine instead runs on an {@link EngineThread}
+ * and the view exchanges queued inputs and snapshots with that thread directly.
+ * With {@value #REPLAY_DIR_PROPERTY} set, every game is recorded as a replay in that directory.
+ * With {@value #PRACTICE_PROPERTY} set, the player can rewind locked pieces, and games are not recorded.
  */
-public class GameController implements InputEventListener {
+public class GameController implements InputEventListener, GameListener {
+
+    /** System property selecting the board implementation: "simple" (default) or "bitboard". */
+    public static final String BOARD_PROPERTY = "tetris.board";
+
+    /** System property selecting the brick generator: "random" (default) or "bag" for the seeded 7-bag. */
+    public static final String GENERATOR_PROPERTY = "tetris.generator";
+
+    /** System property giving the 7-bag generator seed; a time-based seed is used when it is not set. */
+    public static final String SEED_PROPERTY = "tetris.seed";
+
+    /** System property that runs the engine on its own thread when set to "true". */
+    public static final String ENGINE_THREAD_PROPERTY = "tetris.engineThread";
+
+    /** System property giving the engine thread's ticks per second. */
+    public static final String ENGINE_TICKS_PROPERTY = "tetris.engineTicks";
+
+    /**
+     * System property naming a directory to record every game into; recording always uses the 7-bag generator,
+     * reseeded for each game from {@value #SEED_PROPERTY} or a time-based seed.
+     */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replayDir";
+
+    /** System property that enables practice rewind when set to "true". */
+    public static final String PRACTICE_PROPERTY = "tetris.practice";
+
+    /** System property giving the most pieces practice rewind can take back. */
+    public static final String REWIND_PIECES_PROPERTY = "tetris.rewindPieces";
+
+    /** System property giving the memory practice rewind may use, in kilobytes. */
+    public static final String REWIND_KILOBYTES_PROPERTY = "tetris.rewindKilobytes";
+
+    private static final int BOARD_ROWS = 25;
+    private static final int BOARD_COLUMNS = 10;
 
-    private Board board = new SimpleBoard(25, 10);
+    private final Board board;
+    private final GameEngine engine;
+    private final EngineThread engineThread; // Null unless the engine runs on its own thread
 
     private final GuiController viewGuiController;
 
+    // Set only when recording on this thread; the engine thread records by itself
+    private ReplayRecorder recorder;
+    private SevenBagBrickGenerator recordedGenerator;
+
     /**
      * Constructs a new GameController with the specified GUI controller.
+     * The board implementation is chosen by the {@value #BOARD_PROPERTY} system property, and games are
+     * recorded when {@value #REPLAY_DIR_PROPERTY} is set, unless {@value #PRACTICE_PROPERTY} enables rewind.
      * 
      * @param c the GUI controller for managing the view layer
      */
     public GameController(GuiController c) {
+        // A rewound game cannot be replayed from its inputs, so practice games are never recorded
+        this(c, Boolean.getBoolean(PRACTICE_PROPERTY) ? null : System.getProperty(REPLAY_DIR_PROPERTY));
+    }
+
+    // Recording needs a generator it can reseed for every game
+    private GameController(GuiController c, String replayDir) {
+        this(c, replayDir != null ? new SevenBagBrickGenerator(0)
+                : createBrickGenerator(System.getProperty(GENERATOR_PROPERTY, "random")), replayDir);
+    }
+
+    private GameController(GuiController c, BrickGenerator generator, String replayDir) {
+        this(c, createBoard(System.getProperty(BOARD_PROPERTY, "simple"), generator),
+                Boolean.getBoolean(ENGINE_THREAD_PROPERTY));
+        if (replayDir != null) {
+            recordReplays(new ReplayRecorder(Paths.get(replayDir), Long.getLong(SEED_PROPERTY, System.nanoTime())),
+                    (SevenBagBrickGenerator) generator);
+        }
+        if (Boolean.getBoolean(PRACTICE_PROPERTY)) {
+            enableRewind(new RewindBuffer(Integer.getInteger(REWIND_PIECES_PROPERTY, RewindBuffer.DEFAULT_MAX_PIECES),
+                    Integer.getInteger(REWIND_KILOBYTES_PROPERTY, RewindBuffer.DEFAULT_MAX_BYTES / 1024) * 1024));
+        }
+    }
+
+    /**
+     * Constructs a new GameController with the specified GUI controller and board implementation.
+     * 
+     * @param c the GUI controller for managing the view layer
+     * @param board the board holding the game state
+     */
+    public GameController(GuiController c, Board board) {
+        this(c, board, false);
+    }
+
+    /**
+     * Constructs a new GameController, optionally running the engine on its own thread.
+     * The engine thread's tick rate is read from the {@value #ENGINE_TICKS_PROPERTY} system property.
+     * 
+     * @param c the GUI controller for managing the view layer
+     * @param board the board holding the game state
+     * @param threaded true to run the engine on an {@link EngineThread}
+     */
+    public GameController(GuiController c, Board board, boolean threaded) {
+        this.board = board;
+        this.engine = new GameEngine(board);
+        engine.setListener(this);
+        // The engine thread takes over as the engine's listener
+        this.engineThread = threaded
+                ? new EngineThread(engine, Integer.getInteger(ENGINE_TICKS_PROPERTY, EngineThread.DEFAULT_TICKS_PER_SECOND),
+                        KeyBindingManager.DEFAULT_DAS_MILLIS, KeyBindingManager.DEFAULT_ARR_MILLIS)
+                : null;
         viewGuiController = c;
         viewGuiController.setEventListener(this);
         // Don't initialize game yet - wait for user to select a mode
     }
     
+    /**
+     * Creates a standard sized board of the named implementation.
+     * The brick generator is chosen by the {@value #GENERATOR_PROPERTY} system property.
+     * 
+     * @param type "bitboard" for {@link BitBoard}, anything else for {@link SimpleBoard}
+     * @return a new empty board
+     */
+    public static Board createBoard(String type) {
+        return createBoard(type, createBrickGenerator(System.getProperty(GENERATOR_PROPERTY, "random")));
+    }
+
+    /**
+     * Creates a standard sized board of the named implementation using the given brick generator.
+     * 
+     * @param type "bitboard" for {@link BitBoard}, anything else for {@link SimpleBoard}
+     * @param generator the generator supplying the board's bricks
+     * @return a new empty board
+     */
+    public static Board createBoard(String type, BrickGenerator generator) {
+        if ("bitboard".equalsIgnoreCase(type)) {
+            return new BitBoard(BOARD_ROWS, BOARD_COLUMNS, generator);
+        }
+        return new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS, generator);
+    }
+
+    /**
+     * Creates a brick generator of the named implementation.
+     * 
+     * @param type "bag" for {@link SevenBagBrickGenerator} seeded from {@value #SEED_PROPERTY},
+     *             anything else for {@link RandomBrickGenerator}
+     * @return a new brick generator
+     */
+    public static BrickGenerator createBrickGenerator(String type) {
+        if ("bag".equalsIgnoreCase(type)) {
+            return new SevenBagBrickGenerator(Long.getLong(SEED_PROPERTY, System.nanoTime()));
+        }
+        return new RandomBrickGenerator();
+    }
+
+    /**
+     * Records every game from the next one on, reseeding the board's generator at the start of each game.
+     * Call before {@link #initializeGame()}.
+     * 
+     * @param recorder the recorder writing one file per game
+     * @param generator the brick generator the board was created with
+     */
+    public void recordReplays(ReplayRecorder recorder, SevenBagBrickGenerator generator) {
+        if (engineThread != null) {
+            engineThread.recordReplays(recorder, generator);
+        } else {
+            this.recorder = recorder;
+            this.recordedGenerator = generator;
+        }
+    }
+
+    /**
+     * Lets the player take back locked pieces from the next game on. Call before {@link #initializeGame()}.
+     * While games are recorded by {@link #recordReplays(ReplayRecorder, SevenBagBrickGenerator)}, rewinds
+     * are ignored, since a replay cannot take a piece back.
+     * 
+     * @param rewindBuffer the buffer holding a snapshot per piece
+     */
+    public void enableRewind(RewindBuffer rewindBuffer) {
+        engine.setRewindBuffer(rewindBuffer);
+    }
+
     /**
      * Initializes the game by creating the first brick and setting up the view bindings.
      */
     public void initializeGame() {
         board.createNewBrick();
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindLevel(board.getScore().levelProperty());
-        viewGuiController.bindLines(board.getScore().linesProperty());
+        viewGuiController.setRewindEnabled(engine.getRewindBuffer() != null);
+        ScoreProperties scoreProperties;
+        if (engineThread != null) {
+            // The score changes on the engine thread, so the view copies it from snapshots instead of listening
+            Score score = board.getScore();
+            scoreProperties = new ScoreProperties(score.getScore(), score.getLevel(), score.getLines());
+            viewGuiController.setEngineThread(engineThread, scoreProperties);
+            engineThread.start();
+        } else {
+            scoreProperties = new ScoreProperties(board.getScore());
+        }
+        viewGuiController.bindScore(scoreProperties.scoreProperty());
+        viewGuiController.bindLevel(scoreProperties.levelProperty());
+        viewGuiController.bindLines(scoreProperties.linesProperty());
+    }
+
+    /**
+     * Gets the engine running the game rules.
+     * 
+     * @return the game engine
+     */
+    public GameEngine getEngine() {
+        return engine;
     }
 
     /**
@@ -50,20 +245,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            clearRow = lockBrickAndHandleClearing();
-            if (clearRow == null) {
-                // Game over occurred
-                return new DownData(null, board.getViewData());
-            }
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
-        }
-        return new DownData(clearRow, board.getViewData());
+        record(event);
+        return engine.onDownEvent(event);
     }
 
     /**
@@ -74,7 +257,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        if (engine.moveLeft()) {
+            record(event);
+        }
         return board.getViewData();
     }
 
@@ -86,7 +271,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        if (engine.moveRight()) {
+            record(event);
+        }
         return board.getViewData();
     }
 
@@ -98,7 +285,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+        if (engine.rotate()) {
+            record(event);
+        }
         return board.getViewData();
     }
 
@@ -110,18 +299,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
-        // Drop the brick instantly to the bottom and award points
-        int distanceDropped = board.hardDropBrick();
-        board.getScore().add(distanceDropped * 2);
-        
-        // Lock brick and handle row clearing (same as normal drop)
-        ClearRow clearRow = lockBrickAndHandleClearing();
-        if (clearRow == null) {
-            // Game over occurred
-            return new DownData(null, board.getViewData());
-        }
-        
-        return new DownData(clearRow, board.getViewData());
+        record(event);
+        return engine.onHardDropEvent(event);
     }
 
     /**
@@ -132,45 +311,75 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        // Handle hold piece action - stores/swaps current piece with held piece
-        board.holdCurrentBrick();
+        if (engine.hold()) {
+            record(event);
+        }
         return board.getViewData();
     }
 
+    /**
+     * Handles the rewind event, taking back the last locked brick when practice rewind is enabled and the game
+     * is not being recorded.
+     * 
+     * @param event the move event
+     * @return the updated view data after the rewind
+     */
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        if (recorder != null) {
+            return board.getViewData();
+        }
+        return engine.onRewindEvent(event);
+    }
+
     /**
      * Creates a new game by resetting the board and refreshing the view.
      */
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        if (engineThread != null) {
+            // The new game arrives with the engine thread's next snapshot
+            engineThread.requestNewGame();
+            return;
+        }
+        if (recorder != null) {
+            // Restarting mid-game keeps the unfinished game as an abandoned recording
+            recorder.finishGame(engine, System.nanoTime());
+            recorder.startGame(engine, recordedGenerator, System.nanoTime());
+        }
+        // The engine repaints the background through onBackgroundChanged
+        engine.newGame();
         viewGuiController.refreshBrick(board.getViewData());
     }
 
-    // Locks brick and handles row clearing, returns null if game over
-    private ClearRow lockBrickAndHandleClearing() {
-        // Lock the brick in place
-        board.mergeBrickToBackground();
-        
-        // Clear any completed rows
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-            board.getScore().addLines(clearRow.getLinesRemoved());
+    /**
+     * Redraws the settled blocks that changed when the engine reports a change.
+     * 
+     * @param boardMatrix the current board matrix
+     * @param changes the cells and rows that changed since the last redraw
+     */
+    @Override
+    public void onBackgroundChanged(int[][] boardMatrix, BoardChanges changes) {
+        viewGuiController.refreshGameBackground(boardMatrix, changes);
+    }
+
+    /**
+     * Shows the game over screen when the engine ends the game.
+     */
+    @Override
+    public void onGameOver() {
+        if (recorder != null) {
+            recorder.finishGame(engine, System.nanoTime());
         }
-        
-        // Check if blocks have reached the top (game over condition)
-        if (board.isDangerLineReached()) {
-            viewGuiController.gameOver();
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-            return null; // Signal game over
+        viewGuiController.gameOver();
+    }
+
+    // Down and hard drop are recorded before they lock, since a lock that ends the game also ends the recording;
+    // the other inputs are recorded only once the engine accepts them, so blocked retries cost nothing
+    private void record(MoveEvent event) {
+        if (recorder != null) {
+            recorder.record(event, System.nanoTime());
         }
-        
-        // Spawn a new brick
-        board.createNewBrick();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        
-        return clearRow;
     }
-}
 
+}
@@ -0,0 +1,160 @@
+package com.comp2042.data;
+
+/**
+ * Change set describing which background cells of a board changed since it was last reset.
+ * Holds the cells written by merges and one range of rows rewritten by line clears, or a flag asking for a full
+ * refresh after a reset or when too many cells were recorded. A board keeps one instance and reuses it,
+ * so recording changes never allocates.
+ */
+public final class BoardChanges {
+
+    // A merge writes at most a 4x4 shape, so this covers several locks between two refreshes
+    private static final int DEFAULT_CELL_CAPACITY = 64;
+
+    private final int[] cellRows;
+    private final int[] cellColumns;
+    private int cellCount;
+    private int firstDirtyRow = -1;
+    private int lastDirtyRow = -1;
+    private boolean fullRefresh = true;
+
+    /**
+     * Constructs an empty change set with the default cell capacity that initially asks for a full refresh.
+     */
+    public BoardChanges() {
+        this(DEFAULT_CELL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty change set that initially asks for a full refresh.
+     *
+     * @param cellCapacity the number of single cells recorded before falling back to a full refresh
+     */
+    public BoardChanges(int cellCapacity) {
+        cellRows = new int[cellCapacity];
+        cellColumns = new int[cellCapacity];
+    }
+
+    /**
+     * Records that one cell was written.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     */
+    public void markCell(int row, int column) {
+        if (fullRefresh) {
+            return;
+        }
+        if (cellCount == cellRows.length) {
+            markAll();
+            return;
+        }
+        cellRows[cellCount] = row;
+        cellColumns[cellCount] = column;
+        cellCount++;
+    }
+
+    /**
+     * Records that every cell in a range of rows may have changed, as when rows shift after a clear.
+     *
+     * @param fromRow the first changed row
+     * @param toRow the last changed row, inclusive
+     */
+    public void markRows(int fromRow, int toRow) {
+        if (fullRefresh || fromRow > toRow) {
+            return;
+        }
+        if (firstDirtyRow < 0) {
+            firstDirtyRow = fromRow;
+            lastDirtyRow = toRow;
+        } else {
+            firstDirtyRow = Math.min(firstDirtyRow, fromRow);
+            lastDirtyRow = Math.max(lastDirtyRow, toRow);
+        }
+    }
+
+    /**
+     * Records that the whole board may have changed.
+     */
+    public void markAll() {
+        fullRefresh = true;
+        cellCount = 0;
+        firstDirtyRow = -1;
+        lastDirtyRow = -1;
+    }
+
+    /**
+     * Forgets all recorded changes, called once a view has applied them.
+     */
+    public void reset() {
+        fullRefresh = false;
+        cellCount = 0;
+        firstDirtyRow = -1;
+        lastDirtyRow = -1;
+    }
+
+    /**
+     * Checks whether the whole board has to be redrawn.
+     *
+     * @return true if a full refresh is needed
+     */
+    public boolean isFullRefresh() {
+        return fullRefresh;
+    }
+
+    /**
+     * Checks whether nothing changed.
+     *
+     * @return true if there is nothing to redraw
+     */
+    public boolean isEmpty() {
+        return !fullRefresh && cellCount == 0 && firstDirtyRow < 0;
+    }
+
+    /**
+     * Gets the number of single cells recorded.
+     *
+     * @return the cell count
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Gets the row of a recorded cell.
+     *
+     * @param index the index of the cell, below the cell count
+     * @return the row
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the column of a recorded cell.
+     *
+     * @param index the index of the cell, below the cell count
+     * @return the column
+     */
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    /**
+     * Gets the first row of the changed row range.
+     *
+     * @return the first changed row, or -1 if no rows were marked
+     */
+    public int getFirstDirtyRow() {
+        return firstDirtyRow;
+    }
+
+    /**
+     * Gets the last row of the changed row range.
+     *
+     * @return the last changed row, inclusive, or -1 if no rows were marked
+     */
+    public int getLastDirtyRow() {
+        return lastDirtyRow;
+    }
+}
@@ -0,0 +1,289 @@
+package com.comp2042.data;
+
+import java.util.Arrays;
+
+/**
+ * Immutable copy of everything a board needs to continue a game from the same point: the settled blocks,
+ * the falling brick with its rotation and position, the hold state, the score and the brick generator's
+ * position in its sequence.
+ * <p>
+ * Settled blocks are packed at {@value #BITS_PER_CELL} bits per cell, one or more longs per row, and only the
+ * rows from the top of the stack down are stored, so a standard board takes one long per occupied row.
+ * The generator state is whatever the generator saved and is only meaningful to the same kind of generator.
+ */
+public final class BoardSnapshot {
+
+    /** Bits used by each cell's color id; ids from 0 to 15 fit. */
+    public static final int BITS_PER_CELL = 4;
+
+    private static final int CELLS_PER_WORD = Long.SIZE / BITS_PER_CELL;
+    private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+    // Object header and fields plus the two array headers, for size estimates
+    private static final int FIXED_BYTES = 16 + 12 * 4 + 2 * 16;
+
+    private final int rows;
+    private final int columns;
+    private final int firstRow;
+    private final long[] cells;
+    private final int brickType;
+    private final int rotation;
+    private final int offsetX;
+    private final int offsetY;
+    private final int heldType;
+    private final boolean canHold;
+    private final int score;
+    private final int level;
+    private final int lines;
+    private final long[] generatorState;
+
+    /**
+     * Constructs a snapshot. The arrays are kept, not copied, and must not be modified afterwards.
+     *
+     * @param rows the number of board rows
+     * @param columns the number of board columns
+     * @param firstRow the first row stored in cells; rows above it are empty
+     * @param cells the rows from firstRow down, packed by {@link #packCells(int[][], int, int)}
+     * @param brickType the type id of the falling brick
+     * @param rotation the rotation index of the falling brick
+     * @param offsetX the column of the falling brick's shape origin
+     * @param offsetY the row of the falling brick's shape origin
+     * @param heldType the type id of the held brick, or 0 if none is held
+     * @param canHold true if the falling brick may still be held
+     * @param score the score
+     * @param level the level
+     * @param lines the lines cleared
+     * @param generatorState the brick generator's saved state
+     */
+    public BoardSnapshot(int rows, int columns, int firstRow, long[] cells, int brickType, int rotation,
+                         int offsetX, int offsetY, int heldType, boolean canHold, int score, int level, int lines,
+                         long[] generatorState) {
+        this.rows = rows;
+        this.columns = columns;
+        this.firstRow = firstRow;
+        this.cells = cells;
+        this.brickType = brickType;
+        this.rotation = rotation;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.heldType = heldType;
+        this.canHold = canHold;
+        this.score = score;
+        this.level = level;
+        this.lines = lines;
+        this.generatorState = generatorState;
+    }
+
+    /**
+     * Gets the number of longs a packed row takes.
+     *
+     * @param columns the number of columns
+     * @return the words per row
+     */
+    public static int wordsPerRow(int columns) {
+        return (columns + CELLS_PER_WORD - 1) / CELLS_PER_WORD;
+    }
+
+    /**
+     * Packs the rows of a matrix from a given row down to the bottom.
+     *
+     * @param matrix the board matrix, with color ids from 0 to 15
+     * @param firstRow the first row to pack; rows above it must be empty
+     * @param columns the number of columns
+     * @return the packed rows
+     */
+    public static long[] packCells(int[][] matrix, int firstRow, int columns) {
+        int words = wordsPerRow(columns);
+        long[] packed = new long[(matrix.length - firstRow) * words];
+        int index = 0;
+        for (int row = firstRow; row < matrix.length; row++) {
+            int[] cells = matrix[row];
+            for (int col = 0; col < columns; col += CELLS_PER_WORD) {
+                int end = Math.min(columns, col + CELLS_PER_WORD);
+                long word = 0;
+                for (int c = end - 1; c >= col; c--) {
+                    word = word << BITS_PER_CELL | cells[c];
+                }
+                packed[index++] = word;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks one row of settled blocks.
+     *
+     * @param row the board row
+     * @param target the array receiving the row's color ids, at least {@link #getColumns()} long
+     */
+    public void unpackRow(int row, int[] target) {
+        if (row < firstRow) {
+            Arrays.fill(target, 0, columns, 0);
+            return;
+        }
+        int words = wordsPerRow(columns);
+        int index = (row - firstRow) * words;
+        for (int col = 0; col < columns; col += CELLS_PER_WORD) {
+            long word = cells[index++];
+            int end = Math.min(columns, col + CELLS_PER_WORD);
+            for (int c = col; c < end; c++) {
+                target[c] = (int) (word & CELL_MASK);
+                word >>>= BITS_PER_CELL;
+            }
+        }
+    }
+
+    /**
+     * Gets the color id of one settled cell.
+     *
+     * @param row the board row
+     * @param col the column
+     * @return the color id, or 0 for an empty cell
+     */
+    public int getCell(int row, int col) {
+        if (row < firstRow) {
+            return 0;
+        }
+        long word = cells[(row - firstRow) * wordsPerRow(columns) + col / CELLS_PER_WORD];
+        return (int) (word >>> (BITS_PER_CELL * (col % CELLS_PER_WORD)) & CELL_MASK);
+    }
+
+    /**
+     * Gets one packed word of a row, for comparing or copying rows without unpacking them.
+     *
+     * @param row the board row
+     * @param word the word within the row, from 0 to {@link #wordsPerRow(int)} - 1
+     * @return the packed cells, or 0 for a row above the stack
+     */
+    public long getRowWord(int row, int word) {
+        if (row < firstRow) {
+            return 0;
+        }
+        return cells[(row - firstRow) * wordsPerRow(columns) + word];
+    }
+
+    /**
+     * Estimates the memory the snapshot takes, including its arrays.
+     *
+     * @return the approximate size in bytes
+     */
+    public int getSizeBytes() {
+        return FIXED_BYTES + (cells.length + generatorState.length) * Long.BYTES;
+    }
+
+    /**
+     * Gets the number of board rows.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the first row holding settled blocks.
+     *
+     * @return the top of the stack, or the row count if the board is empty
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Gets the type id of the falling brick.
+     *
+     * @return the brick type id
+     */
+    public int getBrickType() {
+        return brickType;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column of the falling brick's shape origin.
+     *
+     * @return the x offset
+     */
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Gets the row of the falling brick's shape origin.
+     *
+     * @return the y offset
+     */
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * Gets the type id of the held brick.
+     *
+     * @return the held type id, or 0 if no brick is held
+     */
+    public int getHeldType() {
+        return heldType;
+    }
+
+    /**
+     * Checks whether the falling brick may still be held.
+     *
+     * @return true if hold is available
+     */
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the level.
+     *
+     * @return the level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     *
+     * @return the lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the brick generator's saved state, which must not be modified.
+     *
+     * @return the generator state
+     */
+    public long[] getGeneratorState() {
+        return generatorState;
+    }
+}
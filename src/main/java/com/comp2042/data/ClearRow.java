@@ -4,13 +4,17 @@ import com.comp2042.util.MatrixOperations;
 
 /**
  * Data class representing the result of clearing completed rows from the game board.
- * Contains information about the number of lines removed, the updated board matrix, and the score bonus earned.
+ * Contains information about the number of lines removed, which rows they were, the updated board matrix,
+ * and the score bonus earned.
  */
 public final class ClearRow {
 
+    private static final int[] NO_ROWS = new int[0];
+
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
+    private final int[] clearedRows;
 
     /**
      * Constructs a new ClearRow object containing the results of row clearing operation.
@@ -20,9 +24,23 @@ public final class ClearRow {
      * @param scoreBonus the bonus score earned from clearing rows
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, NO_ROWS);
+    }
+
+    /**
+     * Constructs a new ClearRow object that also records which rows were cleared.
+     * Boards that clear in place may pass their live matrix, so read it before the board changes again.
+     * 
+     * @param linesRemoved the number of lines that were cleared
+     * @param newMatrix the updated game board matrix after clearing rows
+     * @param scoreBonus the bonus score earned from clearing rows
+     * @param clearedRows the indices the cleared rows had before clearing, top to bottom
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
     }
 
     /**
@@ -51,5 +69,14 @@ public final class ClearRow {
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    /**
+     * Gets the indices the cleared rows had before clearing, so renderers can animate just those rows.
+     * 
+     * @return a copy of the cleared row indices in ascending order, empty if nothing was cleared
+     */
+    public int[] getClearedRows() {
+        return clearedRows.clone();
+    }
 }
 
@@ -0,0 +1,137 @@
+package com.comp2042.data;
+
+/**
+ * Immutable picture of the game published by the engine thread for the view to draw.
+ * The board matrix is a private copy owned by the snapshot and is shared, unchanged, by later snapshots
+ * until the settled blocks change again, so a view can skip redrawing the board when the reference is the same.
+ */
+public final class GameSnapshot {
+    private final int game;
+    private final int[][] boardMatrix;
+    private final ViewData viewData;
+    private final int score;
+    private final int level;
+    private final int lines;
+    private final boolean gameOver;
+    private final int clearCount;
+    private final int lastClearBonus;
+    private final long inputsApplied;
+
+    /**
+     * Constructs a new snapshot.
+     *
+     * @param game the number of the game this snapshot belongs to
+     * @param boardMatrix a copy of the board matrix that nobody modifies afterwards
+     * @param viewData the falling brick, ghost, hold and preview data
+     * @param score the current score
+     * @param level the current level
+     * @param lines the total lines cleared
+     * @param gameOver true if the game has ended
+     * @param clearCount the number of locks that cleared rows in this game
+     * @param lastClearBonus the score bonus of the most recent line clear
+     * @param inputsApplied the number of queued inputs the engine has taken so far
+     */
+    public GameSnapshot(int game, int[][] boardMatrix, ViewData viewData, int score, int level, int lines,
+                        boolean gameOver, int clearCount, int lastClearBonus, long inputsApplied) {
+        this.game = game;
+        this.boardMatrix = boardMatrix;
+        this.viewData = viewData;
+        this.score = score;
+        this.level = level;
+        this.lines = lines;
+        this.gameOver = gameOver;
+        this.clearCount = clearCount;
+        this.lastClearBonus = lastClearBonus;
+        this.inputsApplied = inputsApplied;
+    }
+
+    /**
+     * Gets the number of the game this snapshot belongs to.
+     *
+     * @return the game number, increased by every new game
+     */
+    public int getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the board matrix, which must not be modified.
+     *
+     * @return the board matrix including the hidden spawn rows
+     */
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    /**
+     * Gets the brick view data.
+     *
+     * @return the view data
+     */
+    public ViewData getViewData() {
+        return viewData;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the current score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the level.
+     *
+     * @return the current level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     *
+     * @return the total lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of locks that cleared rows, so a view can tell a new clear from one it has shown.
+     *
+     * @return the clear count of this game
+     */
+    public int getClearCount() {
+        return clearCount;
+    }
+
+    /**
+     * Gets the score bonus of the most recent line clear.
+     *
+     * @return the bonus, or 0 if no rows were cleared yet
+     */
+    public int getLastClearBonus() {
+        return lastClearBonus;
+    }
+
+    /**
+     * Gets the number of queued inputs the engine had taken when this snapshot was made.
+     *
+     * @return the input count
+     */
+    public long getInputsApplied() {
+        return inputsApplied;
+    }
+}
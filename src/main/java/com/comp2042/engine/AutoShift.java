@@ -0,0 +1,171 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.EventType;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Horizontal auto-repeat driven by the game loop instead of the operating system's key repeat.
+ * Tracks which direction keys are held; a press shifts the brick once, and a key held for the
+ * Delayed Auto Shift (DAS) time keeps shifting once per Auto Repeat Rate (ARR) interval.
+ * Repeats are counted from the press time rather than from frame times, so the number of shifts depends only
+ * on how long the key was held. An ARR of 0 slides the brick to the wall in one update.
+ * When both directions are held, the most recently pressed one wins.
+ * The class does not depend on JavaFX; a view feeds it key events and frame times in nanoseconds.
+ */
+public final class AutoShift {
+
+    // Safety bound for one update; a board is far narrower than this
+    private static final int MAX_SHIFTS_PER_UPDATE = 64;
+
+    private final BooleanSupplier shiftLeft;
+    private final BooleanSupplier shiftRight;
+
+    private long dasNanos;
+    private long arrNanos;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private EventType active;
+    private long chargeStartNanos;
+    private long repeatsDone;
+
+    /**
+     * Constructs an auto-shift with no keys held.
+     *
+     * @param shiftLeft moves the brick one column left, returning true if it moved
+     * @param shiftRight moves the brick one column right, returning true if it moved
+     * @param dasMillis the delay before auto-repeat starts, in milliseconds
+     * @param arrMillis the interval between repeats in milliseconds, or 0 to slide to the wall
+     */
+    public AutoShift(BooleanSupplier shiftLeft, BooleanSupplier shiftRight, int dasMillis, int arrMillis) {
+        this.shiftLeft = shiftLeft;
+        this.shiftRight = shiftRight;
+        setTiming(dasMillis, arrMillis);
+    }
+
+    /**
+     * Sets the auto-repeat timing; takes effect from the next update.
+     *
+     * @param dasMillis the delay before auto-repeat starts, in milliseconds
+     * @param arrMillis the interval between repeats in milliseconds, or 0 to slide to the wall
+     */
+    public void setTiming(int dasMillis, int arrMillis) {
+        if (dasMillis < 0 || arrMillis < 0) {
+            throw new IllegalArgumentException("DAS and ARR must not be negative");
+        }
+        dasNanos = dasMillis * 1_000_000L;
+        arrNanos = arrMillis * 1_000_000L;
+    }
+
+    /**
+     * Records a direction key going down and shifts the brick once.
+     * Repeated presses of a key already held, such as operating system key repeat, are ignored.
+     *
+     * @param direction LEFT or RIGHT
+     * @param nowNanos the time of the press from the same clock as the updates
+     */
+    public void press(EventType direction, long nowNanos) {
+        if (isHeld(direction)) {
+            return;
+        }
+        setHeld(direction, true);
+        charge(direction, nowNanos);
+        shift(direction);
+    }
+
+    /**
+     * Records a direction key going up.
+     * If the other direction is still held it takes over and charges its DAS again from now.
+     *
+     * @param direction LEFT or RIGHT
+     * @param nowNanos the time of the release from the same clock as the updates
+     */
+    public void release(EventType direction, long nowNanos) {
+        if (!isHeld(direction)) {
+            return;
+        }
+        setHeld(direction, false);
+        if (active == direction) {
+            EventType other = direction == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+            if (isHeld(other)) {
+                charge(other, nowNanos);
+            } else {
+                active = null;
+            }
+        }
+    }
+
+    /**
+     * Forgets all held keys, used when the game is paused or ends so no key stays stuck down.
+     */
+    public void releaseAll() {
+        leftHeld = false;
+        rightHeld = false;
+        active = null;
+    }
+
+    /**
+     * Runs every repeat that has come due since the key was pressed.
+     * A repeat that hits the wall ends the repeats due so far, so nothing is queued up behind the wall.
+     *
+     * @param nowNanos the current time
+     * @return the number of columns the brick moved
+     */
+    public int update(long nowNanos) {
+        if (active == null) {
+            return 0;
+        }
+        long charged = nowNanos - chargeStartNanos - dasNanos;
+        if (charged < 0) {
+            return 0;
+        }
+        int moved = 0;
+        if (arrNanos == 0) {
+            while (moved < MAX_SHIFTS_PER_UPDATE && shift(active)) {
+                moved++;
+            }
+            return moved;
+        }
+        long due = charged / arrNanos + 1;
+        while (repeatsDone < due && moved < MAX_SHIFTS_PER_UPDATE) {
+            repeatsDone++;
+            if (!shift(active)) {
+                repeatsDone = due;
+                break;
+            }
+            moved++;
+        }
+        return moved;
+    }
+
+    /**
+     * Checks whether a direction key is held.
+     *
+     * @param direction LEFT or RIGHT
+     * @return true if the key is down
+     */
+    public boolean isHeld(EventType direction) {
+        return direction == EventType.LEFT ? leftHeld : direction == EventType.RIGHT && rightHeld;
+    }
+
+    private void setHeld(EventType direction, boolean held) {
+        if (direction == EventType.LEFT) {
+            leftHeld = held;
+        } else if (direction == EventType.RIGHT) {
+            rightHeld = held;
+        } else {
+            throw new IllegalArgumentException("Auto-shift only handles LEFT and RIGHT, not " + direction);
+        }
+    }
+
+    private void charge(EventType direction, long nowNanos) {
+        active = direction;
+        chargeStartNanos = nowNanos;
+        repeatsDone = 0;
+    }
+
+    private boolean shift(EventType direction) {
+        return direction == EventType.LEFT ? shiftLeft.getAsBoolean() : shiftRight.getAsBoolean();
+    }
+}
@@ -0,0 +1,181 @@
+package com.comp2042.engine;
+
+/**
+ * Aggregated results of a batch of simulated games, with throughput figures.
+ */
+public final class BatchReport {
+
+    private final GameResult[] results;
+    private final int parallelism;
+    private final long elapsedNanos;
+    private final long totalPieces;
+    private final int toppedOut;
+    private final Distribution scores;
+    private final Distribution lines;
+    private final Distribution levels;
+    private final Distribution pieces;
+
+    /**
+     * Builds a report from the games of one batch.
+     * 
+     * @param results the result of every game, in seed order
+     * @param parallelism the number of worker threads that played them
+     * @param elapsedNanos the wall-clock time the batch took
+     */
+    public BatchReport(GameResult[] results, int parallelism, long elapsedNanos) {
+        this.results = results;
+        this.parallelism = parallelism;
+        this.elapsedNanos = elapsedNanos;
+
+        int[] scoreSamples = new int[results.length];
+        int[] lineSamples = new int[results.length];
+        int[] levelSamples = new int[results.length];
+        int[] pieceSamples = new int[results.length];
+        long pieceSum = 0;
+        int toppedOutCount = 0;
+        for (int i = 0; i < results.length; i++) {
+            GameResult result = results[i];
+            scoreSamples[i] = result.getScore();
+            lineSamples[i] = result.getLines();
+            levelSamples[i] = result.getLevel();
+            pieceSamples[i] = result.getPieces();
+            pieceSum += result.getPieces();
+            if (result.isToppedOut()) {
+                toppedOutCount++;
+            }
+        }
+        this.totalPieces = pieceSum;
+        this.toppedOut = toppedOutCount;
+        this.scores = Distribution.of(scoreSamples);
+        this.lines = Distribution.of(lineSamples);
+        this.levels = Distribution.of(levelSamples);
+        this.pieces = Distribution.of(pieceSamples);
+    }
+
+    /**
+     * Gets the result of one game.
+     * 
+     * @param index the game index, in seed order
+     * @return the game result
+     */
+    public GameResult getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Gets the number of games played.
+     * 
+     * @return the game count
+     */
+    public int getGameCount() {
+        return results.length;
+    }
+
+    /**
+     * Gets the number of games that ended at the danger line rather than the piece limit.
+     * 
+     * @return the topped out game count
+     */
+    public int getToppedOutCount() {
+        return toppedOut;
+    }
+
+    /**
+     * Gets the number of worker threads used.
+     * 
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the wall-clock duration of the batch.
+     * 
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of bricks locked across all games.
+     * 
+     * @return the total piece count
+     */
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /**
+     * Gets the overall throughput.
+     * 
+     * @return bricks locked per second of wall-clock time
+     */
+    public double getPiecesPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalPieces * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput divided by the number of worker threads, to show how the engine scales.
+     * 
+     * @return bricks locked per second per worker thread
+     */
+    public double getPiecesPerSecondPerCore() {
+        return getPiecesPerSecond() / parallelism;
+    }
+
+    /**
+     * Gets the distribution of final scores.
+     * 
+     * @return the score distribution
+     */
+    public Distribution getScores() {
+        return scores;
+    }
+
+    /**
+     * Gets the distribution of lines cleared.
+     * 
+     * @return the lines distribution
+     */
+    public Distribution getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the distribution of final levels.
+     * 
+     * @return the level distribution
+     */
+    public Distribution getLevels() {
+        return levels;
+    }
+
+    /**
+     * Gets the distribution of bricks locked per game.
+     * 
+     * @return the pieces distribution
+     */
+    public Distribution getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Formats the report as a multi-line summary.
+     * 
+     * @return the summary text
+     */
+    @Override
+    public String toString() {
+        return String.format("%d games on %d threads in %.3f s (%d topped out)%n"
+                        + "  pieces/s %.0f  pieces/s/core %.0f%n"
+                        + "  score  %s%n"
+                        + "  lines  %s%n"
+                        + "  level  %s%n"
+                        + "  pieces %s",
+                results.length, parallelism, elapsedNanos / 1e9, toppedOut,
+                getPiecesPerSecond(), getPiecesPerSecondPerCore(),
+                scores, lines, levels, pieces);
+    }
+}
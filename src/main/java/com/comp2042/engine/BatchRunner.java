@@ -0,0 +1,161 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many seeded games without a view, spread over a {@link ForkJoinPool}.
+ * Every game gets its own board, brick generator and strategy built from the game's seed,
+ * so a batch gives the same results whatever the thread count.
+ */
+public class BatchRunner {
+
+    /** Standard board height used by the default board factory. */
+    public static final int BOARD_ROWS = 25;
+    /** Standard board width used by the default board factory. */
+    public static final int BOARD_COLUMNS = 10;
+    /** Piece limit used when none is given, so strong strategies still finish. */
+    public static final int DEFAULT_MAX_PIECES = 100_000;
+
+    // Mixed into the game seed so the strategy does not draw the same numbers as the brick generator
+    private static final long STRATEGY_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final int parallelism;
+    private final int maxPiecesPerGame;
+    private final LongFunction<Board> boardFactory;
+    private final LongFunction<GameStrategy> strategyFactory;
+
+    /**
+     * Constructs a runner playing the random baseline strategy on standard boards with 7-bag generators.
+     * 
+     * @param parallelism the number of worker threads
+     */
+    public BatchRunner(int parallelism) {
+        this(parallelism, DEFAULT_MAX_PIECES,
+                seed -> new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS, new SevenBagBrickGenerator(seed)),
+                RandomDropStrategy::new);
+    }
+
+    /**
+     * Constructs a runner.
+     * 
+     * @param parallelism the number of worker threads
+     * @param maxPiecesPerGame the number of bricks after which a game is stopped
+     * @param boardFactory builds a fresh board, with its brick generator, from a game seed
+     * @param strategyFactory builds a fresh strategy from a seed
+     * @throws IllegalArgumentException if parallelism or maxPiecesPerGame is less than 1
+     */
+    public BatchRunner(int parallelism, int maxPiecesPerGame,
+                       LongFunction<Board> boardFactory, LongFunction<GameStrategy> strategyFactory) {
+        if (parallelism < 1 || maxPiecesPerGame < 1) {
+            throw new IllegalArgumentException("Parallelism and piece limit must be positive");
+        }
+        this.parallelism = parallelism;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+        this.boardFactory = boardFactory;
+        this.strategyFactory = strategyFactory;
+    }
+
+    /**
+     * Plays a batch of games with consecutive seeds and aggregates the results.
+     * 
+     * @param baseSeed the seed of the first game; game i uses baseSeed + i
+     * @param games the number of games to play
+     * @return the batch report
+     */
+    public BatchReport run(long baseSeed, int games) {
+        GameResult[] results = new GameResult[games];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            pool.invoke(new GameRangeTask(results, baseSeed, 0, games));
+            long elapsed = System.nanoTime() - start;
+            return new BatchReport(results, parallelism, elapsed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one game from a seed until it tops out or reaches the piece limit.
+     * 
+     * @param seed the game seed
+     * @return the game result
+     */
+    public GameResult playGame(long seed) {
+        GameEngine engine = new GameEngine(boardFactory.apply(seed));
+        GameStrategy strategy = strategyFactory.apply(seed ^ STRATEGY_SEED_MIX);
+        engine.newGame();
+        while (!engine.isGameOver() && engine.getPiecesLocked() < maxPiecesPerGame) {
+            strategy.playPiece(engine);
+        }
+        return new GameResult(seed, engine.getScore().getScore(), engine.getScore().getLines(),
+                engine.getScore().getLevel(), engine.getPiecesLocked(), engine.isGameOver());
+    }
+
+    // Splits the game range in halves down to single games, so long games do not hold up a whole chunk
+    private final class GameRangeTask extends RecursiveAction {
+        private final GameResult[] results;
+        private final long baseSeed;
+        private final int from;
+        private final int to;
+
+        GameRangeTask(GameResult[] results, long baseSeed, int from, int to) {
+            this.results = results;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results[from] = playGame(baseSeed + from);
+            } else if (to > from) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new GameRangeTask(results, baseSeed, from, mid),
+                        new GameRangeTask(results, baseSeed, mid, to));
+            }
+        }
+    }
+
+    /**
+     * Runs a batch for increasing thread counts and prints a report for each.
+     * Arguments: number of games (default 2000), then the thread counts to try
+     * (default 1, 2, 4, ... up to the number of available processors).
+     * 
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int[] threadCounts;
+        if (args.length > 1) {
+            threadCounts = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                threadCounts[i - 1] = Integer.parseInt(args[i]);
+            }
+        } else {
+            int cores = Runtime.getRuntime().availableProcessors();
+            int count = 0;
+            for (int threads = 1; threads < cores; threads *= 2) {
+                count++;
+            }
+            threadCounts = new int[count + 1];
+            for (int i = 0, threads = 1; i < count; i++, threads *= 2) {
+                threadCounts[i] = threads;
+            }
+            threadCounts[count] = cores;
+        }
+
+        // Warm up the JIT on a small batch so the first measured run is not penalised
+        new BatchRunner(threadCounts[0]).run(-1, Math.min(games, 200));
+        for (int threads : threadCounts) {
+            System.out.println(new BatchRunner(threads).run(0, games));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.comp2042.engine;
+
+import java.util.Arrays;
+
+/**
+ * Summary statistics of a set of integer samples: minimum, maximum, mean and percentiles.
+ */
+public final class Distribution {
+
+    private final int[] sorted;
+    private final double mean;
+
+    private Distribution(int[] sorted) {
+        this.sorted = sorted;
+        long sum = 0;
+        for (int value : sorted) {
+            sum += value;
+        }
+        this.mean = sorted.length == 0 ? 0 : (double) sum / sorted.length;
+    }
+
+    /**
+     * Builds a distribution from samples. The array is copied, so the caller may reuse it.
+     * 
+     * @param samples the sample values
+     * @return the distribution of the samples
+     */
+    public static Distribution of(int[] samples) {
+        int[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return new Distribution(sorted);
+    }
+
+    /**
+     * Gets the number of samples.
+     * 
+     * @return the sample count
+     */
+    public int getCount() {
+        return sorted.length;
+    }
+
+    /**
+     * Gets the smallest sample.
+     * 
+     * @return the minimum, or 0 if there are no samples
+     */
+    public int getMin() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    /**
+     * Gets the largest sample.
+     * 
+     * @return the maximum, or 0 if there are no samples
+     */
+    public int getMax() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    /**
+     * Gets the arithmetic mean of the samples.
+     * 
+     * @return the mean, or 0 if there are no samples
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets a percentile using the nearest-rank method.
+     * 
+     * @param percent the percentile, from 0 to 100
+     * @return the sample at that rank, or 0 if there are no samples
+     */
+    public int getPercentile(double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /**
+     * Formats the distribution as a single summary line.
+     * 
+     * @return min, mean, median, p90, p99 and max
+     */
+    @Override
+    public String toString() {
+        return String.format("min %d  mean %.1f  p50 %d  p90 %d  p99 %d  max %d",
+                getMin(), mean, getPercentile(50), getPercentile(90), getPercentile(99), getMax());
+    }
+}
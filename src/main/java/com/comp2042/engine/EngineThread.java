@@ -0,0 +1,426 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.GameSnapshot;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.Score;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import com.comp2042.util.MatrixOperations;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a {@link GameEngine} on its own thread so game rules never compete with rendering.
+ * The view thread queues {@link MoveEvent}s into a single-producer/single-consumer ring and sets a few volatile
+ * flags (pause, held direction keys, new game requests); the engine thread takes them at tick boundaries,
+ * runs auto-shift and fixed-timestep gravity, and publishes an immutable {@link GameSnapshot} whenever the game
+ * changed. The view picks up the latest snapshot on its next frame, so snapshots it was too slow to draw are
+ * simply skipped.
+ * <p>
+ * The engine thread is the engine's listener and the only thread touching the board once started.
+ * The tick rate only sets how often inputs are taken and snapshots published; gravity still runs on the
+ * {@link GameClock}'s fixed steps, so a game plays the same at any tick rate.
+ */
+public final class EngineThread implements GameListener {
+
+    /** Default number of engine ticks per second. */
+    public static final int DEFAULT_TICKS_PER_SECOND = 1000;
+
+    /** Number of inputs that can be queued between two ticks; further inputs are dropped. */
+    public static final int INPUT_CAPACITY = 256;
+
+    // While paused the thread only needs to notice resume and new game requests
+    private static final long PAUSED_PARK_NANOS = 5_000_000L;
+    // A thread that falls further behind than this skips the missed ticks instead of racing to catch up
+    private static final long MAX_LAG_NANOS = 100_000_000L;
+
+    private final GameEngine engine;
+    private final long tickNanos;
+    private final SpscRingBuffer<MoveEvent> inputs = new SpscRingBuffer<>(INPUT_CAPACITY);
+    private final AtomicReference<GameSnapshot> published = new AtomicReference<>();
+    private final GameClock clock = new GameClock(this::gravityDrop);
+    private final AutoShift autoShift;
+
+    // Written by the view thread, read by the engine thread at tick boundaries
+    private volatile boolean running;
+    private volatile boolean paused = true;
+    private volatile boolean leftHeld;
+    private volatile boolean rightHeld;
+    private volatile int requestedGame;
+    private volatile int dasMillis;
+    private volatile int arrMillis;
+
+    private volatile Thread thread;
+
+    // Engine thread state
+    private int game;
+    private int[][] boardCopy;
+    private boolean changed;
+    private int clearCount;
+    private int lastClearBonus;
+    private long inputsApplied;
+    private int clockLevel;
+    private ReplayRecorder recorder; // Null unless recording
+    private SevenBagBrickGenerator recordedGenerator;
+    private long currentNanos; // Time of the tick being run, for inputs raised by callbacks
+
+    /**
+     * Constructs a stopped engine thread and makes it the engine's listener.
+     *
+     * @param engine the engine to run, which no other thread may use once the thread has started
+     * @param ticksPerSecond how often queued inputs are taken and snapshots published
+     * @param dasMillis the auto-shift delay for held direction keys, in milliseconds
+     * @param arrMillis the auto-shift repeat interval in milliseconds, or 0 to slide to the wall
+     */
+    public EngineThread(GameEngine engine, int ticksPerSecond, int dasMillis, int arrMillis) {
+        if (ticksPerSecond < 1) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        this.engine = engine;
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+        this.autoShift = new AutoShift(() -> shift(EventType.LEFT), () -> shift(EventType.RIGHT), dasMillis, arrMillis);
+        this.dasMillis = dasMillis;
+        this.arrMillis = arrMillis;
+        engine.setListener(this);
+    }
+
+    /**
+     * Records every game from the next one on, reseeding the board's generator at the start of each game.
+     * Call before {@link #start()}; the recorder is used only by the engine thread from then on.
+     * Rewind inputs are ignored while recording, since a replay cannot take a piece back.
+     *
+     * @param recorder the recorder writing one file per game
+     * @param generator the brick generator the engine's board was created with
+     */
+    public void recordReplays(ReplayRecorder recorder, SevenBagBrickGenerator generator) {
+        if (thread != null) {
+            throw new IllegalStateException("Engine thread already started");
+        }
+        this.recorder = recorder;
+        this.recordedGenerator = generator;
+    }
+
+    /**
+     * Starts the engine thread, paused until {@link #setPaused(boolean)} releases it.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("Engine thread already started");
+        }
+        running = true;
+        thread = new Thread(this::run, "engine");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the engine thread and waits briefly for it to finish.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues an input for the next tick; call only from the view thread.
+     *
+     * @param event the input
+     * @return true if it was queued, false if the queue was full and the input was dropped
+     */
+    public boolean submit(MoveEvent event) {
+        return inputs.offer(event);
+    }
+
+    /**
+     * Records a direction key going down and queues its first shift; call only from the view thread.
+     * Repeated presses of a key that is already held, such as operating system key repeat, are ignored.
+     *
+     * @param direction LEFT or RIGHT
+     * @return true if the press was queued
+     */
+    public boolean pressShift(EventType direction) {
+        if (direction == EventType.LEFT ? leftHeld : rightHeld) {
+            return false;
+        }
+        setHeld(direction, true);
+        return submit(MoveEvent.of(direction, EventSource.USER));
+    }
+
+    /**
+     * Records a direction key going up, which ends its auto-repeat at the next tick.
+     *
+     * @param direction LEFT or RIGHT
+     */
+    public void releaseShift(EventType direction) {
+        setHeld(direction, false);
+    }
+
+    /**
+     * Pauses or resumes gravity and input handling. Inputs queued while paused are dropped and held keys are
+     * forgotten, since their releases may go to a menu instead of the game.
+     *
+     * @param paused true to pause
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (paused) {
+            leftHeld = false;
+            rightHeld = false;
+        }
+        wake();
+    }
+
+    /**
+     * Asks the engine thread to start a new game at its next tick; call only from the view thread.
+     * Snapshots of earlier games are no longer returned by {@link #pollSnapshot()} from now on.
+     */
+    public void requestNewGame() {
+        requestedGame = requestedGame + 1;
+        wake();
+    }
+
+    /**
+     * Sets the auto-shift timing used from the next time the game is resumed.
+     *
+     * @param dasMillis the delay before auto-repeat starts, in milliseconds
+     * @param arrMillis the interval between repeats in milliseconds, or 0 to slide to the wall
+     */
+    public void setRepeatTiming(int dasMillis, int arrMillis) {
+        this.dasMillis = dasMillis;
+        this.arrMillis = arrMillis;
+    }
+
+    /**
+     * Takes the newest snapshot published since the last call; call only from the view thread.
+     *
+     * @return the snapshot, or null if nothing changed or it belongs to a game that has been replaced
+     */
+    public GameSnapshot pollSnapshot() {
+        GameSnapshot snapshot = published.getAndSet(null);
+        return snapshot != null && snapshot.getGame() == requestedGame ? snapshot : null;
+    }
+
+    /**
+     * Runs one tick: starts a requested new game, applies queued inputs, auto-shift and gravity,
+     * then publishes a snapshot if anything changed. Called by the thread's loop; tests and callers
+     * that drive the engine themselves may call it directly instead of starting the thread.
+     *
+     * @param nowNanos the current time from System.nanoTime() or another monotonic clock
+     */
+    public void tick(long nowNanos) {
+        currentNanos = nowNanos;
+        int requested = requestedGame;
+        if (requested != game) {
+            game = requested;
+            clock.stop();
+            clock.reset();
+            autoShift.releaseAll();
+            clearCount = 0;
+            lastClearBonus = 0;
+            if (recorder != null) {
+                recorder.finishGame(engine, nowNanos);
+                recorder.startGame(engine, recordedGenerator, nowNanos);
+            }
+            engine.newGame();
+            changed = true;
+        }
+
+        if (paused || engine.isGameOver()) {
+            if (clock.isRunning()) {
+                clock.stop();
+                autoShift.releaseAll();
+            }
+            while (inputs.poll() != null) {
+                inputsApplied++;
+            }
+            publishIfChanged();
+            return;
+        }
+        if (!clock.isRunning()) {
+            autoShift.setTiming(dasMillis, arrMillis);
+            clock.start();
+        }
+
+        MoveEvent event;
+        while ((event = inputs.poll()) != null) {
+            apply(event, nowNanos);
+            inputsApplied++;
+            changed = true;
+        }
+        // Releases are checked after the queue, so a press and release between two ticks still shifts once
+        if (!leftHeld) {
+            autoShift.release(EventType.LEFT, nowNanos);
+        }
+        if (!rightHeld) {
+            autoShift.release(EventType.RIGHT, nowNanos);
+        }
+        autoShift.update(nowNanos);
+
+        int level = engine.getScore().getLevel();
+        if (level != clockLevel) {
+            clockLevel = level;
+            clock.setLevel(level);
+        }
+        clock.advance(nowNanos);
+        if (recorder != null && engine.isGameOver()) {
+            recorder.finishGame(engine, nowNanos);
+        }
+        publishIfChanged();
+    }
+
+    /**
+     * Keeps a private copy of the board whenever the settled blocks change.
+     *
+     * @param boardMatrix the current board matrix
+     */
+    @Override
+    public void onBackgroundChanged(int[][] boardMatrix) {
+        boardCopy = MatrixOperations.copy(boardMatrix);
+        changed = true;
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        while (running) {
+            tick(System.nanoTime());
+            if (paused) {
+                LockSupport.parkNanos(this, PAUSED_PARK_NANOS);
+                next = System.nanoTime();
+                continue;
+            }
+            next += tickNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            } else if (wait < -MAX_LAG_NANOS) {
+                next = System.nanoTime();
+            }
+        }
+    }
+
+    private void apply(MoveEvent event, long nowNanos) {
+        if (engine.isGameOver()) {
+            return;
+        }
+        EventType type = event.getEventType();
+        // Drops are recorded before a lock can end the recording; other inputs only once the engine accepts them
+        if (recorder != null && (type == EventType.DOWN || type == EventType.HARD_DROP)) {
+            recorder.record(event, nowNanos);
+        }
+        switch (type) {
+            case LEFT:
+            case RIGHT:
+                if (event.getEventSource() == EventSource.USER) {
+                    // Every queued press is a fresh press, even if the previous one's release was not seen yet
+                    autoShift.release(type, nowNanos);
+                    autoShift.press(type, nowNanos);
+                } else {
+                    shift(type);
+                }
+                break;
+            case ROTATE:
+                if (engine.rotate()) {
+                    recordAccepted(event, nowNanos);
+                }
+                break;
+            case DOWN:
+                recordClear(event.getEventSource() == EventSource.USER ? engine.softDrop() : engine.tick());
+                break;
+            case HARD_DROP:
+                recordClear(engine.hardDrop());
+                break;
+            case HOLD:
+                if (engine.hold()) {
+                    recordAccepted(event, nowNanos);
+                }
+                break;
+            case REWIND:
+                if (recorder == null) {
+                    engine.rewind();
+                }
+                break;
+        }
+    }
+
+    // Auto-shift callback; returns false when blocked so repeats stop at the wall
+    private boolean shift(EventType direction) {
+        if (engine.isGameOver()) {
+            return false;
+        }
+        boolean moved = direction == EventType.LEFT ? engine.moveLeft() : engine.moveRight();
+        if (moved) {
+            recordAccepted(MoveEvent.of(direction, EventSource.USER), currentNanos);
+        }
+        changed |= moved;
+        return moved;
+    }
+
+    // Records an input the engine applied; rejected inputs leave the game unchanged, so replays skip them
+    private void recordAccepted(MoveEvent event, long nowNanos) {
+        if (recorder != null) {
+            recorder.record(event, nowNanos);
+        }
+    }
+
+    // Gravity callback; returns false once the brick locks, and stops the clock when the game ends
+    private boolean gravityDrop() {
+        if (engine.isGameOver()) {
+            clock.stop();
+            return false;
+        }
+        if (recorder != null) {
+            recorder.record(MoveEvent.of(EventType.DOWN, EventSource.THREAD), currentNanos);
+        }
+        ClearRow clearRow = engine.tick();
+        changed = true;
+        recordClear(clearRow);
+        if (engine.isGameOver()) {
+            clock.stop();
+        }
+        return clearRow == null;
+    }
+
+    private void recordClear(ClearRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            clearCount++;
+            lastClearBonus = clearRow.getScoreBonus();
+        }
+    }
+
+    private void publishIfChanged() {
+        if (!changed) {
+            return;
+        }
+        changed = false;
+        Score score = engine.getScore();
+        published.set(new GameSnapshot(game, boardCopy, engine.getBoard().getViewData(), score.getScore(),
+                score.getLevel(), score.getLines(), engine.isGameOver(), clearCount, lastClearBonus, inputsApplied));
+    }
+
+    private void setHeld(EventType direction, boolean held) {
+        if (direction == EventType.LEFT) {
+            leftHeld = held;
+        } else if (direction == EventType.RIGHT) {
+            rightHeld = held;
+        } else {
+            throw new IllegalArgumentException("Only LEFT and RIGHT can be held, not " + direction);
+        }
+    }
+
+    private void wake() {
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.comp2042.engine;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Fixed-timestep clock that turns elapsed time into gravity steps.
+ * Elapsed nanoseconds go into an accumulator that is drained in steps of exactly {@link #STEP_NANOS}, so
+ * gravity depends only on total elapsed time and not on how often or how regularly the clock is advanced.
+ * Gravity is kept as a fixed-point number of rows per step: slow levels need many steps per row, fast levels
+ * may drop several rows in one step, and changing the rate keeps the fraction of a row already accumulated.
+ * The clock does not depend on JavaFX; a view drives it from its frame callback.
+ */
+public final class GameClock {
+
+    /** Simulation steps per second. */
+    public static final int STEPS_PER_SECOND = 120;
+
+    /** Length of one simulation step in nanoseconds. */
+    public static final long STEP_NANOS = 1_000_000_000L / STEPS_PER_SECOND;
+
+    /** Most steps run by one {@link #advance(long)} call; time beyond that is dropped. */
+    public static final int MAX_CATCH_UP_STEPS = STEPS_PER_SECOND;
+
+    // Fixed-point scale of the gravity accumulator: this many units make one row
+    private static final long ONE_ROW = 1L << 16;
+
+    private final BooleanSupplier dropRow;
+
+    private long lastNanos;
+    private boolean running;
+    private long accumulatorNanos;
+    private long gravityPerStep;
+    private long gravityProgress;
+    private long stepCount;
+
+    /**
+     * Constructs a stopped clock with level 1 gravity.
+     *
+     * @param dropRow moves the brick down one row, returning true if it fell and false if it locked
+     */
+    public GameClock(BooleanSupplier dropRow) {
+        this.dropRow = dropRow;
+        setRowsPerSecond(rowsPerSecondForLevel(1));
+    }
+
+    /**
+     * Gets the gravity of a level, matching the original fall intervals:
+     * 600ms per row at level 1, 100ms less per level, and never faster than 50ms per row.
+     *
+     * @param level the level, starting at 1
+     * @return the gravity in rows per second
+     */
+    public static double rowsPerSecondForLevel(int level) {
+        int fallMillis = Math.max(50, 600 - (level - 1) * 100);
+        return 1000.0 / fallMillis;
+    }
+
+    /**
+     * Sets the gravity without resetting the partial row already accumulated.
+     *
+     * @param rowsPerSecond the gravity in rows per second, which may be more than one row per step
+     */
+    public void setRowsPerSecond(double rowsPerSecond) {
+        gravityPerStep = Math.round(rowsPerSecond * ONE_ROW / STEPS_PER_SECOND);
+    }
+
+    /**
+     * Sets the gravity for a level without resetting the partial row already accumulated.
+     *
+     * @param level the level, starting at 1
+     */
+    public void setLevel(int level) {
+        setRowsPerSecond(rowsPerSecondForLevel(level));
+    }
+
+    /**
+     * Starts or resumes the clock; time is measured from the next {@link #advance(long)} call.
+     */
+    public void start() {
+        running = true;
+        lastNanos = Long.MIN_VALUE;
+    }
+
+    /**
+     * Stops the clock; time passing while stopped is never caught up.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Clears the accumulated time and partial row, used when a new game starts.
+     */
+    public void reset() {
+        accumulatorNanos = 0;
+        gravityProgress = 0;
+        lastNanos = Long.MIN_VALUE;
+    }
+
+    /**
+     * Checks whether the clock is running.
+     *
+     * @return true between start and stop
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of steps run since the clock was created.
+     *
+     * @return the step count
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Runs every whole step that fits into the time since the previous call.
+     * After a stall at most {@link #MAX_CATCH_UP_STEPS} steps run and the rest of the stall is dropped,
+     * so a long hitch costs at most one second of game time.
+     *
+     * @param nowNanos the current time from a monotonic clock such as System.nanoTime()
+     * @return the number of steps run
+     */
+    public int advance(long nowNanos) {
+        if (!running) {
+            return 0;
+        }
+        if (lastNanos == Long.MIN_VALUE) {
+            lastNanos = nowNanos;
+            return 0;
+        }
+        accumulatorNanos += nowNanos - lastNanos;
+        lastNanos = nowNanos;
+
+        int steps = 0;
+        while (accumulatorNanos >= STEP_NANOS && running) {
+            if (steps == MAX_CATCH_UP_STEPS) {
+                accumulatorNanos = 0;
+                break;
+            }
+            accumulatorNanos -= STEP_NANOS;
+            step();
+            steps++;
+        }
+        return steps;
+    }
+
+    // Adds one step of gravity and drops a row for every whole row accumulated
+    // Once the brick locks, the rest of this step's rows are discarded so the next brick is not dropped at once;
+    // the callback may also stop the clock, for example when the game ends
+    private void step() {
+        stepCount++;
+        gravityProgress += gravityPerStep;
+        while (gravityProgress >= ONE_ROW && running) {
+            gravityProgress -= ONE_ROW;
+            if (!dropRow.getAsBoolean()) {
+                gravityProgress %= ONE_ROW;
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.BoardChanges;
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.DownData;
+import com.comp2042.data.ViewData;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.Score;
+
+/**
+ * Core game rules on top of a {@link Board}: movement, gravity ticks, locking, line clear scoring
+ * and game over detection. It has no UI dependencies, so it runs the same inside the JavaFX game
+ * and in plain JVMs; views follow it through a {@link GameListener}.
+ * <p>
+ * The primitive methods ({@link #tick()}, {@link #moveLeft()}, {@link #hardDrop()} and so on) do not build
+ * view data and are meant for headless simulation. The {@link InputEventListener} methods wrap them and
+ * return view data for the UI.
+ * <p>
+ * With a {@link RewindBuffer} set, the engine snapshots the board at the start of every piece, and
+ * {@link #rewind()} takes back the last locked piece for practice.
+ */
+public class GameEngine implements InputEventListener {
+
+    /**
+     * Version of the game rules, stored in replays; increase it whenever a change to the engine, boards or
+     * generators makes the same seed and inputs play out differently.
+     */
+    public static final int RULES_VERSION = 1;
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+    };
+
+    private final Board board;
+    private GameListener listener = NO_LISTENER;
+    private boolean gameOver;
+    private int piecesLocked;
+    private RewindBuffer rewindBuffer; // Null unless practicing
+
+    /**
+     * Constructs a new engine running the given board.
+     * 
+     * @param board the board holding the game state
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Sets the listener notified about background changes and game over.
+     * 
+     * @param listener the listener, or null to stop notifying
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Enables or disables practice rewind from the next game on. The buffer is cleared at the start of every game.
+     * 
+     * @param rewindBuffer the buffer receiving a snapshot per piece, or null to disable rewind
+     */
+    public void setRewindBuffer(RewindBuffer rewindBuffer) {
+        this.rewindBuffer = rewindBuffer;
+        if (rewindBuffer != null) {
+            rewindBuffer.clear();
+        }
+    }
+
+    /**
+     * Gets the practice rewind buffer.
+     * 
+     * @return the buffer, or null if rewind is disabled
+     */
+    public RewindBuffer getRewindBuffer() {
+        return rewindBuffer;
+    }
+
+    /**
+     * Gets the board this engine runs.
+     * 
+     * @return the board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the score of the current game.
+     * 
+     * @return the score object
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * Checks whether the current game has ended.
+     * 
+     * @return true once the stack has reached the danger line, until a new game starts
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of bricks locked since the current game started.
+     * 
+     * @return the locked piece count
+     */
+    public int getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    /**
+     * Resets the board and score and spawns the first brick of a new game.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+        piecesLocked = 0;
+        if (rewindBuffer != null) {
+            rewindBuffer.clear();
+            rewindBuffer.push(board.snapshot());
+        }
+        notifyBackgroundChanged();
+    }
+
+    /**
+     * Advances gravity by one row, locking the brick if it cannot fall any further.
+     * 
+     * @return the clear row data if the brick locked, or null if it only moved down
+     */
+    public ClearRow tick() {
+        return stepDown(false);
+    }
+
+    /**
+     * Moves the brick down one row as a soft drop, which scores a point, locking it if it cannot fall.
+     * 
+     * @return the clear row data if the brick locked, or null if it only moved down
+     */
+    public ClearRow softDrop() {
+        return stepDown(true);
+    }
+
+    private ClearRow stepDown(boolean byUser) {
+        if (board.moveBrickDown()) {
+            if (byUser) {
+                board.getScore().add(1);
+            }
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Drops the brick straight to its landing row, scoring two points per row, and locks it.
+     * 
+     * @return the clear row data of the lock
+     */
+    public ClearRow hardDrop() {
+        int distanceDropped = board.hardDropBrick();
+        board.getScore().add(distanceDropped * 2);
+        return lockBrick();
+    }
+
+    /**
+     * Moves the brick one column left.
+     * 
+     * @return true if the brick moved
+     */
+    public boolean moveLeft() {
+        return board.moveBrickLeft();
+    }
+
+    /**
+     * Moves the brick one column right.
+     * 
+     * @return true if the brick moved
+     */
+    public boolean moveRight() {
+        return board.moveBrickRight();
+    }
+
+    /**
+     * Rotates the brick.
+     * 
+     * @return true if the brick rotated
+     */
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    /**
+     * Stores or swaps the brick with the held brick.
+     * 
+     * @return true if the hold was allowed
+     */
+    public boolean hold() {
+        return board.holdCurrentBrick();
+    }
+
+    // Locks the brick, scores cleared rows, then either ends the game or spawns the next brick
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        piecesLocked++;
+
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+            board.getScore().addLines(clearRow.getLinesRemoved());
+        }
+
+        // Check if blocks have reached the top (game over condition)
+        if (board.isDangerLineReached()) {
+            gameOver = true;
+            listener.onGameOver();
+            notifyBackgroundChanged();
+            return clearRow;
+        }
+
+        board.createNewBrick();
+        if (rewindBuffer != null) {
+            rewindBuffer.push(board.snapshot());
+        }
+        notifyBackgroundChanged();
+        return clearRow;
+    }
+
+    /**
+     * Takes back the last locked piece, returning the board to the moment that piece spawned.
+     * After game over this revives the game at the start of the piece that topped out. With no locked piece
+     * left to take back, the falling piece returns to its spawn.
+     * 
+     * @return true if the board was rewound, false if rewind is disabled
+     */
+    public boolean rewind() {
+        if (rewindBuffer == null || rewindBuffer.latest() == null) {
+            return false;
+        }
+        BoardSnapshot target;
+        if (gameOver) {
+            // The piece that topped out locked without a snapshot of its own being taken
+            target = rewindBuffer.latest();
+            gameOver = false;
+            piecesLocked--;
+        } else if (rewindBuffer.getRewindableCount() > 0) {
+            target = rewindBuffer.pop();
+            piecesLocked--;
+        } else {
+            target = rewindBuffer.latest();
+        }
+        board.restore(target);
+        notifyBackgroundChanged();
+        return true;
+    }
+
+    // Hands the listener the board and its change set, then starts a new change set
+    private void notifyBackgroundChanged() {
+        BoardChanges changes = board.getBackgroundChanges();
+        listener.onBackgroundChanged(board.getBoardMatrix(), changes);
+        changes.reset();
+    }
+
+    /**
+     * Handles the down movement event; only user moves score a point.
+     * 
+     * @param event the move event containing the source of the movement
+     * @return the down data, with clear row data if the brick locked, or none if the game ended
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        ClearRow clearRow = stepDown(event.getEventSource() == EventSource.USER);
+        return new DownData(gameOver ? null : clearRow, board.getViewData());
+    }
+
+    /**
+     * Handles the left movement event.
+     * 
+     * @param event the move event
+     * @return the updated view data
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        moveLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the right movement event.
+     * 
+     * @param event the move event
+     * @return the updated view data
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        moveRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the rotation event.
+     * 
+     * @param event the move event
+     * @return the updated view data
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        rotate();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the hard drop event.
+     * 
+     * @param event the move event
+     * @return the down data, with clear row data of the lock, or none if the game ended
+     */
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        ClearRow clearRow = hardDrop();
+        return new DownData(gameOver ? null : clearRow, board.getViewData());
+    }
+
+    /**
+     * Handles the hold event.
+     * 
+     * @param event the move event
+     * @return the updated view data
+     */
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        hold();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the rewind event.
+     * 
+     * @param event the move event
+     * @return the updated view data
+     */
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        rewind();
+        return board.getViewData();
+    }
+
+    /**
+     * Starts a new game.
+     */
+    @Override
+    public void createNewGame() {
+        newGame();
+    }
+}
@@ -0,0 +1,38 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.BoardChanges;
+
+/**
+ * Callback interface for observing a {@link GameEngine}.
+ * Views implement it to redraw when the settled blocks change and to react to game over;
+ * headless runs can ignore it entirely.
+ */
+public interface GameListener {
+
+    /**
+     * Called when the settled blocks of the board have changed, after a brick locks or a new game starts.
+     * 
+     * @param boardMatrix the current board matrix, which must not be modified
+     */
+    default void onBackgroundChanged(int[][] boardMatrix) {
+
+    }
+
+    /**
+     * Called when the settled blocks of the board have changed, with the cells that changed since the last call.
+     * Views that can redraw single cells override this; the default redraws through the whole matrix.
+     * 
+     * @param boardMatrix the current board matrix, which must not be modified
+     * @param changes the changed cells and rows, which are reset once this call returns
+     */
+    default void onBackgroundChanged(int[][] boardMatrix, BoardChanges changes) {
+        onBackgroundChanged(boardMatrix);
+    }
+
+    /**
+     * Called once when the stack reaches the danger line and the game ends.
+     */
+    default void onGameOver() {
+
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.engine;
+
+/**
+ * Outcome of one simulated game.
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int pieces;
+    private final boolean toppedOut;
+
+    /**
+     * Constructs a game result.
+     * 
+     * @param seed the seed the game was played from
+     * @param score the final score
+     * @param lines the lines cleared
+     * @param level the final level
+     * @param pieces the bricks locked
+     * @param toppedOut true if the game ended at the danger line, false if it was stopped earlier
+     */
+    public GameResult(long seed, int score, int lines, int level, int pieces, boolean toppedOut) {
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.pieces = pieces;
+        this.toppedOut = toppedOut;
+    }
+
+    /**
+     * Gets the seed the game was played from.
+     * 
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the final score.
+     * 
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     * 
+     * @return the lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the final level.
+     * 
+     * @return the level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     * 
+     * @return the piece count
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Checks whether the game ended by reaching the danger line.
+     * 
+     * @return true if topped out, false if the game was stopped earlier, such as at a piece limit
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
@@ -0,0 +1,15 @@
+package com.comp2042.engine;
+
+/**
+ * A player that decides where each brick goes when games are simulated without a view.
+ */
+public interface GameStrategy {
+
+    /**
+     * Plays the current brick of the engine until it locks, typically by moving or rotating it and hard dropping.
+     * Implementations must lock exactly one brick per call.
+     * 
+     * @param engine the engine whose current brick should be placed
+     */
+    void playPiece(GameEngine engine);
+}
@@ -0,0 +1,188 @@
+package com.comp2042.engine;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures how long a key press takes to reach the screen, split into stages.
+ * A view stamps the key event, the call into the input listener, the return of the updated model and the
+ * next rendered frame; when the frame arrives each stage and the total go into their own histogram.
+ * Only the first press before a frame is measured, and a press that never reached the model is discarded,
+ * so auto-repeats and ignored keys do not skew the numbers.
+ * All stamps must come from the same monotonic clock, such as System.nanoTime().
+ */
+public final class InputLatencyTracker {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final LatencyHistogram keyToDispatch = new LatencyHistogram();
+    private final LatencyHistogram dispatchToModel = new LatencyHistogram();
+    private final LatencyHistogram modelToFrame = new LatencyHistogram();
+    private final LatencyHistogram keyToFrame = new LatencyHistogram();
+
+    private long keyNanos = UNSET;
+    private long dispatchNanos = UNSET;
+    private long modelNanos = UNSET;
+
+    /**
+     * Stamps a key press, unless an earlier press is still waiting for its frame.
+     *
+     * @param nanos the time the key event was handled
+     */
+    public void keyPressed(long nanos) {
+        if (keyNanos == UNSET) {
+            keyNanos = nanos;
+        }
+    }
+
+    /**
+     * Ends handling of a key event; a press that did not reach the input listener, such as an
+     * operating system repeat of a held key, is dropped so a later call is not attributed to it.
+     */
+    public void keyHandled() {
+        if (dispatchNanos == UNSET) {
+            keyNanos = UNSET;
+        }
+    }
+
+    /**
+     * Stamps the call into the input listener for the pending key press.
+     *
+     * @param nanos the time just before the listener was called
+     */
+    public void dispatched(long nanos) {
+        if (keyNanos != UNSET && dispatchNanos == UNSET) {
+            dispatchNanos = nanos;
+        }
+    }
+
+    /**
+     * Stamps the updated model returned for the pending key press.
+     *
+     * @param nanos the time the listener returned
+     */
+    public void modelUpdated(long nanos) {
+        if (dispatchNanos != UNSET && modelNanos == UNSET) {
+            modelNanos = nanos;
+        }
+    }
+
+    /**
+     * Stamps a rendered frame, completing the pending sample if the model was updated.
+     *
+     * @param nanos the time of the frame
+     * @return true if a sample was recorded
+     */
+    public boolean frameRendered(long nanos) {
+        if (keyNanos == UNSET) {
+            return false;
+        }
+        boolean complete = modelNanos != UNSET;
+        if (complete) {
+            keyToDispatch.record(dispatchNanos - keyNanos);
+            dispatchToModel.record(modelNanos - dispatchNanos);
+            modelToFrame.record(nanos - modelNanos);
+            keyToFrame.record(nanos - keyNanos);
+        }
+        keyNanos = UNSET;
+        dispatchNanos = UNSET;
+        modelNanos = UNSET;
+        return complete;
+    }
+
+    /**
+     * Clears all samples and any pending stamps.
+     */
+    public void reset() {
+        keyToDispatch.reset();
+        dispatchToModel.reset();
+        modelToFrame.reset();
+        keyToFrame.reset();
+        keyNanos = UNSET;
+        dispatchNanos = UNSET;
+        modelNanos = UNSET;
+    }
+
+    /**
+     * Gets the end-to-end latency from key event to rendered frame.
+     *
+     * @return the total latency histogram
+     */
+    public LatencyHistogram getKeyToFrame() {
+        return keyToFrame;
+    }
+
+    /**
+     * Gets the time from the key event to the call into the input listener.
+     *
+     * @return the key to dispatch histogram
+     */
+    public LatencyHistogram getKeyToDispatch() {
+        return keyToDispatch;
+    }
+
+    /**
+     * Gets the time the input listener took to update the model.
+     *
+     * @return the dispatch to model histogram
+     */
+    public LatencyHistogram getDispatchToModel() {
+        return dispatchToModel;
+    }
+
+    /**
+     * Gets the time from the model update to the next rendered frame.
+     *
+     * @return the model to frame histogram
+     */
+    public LatencyHistogram getModelToFrame() {
+        return modelToFrame;
+    }
+
+    /**
+     * Writes every stage with its bucket counts to a text file, replacing any existing file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeReport(Path file) throws IOException {
+        Files.writeString(file, formatReport(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Formats every stage with its bucket counts as the text {@link #writeReport} writes.
+     * The text is a copy, so it can be written on another thread while this tracker keeps measuring.
+     *
+     * @return the report text
+     */
+    public String formatReport() {
+        StringWriter text = new StringWriter();
+        PrintWriter out = new PrintWriter(text);
+        writeStage(out, "input -> frame", keyToFrame);
+        writeStage(out, "key -> dispatch", keyToDispatch);
+        writeStage(out, "dispatch -> model", dispatchToModel);
+        writeStage(out, "model -> frame", modelToFrame);
+        out.flush();
+        return text.toString();
+    }
+
+    private static void writeStage(PrintWriter out, String name, LatencyHistogram histogram) {
+        out.printf("%-18s", name);
+        histogram.writeBuckets(out);
+    }
+
+    /**
+     * Formats the stages as multi-line text for an overlay.
+     *
+     * @return one line for the total and one per stage
+     */
+    @Override
+    public String toString() {
+        return String.format("input->frame %s%n  key->dispatch %s%n  dispatch->model %s%n  model->frame %s",
+                keyToFrame, keyToDispatch, dispatchToModel, modelToFrame);
+    }
+}
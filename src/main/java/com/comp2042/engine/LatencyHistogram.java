@@ -0,0 +1,129 @@
+package com.comp2042.engine;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies with fixed 10 microsecond buckets up to 100 milliseconds.
+ * Recording is a bucket increment and never allocates, so it can run on every key press.
+ * Slower samples go into an overflow bucket; the exact maximum is kept separately.
+ * Percentiles are reported as the upper edge of the bucket they fall in, capped at the maximum.
+ */
+public final class LatencyHistogram {
+
+    /** Width of one bucket in nanoseconds. */
+    public static final long BUCKET_NANOS = 10_000;
+
+    /** Latencies at or above this go into the overflow bucket. */
+    public static final long RANGE_NANOS = 100_000_000;
+
+    private static final int BUCKETS = (int) (RANGE_NANOS / BUCKET_NANOS);
+
+    // One counter per bucket plus the overflow bucket at the end
+    private final long[] counts = new long[BUCKETS + 1];
+    private long count;
+    private long maxNanos;
+    private long totalNanos;
+
+    /**
+     * Records one latency; negative values are counted as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int bucket = value >= RANGE_NANOS ? BUCKETS : (int) (value / BUCKET_NANOS);
+        counts[bucket]++;
+        count++;
+        totalNanos += value;
+        if (value > maxNanos) {
+            maxNanos = value;
+        }
+    }
+
+    /**
+     * Clears all samples.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        maxNanos = 0;
+        totalNanos = 0;
+    }
+
+    /**
+     * Gets the number of samples.
+     *
+     * @return the sample count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the largest sample.
+     *
+     * @return the maximum in nanoseconds, or 0 if there are no samples
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the mean of the samples.
+     *
+     * @return the mean in nanoseconds, or 0 if there are no samples
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Gets a percentile using the nearest-rank method.
+     *
+     * @param percent the percentile, from 0 to 100
+     * @return the upper edge of the bucket holding that rank in nanoseconds, or 0 if there are no samples
+     */
+    public long getPercentileNanos(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(maxNanos, (bucket + 1) * BUCKET_NANOS);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Writes the summary line followed by every non-empty bucket as "upper edge in ms, count".
+     *
+     * @param out the writer to print to
+     */
+    public void writeBuckets(PrintWriter out) {
+        out.println(this);
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (counts[bucket] != 0) {
+                out.printf("  <%.2f ms  %d%n", (bucket + 1) * BUCKET_NANOS / 1e6, counts[bucket]);
+            }
+        }
+        if (counts[BUCKETS] != 0) {
+            out.printf("  >=%.2f ms  %d%n", RANGE_NANOS / 1e6, counts[BUCKETS]);
+        }
+    }
+
+    /**
+     * Formats the histogram as a single summary line in milliseconds.
+     *
+     * @return p50, p99, max and the sample count
+     */
+    @Override
+    public String toString() {
+        return String.format("p50 %.2f  p99 %.2f  max %.2f ms  (n=%d)",
+                getPercentileNanos(50) / 1e6, getPercentileNanos(99) / 1e6, maxNanos / 1e6, count);
+    }
+}
@@ -0,0 +1,43 @@
+package com.comp2042.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Baseline strategy that rotates and shifts each brick by a random amount and hard drops it.
+ * Useful as a reproducible load generator and as the floor other strategies are compared against.
+ */
+public class RandomDropStrategy implements GameStrategy {
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a random strategy.
+     * 
+     * @param seed the seed for the move choices
+     */
+    public RandomDropStrategy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Rotates the brick zero to three times, shifts it up to five columns either way and hard drops it.
+     * 
+     * @param engine the engine whose current brick should be placed
+     */
+    @Override
+    public void playPiece(GameEngine engine) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.rotate();
+        }
+        int shift = random.nextInt(11) - 5;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                engine.moveLeft();
+            } else {
+                engine.moveRight();
+            }
+        }
+        engine.hardDrop();
+    }
+}
@@ -0,0 +1,345 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded game read back from the binary format written by {@link ReplayRecorder}.
+ * <p>
+ * A recording is a header, one record per input and a trailer:
+ * <ul>
+ *   <li>header: the magic number, the format version byte, then varints for the rules version, board rows and
+ *       board columns, followed by the 7-bag seed and the start time in epoch milliseconds as 8-byte longs</li>
+ *   <li>record: one varint holding the ticks since the previous record shifted left by 3, or'ed with a 3-bit
+ *       event code; ticks are {@link GameClock} steps since the game started</li>
+ *   <li>trailer: a record with {@link #CODE_END}, a byte that is 1 if the game topped out and 0 if it was
+ *       abandoned, then varints for the final score, lines, level and locked pieces</li>
+ * </ul>
+ * Varints are unsigned LEB128, so most records take a single byte. Only a soft drop and gravity differ by
+ * source, so a separate gravity code fits every input into 3 bits.
+ */
+public final class Replay {
+
+    /** First four bytes of every recording, "TRPL". */
+    public static final int MAGIC = 0x5452504C;
+
+    /** Version of the binary layout described above. */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Event code of a gravity step, the only input whose source matters besides a soft drop. */
+    public static final int CODE_GRAVITY = 6;
+
+    /** Event code that ends the records and starts the trailer. */
+    public static final int CODE_END = 7;
+
+    static final int CODE_BITS = 3;
+
+    // Board sizes a recording may claim: the two hidden rows plus one, a brick's width, and a generous cap
+    // so a tampered header cannot make a verifier allocate a huge board
+    private static final int MIN_ROWS = 3;
+    private static final int MIN_COLUMNS = 4;
+    private static final int MAX_ROWS = 256;
+    private static final int MAX_COLUMNS = 256;
+
+    // Event for each code below CODE_END
+    private static final MoveEvent[] EVENTS = {
+            MoveEvent.of(EventType.DOWN, EventSource.USER),
+            MoveEvent.of(EventType.LEFT, EventSource.USER),
+            MoveEvent.of(EventType.RIGHT, EventSource.USER),
+            MoveEvent.of(EventType.ROTATE, EventSource.USER),
+            MoveEvent.of(EventType.HARD_DROP, EventSource.USER),
+            MoveEvent.of(EventType.HOLD, EventSource.USER),
+            MoveEvent.of(EventType.DOWN, EventSource.THREAD)
+    };
+
+    private final int rulesVersion;
+    private final int rows;
+    private final int columns;
+    private final long seed;
+    private final long startMillis;
+    private final int[] ticks;
+    private final byte[] codes;
+    private final boolean toppedOut;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int pieces;
+
+    private Replay(int rulesVersion, int rows, int columns, long seed, long startMillis, int[] ticks, byte[] codes,
+                   boolean toppedOut, int score, int lines, int level, int pieces) {
+        this.rulesVersion = rulesVersion;
+        this.rows = rows;
+        this.columns = columns;
+        this.seed = seed;
+        this.startMillis = startMillis;
+        this.ticks = ticks;
+        this.codes = codes;
+        this.toppedOut = toppedOut;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Gets the event code of an input.
+     *
+     * @param event the input
+     * @return a code from 0 to {@link #CODE_GRAVITY}
+     */
+    public static int codeOf(MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN:
+                return event.getEventSource() == EventSource.USER ? 0 : CODE_GRAVITY;
+            case LEFT:
+                return 1;
+            case RIGHT:
+                return 2;
+            case ROTATE:
+                return 3;
+            case HARD_DROP:
+                return 4;
+            case HOLD:
+                return 5;
+            default:
+                throw new IllegalArgumentException("No replay code for " + event);
+        }
+    }
+
+    /**
+     * Gets the input with an event code.
+     *
+     * @param code a code from 0 to {@link #CODE_GRAVITY}
+     * @return the shared event for that code
+     * @throws IllegalArgumentException if the code is not an input code
+     */
+    public static MoveEvent eventOf(int code) {
+        if (code < 0 || code >= CODE_END) {
+            throw new IllegalArgumentException("Not an input code: " + code);
+        }
+        return EVENTS[code];
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the file written by a {@link ReplayRecorder}
+     * @return the recording
+     * @throws IOException if the file cannot be read or is not a complete recording
+     */
+    public static Replay read(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Reads a recording from a buffer, starting at its position.
+     *
+     * @param in the encoded recording
+     * @return the recording
+     * @throws IOException if the buffer does not hold a complete recording or claims an impossible board size
+     */
+    public static Replay read(ByteBuffer in) throws IOException {
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a replay");
+            }
+            int formatVersion = in.get();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported replay format version " + formatVersion);
+            }
+            int rulesVersion = readInt(in);
+            int rows = readInt(in);
+            int columns = readInt(in);
+            if (rows < MIN_ROWS || rows > MAX_ROWS || columns < MIN_COLUMNS || columns > MAX_COLUMNS) {
+                throw new IOException("Impossible board size " + rows + "x" + columns);
+            }
+            long seed = in.getLong();
+            long startMillis = in.getLong();
+
+            // Every record is at least one byte, so the remaining size bounds the event count
+            int[] ticks = new int[in.remaining()];
+            byte[] codes = new byte[in.remaining()];
+            int count = 0;
+            long tick = 0;
+            while (true) {
+                long record = readLong(in);
+                tick += record >>> CODE_BITS;
+                int code = (int) record & CODE_END;
+                if (code == CODE_END) {
+                    break;
+                }
+                if (tick > Integer.MAX_VALUE) {
+                    throw new IOException("Replay too long");
+                }
+                ticks[count] = (int) tick;
+                codes[count] = (byte) code;
+                count++;
+            }
+            boolean toppedOut = in.get() != 0;
+            int score = readInt(in);
+            int lines = readInt(in);
+            int level = readInt(in);
+            int pieces = readInt(in);
+            return new Replay(rulesVersion, rows, columns, seed, startMillis, Arrays.copyOf(ticks, count),
+                    Arrays.copyOf(codes, count), toppedOut, score, lines, level, pieces);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated replay", e);
+        }
+    }
+
+    private static int readInt(ByteBuffer in) throws IOException {
+        long value = readLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Gets the version of the game rules the recording was played under.
+     *
+     * @return the {@link GameEngine#RULES_VERSION} at recording time
+     */
+    public int getRulesVersion() {
+        return rulesVersion;
+    }
+
+    /**
+     * Gets the number of board rows, including the hidden spawn rows.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the 7-bag seed the game was played from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the wall clock time the game started.
+     *
+     * @return the start time in epoch milliseconds
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Gets the number of recorded inputs.
+     *
+     * @return the input count
+     */
+    public int getEventCount() {
+        return codes.length;
+    }
+
+    /**
+     * Gets a recorded input.
+     *
+     * @param index the input number, from 0
+     * @return the input
+     */
+    public MoveEvent getEvent(int index) {
+        return EVENTS[codes[index]];
+    }
+
+    /**
+     * Gets the time of a recorded input.
+     *
+     * @param index the input number, from 0
+     * @return the {@link GameClock} steps from the start of the game to the input
+     */
+    public int getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Checks whether the game ended at the danger line rather than being abandoned.
+     *
+     * @return true if the game topped out
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
+    /**
+     * Gets the outcome stored in the trailer, for comparing with a replayed game.
+     *
+     * @return the recorded result
+     */
+    public GameResult getRecordedResult() {
+        return new GameResult(seed, score, lines, level, pieces, toppedOut);
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score when the recording ended
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the final number of lines cleared.
+     *
+     * @return the lines when the recording ended
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the final level.
+     *
+     * @return the level when the recording ended
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     *
+     * @return the locked pieces when the recording ended
+     */
+    public int getPieces() {
+        return pieces;
+    }
+}
@@ -0,0 +1,97 @@
+package com.comp2042.engine;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of verifying one recording: whether it could be read and replayed, and whether the replayed game
+ * ended the way the recording says it did.
+ */
+public final class ReplayCheck {
+
+    private final Path file;
+    private final GameResult recorded;
+    private final GameResult replayed;
+    private final int events;
+    private final String problem;
+
+    /**
+     * Constructs a check.
+     *
+     * @param file the recording, or null if it did not come from a file
+     * @param recorded the result stored in the recording, or null if it could not be read
+     * @param replayed the result of replaying it, or null if it was not replayed
+     * @param events the number of inputs replayed
+     * @param problem why the check failed, or null if it passed
+     */
+    public ReplayCheck(Path file, GameResult recorded, GameResult replayed, int events, String problem) {
+        this.file = file;
+        this.recorded = recorded;
+        this.replayed = replayed;
+        this.events = events;
+        this.problem = problem;
+    }
+
+    /**
+     * Gets the recording that was checked.
+     *
+     * @return the file, or null if it did not come from a file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the result stored in the recording.
+     *
+     * @return the recorded result, or null if the recording could not be read
+     */
+    public GameResult getRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Gets the result of replaying the recording.
+     *
+     * @return the replayed result, or null if it was not replayed
+     */
+    public GameResult getReplayed() {
+        return replayed;
+    }
+
+    /**
+     * Gets the number of inputs replayed.
+     *
+     * @return the input count
+     */
+    public int getEvents() {
+        return events;
+    }
+
+    /**
+     * Checks whether the replayed game matched the recording.
+     *
+     * @return true if the check passed
+     */
+    public boolean isPassed() {
+        return problem == null;
+    }
+
+    /**
+     * Gets the reason the check failed.
+     *
+     * @return the problem, or null if the check passed
+     */
+    public String getProblem() {
+        return problem;
+    }
+
+    /**
+     * Formats the check as one line.
+     *
+     * @return the file and its outcome
+     */
+    @Override
+    public String toString() {
+        return (file != null ? file.getFileName() : "replay") + ": " + (problem != null ? problem : "ok");
+    }
+}
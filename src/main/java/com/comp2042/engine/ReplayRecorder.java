@@ -0,0 +1,275 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.Score;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Records every game into its own file in the compact format described by {@link Replay}.
+ * Each game gets a fresh seed for its 7-bag generator, so the seed and the inputs reproduce the game.
+ * Inputs are encoded into a buffer in memory and the file is only written through a {@link FileChannel}
+ * when the game ends, so recording an input costs a few array writes and never touches the disk.
+ * A ten minute game takes a few kilobytes.
+ * <p>
+ * Games ended with {@link #finishGame} are written on a background writer, so the thread running the game
+ * never waits for the disk; the outcome of each write goes to the {@link Listener}.
+ * <p>
+ * Not thread safe; use it from the thread that runs the engine.
+ */
+public final class ReplayRecorder {
+
+    /** File name extension of recordings. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_VARINT_BYTES = 10;
+    // Writer thread shared by all recorders, started by the first write; a daemon, so it never keeps the game open
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "replay-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Receives the outcome of files written in the background. Called on the writer's thread.
+     */
+    public interface Listener {
+
+        /**
+         * Called when a recording has been written.
+         *
+         * @param file the file written
+         */
+        void onReplayWritten(Path file);
+
+        /**
+         * Called when a recording could not be written; the game is lost.
+         *
+         * @param file the file that was being written
+         * @param e the cause
+         */
+        void onReplayFailed(Path file, IOException e);
+    }
+
+    // Reports failures only, so a finished game prints nothing unless something went wrong
+    private static final Listener ERROR_LISTENER = new Listener() {
+        @Override
+        public void onReplayWritten(Path file) {
+        }
+
+        @Override
+        public void onReplayFailed(Path file, IOException e) {
+            System.err.println("Could not write replay " + file + ": " + e.getMessage());
+        }
+    };
+
+    private final Path directory;
+    private final SplittableRandom seeds;
+    private final Executor writer;
+    private volatile Listener listener = ERROR_LISTENER;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private boolean recording;
+    private long startNanos;
+    private long lastTick;
+    private String fileName;
+
+    /**
+     * Constructs a recorder writing into a directory, which is created when the first game ends.
+     *
+     * @param directory the directory receiving one file per game
+     * @param seed the seed from which the seeds of all recorded games are drawn
+     */
+    public ReplayRecorder(Path directory, long seed) {
+        this(directory, seed, WRITER);
+    }
+
+    /**
+     * Constructs a recorder writing the files of games ended with {@link #finishGame} on the given executor.
+     *
+     * @param directory the directory receiving one file per game
+     * @param seed the seed from which the seeds of all recorded games are drawn
+     * @param writer the executor writing files; {@code Runnable::run} writes them on the calling thread
+     */
+    public ReplayRecorder(Path directory, long seed, Executor writer) {
+        this.directory = directory;
+        this.seeds = new SplittableRandom(seed);
+        this.writer = writer;
+    }
+
+    /**
+     * Sets the listener told about files written in the background. By default failures go to standard error.
+     *
+     * @param listener the listener
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Starts recording a game: draws a seed, restarts the generator from it and writes the header.
+     * Call before the engine starts the new game, so its first brick comes from the new seed.
+     * A game still being recorded is discarded; end it first with {@link #endGame} to keep it.
+     *
+     * @param engine the engine about to start the game
+     * @param generator the brick generator of the engine's board
+     * @param nowNanos the current time from System.nanoTime()
+     */
+    public void startGame(GameEngine engine, SevenBagBrickGenerator generator, long nowNanos) {
+        long seed = seeds.nextLong();
+        generator.reset(seed);
+        int[][] matrix = engine.getBoard().getBoardMatrix();
+        long startMillis = System.currentTimeMillis();
+
+        buffer.clear();
+        buffer.putInt(Replay.MAGIC);
+        buffer.put((byte) Replay.FORMAT_VERSION);
+        putVarint(GameEngine.RULES_VERSION);
+        putVarint(matrix.length);
+        putVarint(matrix[0].length);
+        buffer.putLong(seed);
+        buffer.putLong(startMillis);
+
+        fileName = "replay-" + startMillis + "-" + Long.toHexString(seed) + FILE_EXTENSION;
+        startNanos = nowNanos;
+        lastTick = 0;
+        recording = true;
+    }
+
+    /**
+     * Records an input the engine accepted; ignored when no game is being recorded.
+     * Drops are recorded before they are applied, since a lock that ends the game also ends the recording.
+     *
+     * @param event the input
+     * @param nowNanos the current time from System.nanoTime()
+     */
+    public void record(MoveEvent event, long nowNanos) {
+        if (recording) {
+            putRecord(Replay.codeOf(event), nowNanos);
+        }
+    }
+
+    /**
+     * Ends the game being recorded with a trailer holding the engine's final state, and writes its file.
+     *
+     * @param engine the engine that played the game
+     * @param nowNanos the current time from System.nanoTime()
+     * @return the file written, or null if no game was being recorded
+     * @throws IOException if the file cannot be written; the game is discarded
+     */
+    public Path endGame(GameEngine engine, long nowNanos) throws IOException {
+        if (!recording) {
+            return null;
+        }
+        putTrailer(engine, nowNanos);
+        Path file = directory.resolve(fileName);
+        write(file, buffer);
+        return file;
+    }
+
+    /**
+     * Ends the game being recorded, if any, like {@link #endGame}, but writes its file on the writer so the
+     * calling thread does not wait for the disk. The caller can start the next game straight away.
+     *
+     * @param engine the engine that played the game
+     * @param nowNanos the current time from System.nanoTime()
+     */
+    public void finishGame(GameEngine engine, long nowNanos) {
+        if (!recording) {
+            return;
+        }
+        putTrailer(engine, nowNanos);
+        Path file = directory.resolve(fileName);
+        // The buffer is reused by the next game, so the writer gets its own copy of this one
+        ByteBuffer bytes = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.limit()));
+        writer.execute(() -> {
+            try {
+                write(file, bytes);
+                listener.onReplayWritten(file);
+            } catch (IOException e) {
+                listener.onReplayFailed(file, e);
+            }
+        });
+    }
+
+    // Ends the input records with the final state and flips the buffer for writing
+    private void putTrailer(GameEngine engine, long nowNanos) {
+        recording = false;
+        putRecord(Replay.CODE_END, nowNanos);
+        Score score = engine.getScore();
+        ensureCapacity(1 + 4 * MAX_VARINT_BYTES);
+        buffer.put((byte) (engine.isGameOver() ? 1 : 0));
+        putVarint(score.getScore());
+        putVarint(score.getLines());
+        putVarint(score.getLevel());
+        putVarint(engine.getPiecesLocked());
+        buffer.flip();
+    }
+
+    private void write(Path file, ByteBuffer bytes) throws IOException {
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a game is being recorded.
+     *
+     * @return true between {@link #startGame} and {@link #endGame}
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the number of bytes encoded so far for the current or last game.
+     *
+     * @return the encoded size
+     */
+    public int getEncodedSize() {
+        return recording ? buffer.position() : buffer.limit();
+    }
+
+    private void putRecord(int code, long nowNanos) {
+        long tick = (nowNanos - startNanos) / GameClock.STEP_NANOS;
+        // A clock that went backwards records the input at the previous tick
+        long delta = Math.max(0, tick - lastTick);
+        lastTick += delta;
+        ensureCapacity(MAX_VARINT_BYTES);
+        putVarint(delta << Replay.CODE_BITS | code);
+    }
+
+    private void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // Doubles the buffer when a game outgrows it, which a typical game never does
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+}
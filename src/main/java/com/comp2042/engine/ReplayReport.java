@@ -0,0 +1,154 @@
+package com.comp2042.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated outcome of verifying a batch of recordings, with throughput figures.
+ */
+public final class ReplayReport {
+
+    // Failures listed by toString; the rest are only counted
+    private static final int MAX_LISTED_FAILURES = 20;
+
+    private final ReplayCheck[] checks;
+    private final int parallelism;
+    private final long elapsedNanos;
+    private final long totalEvents;
+    private final List<ReplayCheck> failures;
+
+    /**
+     * Builds a report from the checks of one batch.
+     *
+     * @param checks the check of every recording, in file order
+     * @param parallelism the number of worker threads that ran them
+     * @param elapsedNanos the wall-clock time the batch took
+     */
+    public ReplayReport(ReplayCheck[] checks, int parallelism, long elapsedNanos) {
+        this.checks = checks;
+        this.parallelism = parallelism;
+        this.elapsedNanos = elapsedNanos;
+        long events = 0;
+        List<ReplayCheck> failed = new ArrayList<>();
+        for (ReplayCheck check : checks) {
+            events += check.getEvents();
+            if (!check.isPassed()) {
+                failed.add(check);
+            }
+        }
+        this.totalEvents = events;
+        this.failures = Collections.unmodifiableList(failed);
+    }
+
+    /**
+     * Gets the check of one recording.
+     *
+     * @param index the recording index, in file order
+     * @return the check
+     */
+    public ReplayCheck getCheck(int index) {
+        return checks[index];
+    }
+
+    /**
+     * Gets the number of recordings checked.
+     *
+     * @return the recording count
+     */
+    public int getCheckCount() {
+        return checks.length;
+    }
+
+    /**
+     * Gets the number of recordings whose replay matched.
+     *
+     * @return the passed count
+     */
+    public int getPassedCount() {
+        return checks.length - failures.size();
+    }
+
+    /**
+     * Gets the checks that failed.
+     *
+     * @return the failed checks, in file order
+     */
+    public List<ReplayCheck> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Checks whether every recording passed.
+     *
+     * @return true if nothing failed
+     */
+    public boolean isAllPassed() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Gets the number of worker threads that ran the batch.
+     *
+     * @return the thread count
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the wall-clock time the batch took.
+     *
+     * @return the elapsed nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of inputs replayed over all recordings.
+     *
+     * @return the input count
+     */
+    public long getTotalEvents() {
+        return totalEvents;
+    }
+
+    /**
+     * Gets the throughput in recordings.
+     *
+     * @return recordings checked per second of wall-clock time
+     */
+    public double getReplaysPerSecond() {
+        return checks.length / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the throughput in inputs.
+     *
+     * @return inputs replayed per second of wall-clock time
+     */
+    public double getEventsPerSecond() {
+        return totalEvents / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Formats the report as a multi-line summary, listing the first failures.
+     *
+     * @return the summary text
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format("%d replays on %d threads in %.3f s (%d failed)%n"
+                        + "  replays/s %.0f  inputs/s %.0f",
+                checks.length, parallelism, elapsedNanos / 1e9, failures.size(),
+                getReplaysPerSecond(), getEventsPerSecond()));
+        for (int i = 0; i < failures.size() && i < MAX_LISTED_FAILURES; i++) {
+            text.append(String.format("%n  %s", failures.get(i)));
+        }
+        if (failures.size() > MAX_LISTED_FAILURES) {
+            text.append(String.format("%n  ... %d more", failures.size() - MAX_LISTED_FAILURES));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,245 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded games without a view and checks that they end with the score, lines, level and pieces
+ * stored in the recording. Inputs are applied back to back through the engine's primitive methods, with
+ * no pacing, and recordings are spread over a {@link ForkJoinPool}.
+ * <p>
+ * A recording only replays the same way while the rules are unchanged, so verifying a directory of real
+ * games catches any change to the boards, generators or engine that alters how a game plays out.
+ */
+public class ReplayVerifier {
+
+    private final int parallelism;
+    private final Function<Replay, Board> boardFactory;
+
+    /**
+     * Constructs a verifier replaying on {@link SimpleBoard}s.
+     *
+     * @param parallelism the number of worker threads
+     */
+    public ReplayVerifier(int parallelism) {
+        this(parallelism, replay -> new SimpleBoard(replay.getRows(), replay.getColumns(),
+                new SevenBagBrickGenerator(replay.getSeed())));
+    }
+
+    /**
+     * Constructs a verifier.
+     *
+     * @param parallelism the number of worker threads
+     * @param boardFactory builds a fresh board for a recording, with a 7-bag generator seeded from it
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public ReplayVerifier(int parallelism, Function<Replay, Board> boardFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        this.boardFactory = boardFactory;
+    }
+
+    /**
+     * Replays a recording on a fresh board.
+     *
+     * @param replay the recording
+     * @return the result of the replayed game
+     */
+    public GameResult play(Replay replay) {
+        GameEngine engine = new GameEngine(boardFactory.apply(replay));
+        engine.newGame();
+        int count = replay.getEventCount();
+        for (int i = 0; i < count && !engine.isGameOver(); i++) {
+            apply(engine, replay.getEvent(i));
+        }
+        return new GameResult(replay.getSeed(), engine.getScore().getScore(), engine.getScore().getLines(),
+                engine.getScore().getLevel(), engine.getPiecesLocked(), engine.isGameOver());
+    }
+
+    private static void apply(GameEngine engine, MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN:
+                if (event.getEventSource() == EventSource.USER) {
+                    engine.softDrop();
+                } else {
+                    engine.tick();
+                }
+                break;
+            case LEFT:
+                engine.moveLeft();
+                break;
+            case RIGHT:
+                engine.moveRight();
+                break;
+            case ROTATE:
+                engine.rotate();
+                break;
+            case HARD_DROP:
+                engine.hardDrop();
+                break;
+            case HOLD:
+                engine.hold();
+                break;
+        }
+    }
+
+    /**
+     * Replays a recording and compares the outcome with the one it stores.
+     *
+     * @param replay the recording
+     * @param file the file it was read from, or null
+     * @return the check, failed if the board cannot play the recording
+     */
+    public ReplayCheck check(Replay replay, Path file) {
+        GameResult recorded = replay.getRecordedResult();
+        if (replay.getRulesVersion() != GameEngine.RULES_VERSION) {
+            return new ReplayCheck(file, recorded, null, 0, "recorded under rules version "
+                    + replay.getRulesVersion() + ", current is " + GameEngine.RULES_VERSION);
+        }
+        GameResult replayed;
+        try {
+            replayed = play(replay);
+        } catch (RuntimeException e) {
+            // A recording the board cannot play is a failed check, not a reason to abandon the rest
+            return new ReplayCheck(file, recorded, null, 0, "unplayable: " + e);
+        }
+        return new ReplayCheck(file, recorded, replayed, replay.getEventCount(), compare(recorded, replayed));
+    }
+
+    /**
+     * Reads a recording, replays it and compares the outcome with the one it stores.
+     *
+     * @param file the recording
+     * @return the check, failed if the file cannot be read
+     */
+    public ReplayCheck check(Path file) {
+        Replay replay;
+        try {
+            replay = Replay.read(file);
+        } catch (IOException e) {
+            return new ReplayCheck(file, null, null, 0, "unreadable: " + e.getMessage());
+        }
+        return check(replay, file);
+    }
+
+    // Lists every field that differs, or returns null if the games match
+    private static String compare(GameResult recorded, GameResult replayed) {
+        StringBuilder problem = new StringBuilder();
+        appendDifference(problem, "score", recorded.getScore(), replayed.getScore());
+        appendDifference(problem, "lines", recorded.getLines(), replayed.getLines());
+        appendDifference(problem, "level", recorded.getLevel(), replayed.getLevel());
+        appendDifference(problem, "pieces", recorded.getPieces(), replayed.getPieces());
+        if (recorded.isToppedOut() != replayed.isToppedOut()) {
+            appendDifference(problem, "topped out", recorded.isToppedOut() ? 1 : 0, replayed.isToppedOut() ? 1 : 0);
+        }
+        return problem.length() == 0 ? null : problem.toString();
+    }
+
+    private static void appendDifference(StringBuilder problem, String name, int recorded, int replayed) {
+        if (recorded != replayed) {
+            if (problem.length() > 0) {
+                problem.append(", ");
+            }
+            problem.append(name).append(' ').append(replayed).append(" but recorded ").append(recorded);
+        }
+    }
+
+    /**
+     * Checks every recording in a directory, not including subdirectories.
+     *
+     * @param directory the directory holding files ending in {@value ReplayRecorder#FILE_EXTENSION}
+     * @return the report, with the recordings in file name order
+     * @throws IOException if the directory cannot be listed
+     */
+    public ReplayReport verifyDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> file.getFileName().toString().endsWith(ReplayRecorder.FILE_EXTENSION))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        return verify(files);
+    }
+
+    /**
+     * Checks a list of recordings.
+     *
+     * @param files the recordings
+     * @return the report, with the recordings in list order
+     */
+    public ReplayReport verify(List<Path> files) {
+        ReplayCheck[] checks = new ReplayCheck[files.size()];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            pool.invoke(new CheckRangeTask(files, checks, 0, checks.length));
+            long elapsed = System.nanoTime() - start;
+            return new ReplayReport(checks, parallelism, elapsed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Splits the file range in halves down to single files, so long games do not hold up a whole chunk
+    private final class CheckRangeTask extends RecursiveAction {
+        private final List<Path> files;
+        private final ReplayCheck[] checks;
+        private final int from;
+        private final int to;
+
+        CheckRangeTask(List<Path> files, ReplayCheck[] checks, int from, int to) {
+            this.files = files;
+            this.checks = checks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                checks[from] = check(files.get(from));
+            } else if (to > from) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CheckRangeTask(files, checks, from, mid),
+                        new CheckRangeTask(files, checks, mid, to));
+            }
+        }
+    }
+
+    /**
+     * Verifies a directory of recordings and prints the report, exiting with status 1 if any failed.
+     * Arguments: the directory, then the thread count (default: the number of available processors).
+     *
+     * @param args the command line arguments
+     * @throws IOException if the directory cannot be listed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayVerifier <replay directory> [threads]");
+            System.exit(2);
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ReplayReport report = new ReplayVerifier(threads).verifyDirectory(Paths.get(args[0]));
+        System.out.println(report);
+        if (!report.isAllPassed()) {
+            System.exit(1);
+        }
+    }
+}
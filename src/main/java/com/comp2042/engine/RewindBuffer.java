@@ -0,0 +1,303 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.BoardSnapshot;
+
+/**
+ * Bounded history of board snapshots for practice rewind, one per piece.
+ * <p>
+ * Only the newest snapshot is kept whole. Every older one is stored as a step back from the snapshot after it:
+ * a few packed words for the brick, hold and score fields, a mask of the rows that differ, those rows still
+ * packed, and the generator state. A lock changes a handful of rows, so a step is a fraction of a full
+ * snapshot, and going back one piece only has to apply one step.
+ * <p>
+ * Steps are written back to back into one array of longs allocated up front, so the memory cap is exact and
+ * storing a piece creates no objects beyond the snapshot itself. When the array or the piece limit is full,
+ * the oldest steps are dropped.
+ */
+public final class RewindBuffer {
+
+    /** Pieces kept when none is given. */
+    public static final int DEFAULT_MAX_PIECES = 500;
+
+    /** Memory for steps used when none is given, in bytes. */
+    public static final int DEFAULT_MAX_BYTES = 64 * 1024;
+
+    // Header words of a step: rows and types, offsets and level, score and lines
+    private static final int HEADER_WORDS = 3;
+    private static final int ROW_BITS = 12;
+    private static final long ROW_MASK = (1L << ROW_BITS) - 1;
+    private static final long BYTE_MASK = 0xFF;
+
+    private final long[] arena;
+    // Ring of step positions in the arena; the newest is at (oldest + count - 1) % length
+    private final int[] starts;
+    private final int[] lengths;
+    private int oldest;
+    private int count;
+    // Arena position just after the newest step
+    private int tail;
+    private long usedWords;
+    private BoardSnapshot latest;
+
+    /**
+     * Constructs a buffer with the default limits.
+     */
+    public RewindBuffer() {
+        this(DEFAULT_MAX_PIECES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructs a buffer.
+     *
+     * @param maxPieces how many pieces can be rewound at most
+     * @param maxBytes the memory for the steps back, in bytes; the newest snapshot is kept on top of it
+     * @throws IllegalArgumentException if maxPieces is less than 1 or maxBytes is less than one long
+     */
+    public RewindBuffer(int maxPieces, int maxBytes) {
+        if (maxPieces < 1 || maxBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Rewind limits too small: " + maxPieces + " pieces, "
+                    + maxBytes + " bytes");
+        }
+        this.arena = new long[maxBytes / Long.BYTES];
+        this.starts = new int[maxPieces];
+        this.lengths = new int[maxPieces];
+    }
+
+    /**
+     * Forgets every stored snapshot.
+     */
+    public void clear() {
+        oldest = 0;
+        count = 0;
+        tail = 0;
+        usedWords = 0;
+        latest = null;
+    }
+
+    /**
+     * Stores a snapshot as the newest, keeping the previous newest as a step back from it.
+     * A step too large for the whole memory cap is not kept, so nothing before the new snapshot can be rewound.
+     *
+     * @param snapshot a snapshot of a board of the same size as the ones stored before
+     * @throws IllegalArgumentException if the board size differs from the stored snapshots
+     */
+    public void push(BoardSnapshot snapshot) {
+        BoardSnapshot earlier = latest;
+        latest = snapshot;
+        if (earlier == null) {
+            return;
+        }
+        if (earlier.getRows() != snapshot.getRows() || earlier.getColumns() != snapshot.getColumns()
+                || snapshot.getRows() > ROW_MASK) {
+            latest = earlier;
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + " board after a " + earlier.getRows() + "x" + earlier.getColumns() + " board");
+        }
+        int wordsPerRow = BoardSnapshot.wordsPerRow(snapshot.getColumns());
+        int maskWords = maskWords(snapshot.getRows());
+        int changed = 0;
+        for (int row = earlier.getFirstRow(); row < earlier.getRows(); row++) {
+            if (rowDiffers(earlier, snapshot, row, wordsPerRow)) {
+                changed++;
+            }
+        }
+        int length = HEADER_WORDS + maskWords + changed * wordsPerRow + earlier.getGeneratorState().length;
+        if (count == starts.length) {
+            dropOldest();
+        }
+        int start = reserve(length);
+        if (start < 0) {
+            clearSteps();
+            return;
+        }
+        write(earlier, snapshot, start, changed, wordsPerRow, maskWords);
+        int index = (oldest + count) % starts.length;
+        starts[index] = start;
+        lengths[index] = length;
+        count++;
+        tail = start + length;
+        usedWords += length;
+    }
+
+    /**
+     * Gets the newest snapshot.
+     *
+     * @return the newest snapshot, or null if the buffer is empty
+     */
+    public BoardSnapshot latest() {
+        return latest;
+    }
+
+    /**
+     * Drops the newest snapshot and rebuilds the one before it, which becomes the newest.
+     *
+     * @return the snapshot before the newest, or null if there is none, in which case nothing is dropped
+     */
+    public BoardSnapshot pop() {
+        if (count == 0) {
+            return null;
+        }
+        int index = (oldest + count - 1) % starts.length;
+        BoardSnapshot previous = read(latest, starts[index]);
+        count--;
+        usedWords -= lengths[index];
+        if (count == 0) {
+            tail = 0;
+        } else {
+            int newest = (oldest + count - 1) % starts.length;
+            tail = starts[newest] + lengths[newest];
+        }
+        latest = previous;
+        return previous;
+    }
+
+    /**
+     * Gets the number of pieces that can currently be rewound.
+     *
+     * @return the number of snapshots before the newest
+     */
+    public int getRewindableCount() {
+        return count;
+    }
+
+    /**
+     * Gets the memory taken by the stored steps back.
+     *
+     * @return the size in bytes, not counting the newest snapshot
+     */
+    public long getUsedBytes() {
+        return usedWords * Long.BYTES;
+    }
+
+    /**
+     * Gets the memory available for steps back.
+     *
+     * @return the arena size in bytes
+     */
+    public int getMaxBytes() {
+        return arena.length * Long.BYTES;
+    }
+
+    /**
+     * Gets the most pieces that can be rewound.
+     *
+     * @return the piece limit
+     */
+    public int getMaxPieces() {
+        return starts.length;
+    }
+
+    // Finds room for a step after the newest one, wrapping to the start of the arena and dropping the oldest
+    // steps as needed; returns -1 if the step is larger than the arena
+    private int reserve(int length) {
+        if (length > arena.length) {
+            return -1;
+        }
+        while (count > 0) {
+            int head = starts[oldest];
+            if (tail > head) {
+                if (tail + length <= arena.length) {
+                    return tail;
+                }
+                if (length <= head) {
+                    return 0;
+                }
+            } else if (tail + length <= head) {
+                return tail;
+            }
+            dropOldest();
+        }
+        return 0;
+    }
+
+    private void dropOldest() {
+        usedWords -= lengths[oldest];
+        oldest = (oldest + 1) % starts.length;
+        count--;
+        if (count == 0) {
+            oldest = 0;
+            tail = 0;
+        }
+    }
+
+    private void clearSteps() {
+        oldest = 0;
+        count = 0;
+        tail = 0;
+        usedWords = 0;
+    }
+
+    // Packs the fields of the earlier snapshot and the rows where it differs from the later one
+    private void write(BoardSnapshot earlier, BoardSnapshot later, int start, int changed, int wordsPerRow,
+                       int maskWords) {
+        long[] generatorState = earlier.getGeneratorState();
+        arena[start] = earlier.getFirstRow()
+                | (long) changed << ROW_BITS
+                | (long) earlier.getBrickType() << 24
+                | (long) earlier.getRotation() << 32
+                | (long) earlier.getHeldType() << 40
+                | (long) generatorState.length << 48
+                | (earlier.canHold() ? 1L << 56 : 0);
+        arena[start + 1] = (earlier.getOffsetX() & 0xFFFFL) | (earlier.getOffsetY() & 0xFFFFL) << 16
+                | (long) earlier.getLevel() << 32;
+        arena[start + 2] = (earlier.getScore() & 0xFFFFFFFFL) | (long) earlier.getLines() << 32;
+        int mask = start + HEADER_WORDS;
+        for (int i = 0; i < maskWords; i++) {
+            arena[mask + i] = 0;
+        }
+        int word = mask + maskWords;
+        for (int row = earlier.getFirstRow(); row < earlier.getRows(); row++) {
+            if (rowDiffers(earlier, later, row, wordsPerRow)) {
+                arena[mask + (row >>> 6)] |= 1L << row;
+                for (int w = 0; w < wordsPerRow; w++) {
+                    arena[word++] = earlier.getRowWord(row, w);
+                }
+            }
+        }
+        System.arraycopy(generatorState, 0, arena, word, generatorState.length);
+    }
+
+    // Rebuilds the earlier snapshot from the later one and the step at the given position
+    private BoardSnapshot read(BoardSnapshot later, int start) {
+        long header = arena[start];
+        int firstRow = (int) (header & ROW_MASK);
+        int changed = (int) (header >>> ROW_BITS & ROW_MASK);
+        int rows = later.getRows();
+        int wordsPerRow = BoardSnapshot.wordsPerRow(later.getColumns());
+        int mask = start + HEADER_WORDS;
+        int word = mask + maskWords(rows);
+
+        long[] cells = new long[(rows - firstRow) * wordsPerRow];
+        int index = 0;
+        for (int row = firstRow; row < rows; row++) {
+            boolean stored = (arena[mask + (row >>> 6)] & 1L << row) != 0;
+            for (int w = 0; w < wordsPerRow; w++) {
+                cells[index++] = stored ? arena[word++] : later.getRowWord(row, w);
+            }
+        }
+        long[] generatorState = new long[(int) (header >>> 48 & BYTE_MASK)];
+        System.arraycopy(arena, mask + maskWords(rows) + changed * wordsPerRow, generatorState, 0,
+                generatorState.length);
+
+        long position = arena[start + 1];
+        long totals = arena[start + 2];
+        return new BoardSnapshot(rows, later.getColumns(), firstRow, cells,
+                (int) (header >>> 24 & BYTE_MASK), (int) (header >>> 32 & BYTE_MASK),
+                (short) position, (short) (position >>> 16), (int) (header >>> 40 & BYTE_MASK),
+                (header >>> 56 & 1) != 0, (int) totals, (int) (position >>> 32), (int) (totals >>> 32),
+                generatorState);
+    }
+
+    private static boolean rowDiffers(BoardSnapshot earlier, BoardSnapshot later, int row, int wordsPerRow) {
+        for (int w = 0; w < wordsPerRow; w++) {
+            if (earlier.getRowWord(row, w) != later.getRowWord(row, w)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int maskWords(int rows) {
+        return (rows + Long.SIZE - 1) / Long.SIZE;
+    }
+}
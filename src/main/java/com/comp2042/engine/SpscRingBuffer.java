@@ -0,0 +1,108 @@
+package com.comp2042.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread.
+ * The producer publishes an element by writing its slot and then advancing the tail with release semantics,
+ * and the consumer frees a slot the same way through the head, so neither side ever blocks or allocates.
+ * Each side caches the other side's index and only rereads it when the ring looks full or empty.
+ *
+ * @param <E> the element type
+ */
+public final class SpscRingBuffer<E> {
+
+    private final Object[] slots;
+    private final int mask;
+
+    // Next slot to read, written only by the consumer
+    private final AtomicLong head = new AtomicLong();
+    // Next slot to write, written only by the producer
+    private final AtomicLong tail = new AtomicLong();
+
+    private long cachedHead; // Producer's last view of head
+    private long cachedTail; // Consumer's last view of tail
+
+    /**
+     * Constructs an empty ring.
+     *
+     * @param capacity the number of elements it can hold, a power of two
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        slots = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an element; call only from the producer thread.
+     *
+     * @param element the element, not null
+     * @return true if it was added, false if the ring is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long t = tail.get();
+        if (t - cachedHead == slots.length) {
+            cachedHead = head.get();
+            if (t - cachedHead == slots.length) {
+                return false;
+            }
+        }
+        slots[(int) t & mask] = element;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element; call only from the consumer thread.
+     *
+     * @return the element, or null if the ring is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head.get();
+        if (h == cachedTail) {
+            cachedTail = tail.get();
+            if (h == cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        E element = (E) slots[index];
+        slots[index] = null;
+        head.lazySet(h + 1);
+        return element;
+    }
+
+    /**
+     * Gets the number of elements the ring can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets an estimate of the number of queued elements, exact when neither side is active.
+     *
+     * @return the element count
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Checks whether the ring looked empty at the time of the call.
+     *
+     * @return true if no elements were queued
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
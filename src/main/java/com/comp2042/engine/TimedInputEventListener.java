@@ -0,0 +1,90 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.DownData;
+import com.comp2042.data.ViewData;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+
+/**
+ * Input listener decorator that stamps every call for an {@link InputLatencyTracker}.
+ * The dispatch stamp is taken just before the wrapped listener runs and the model stamp just after it
+ * returns, so the model stage includes any view callbacks the listener makes while updating the board.
+ * Calls not caused by a pending key press, such as gravity, are ignored by the tracker.
+ */
+public final class TimedInputEventListener implements InputEventListener {
+
+    private final InputEventListener delegate;
+    private final InputLatencyTracker tracker;
+
+    /**
+     * Wraps a listener.
+     *
+     * @param delegate the listener that updates the game
+     * @param tracker the tracker receiving the stamps
+     */
+    public TimedInputEventListener(InputEventListener delegate, InputLatencyTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        DownData result = delegate.onDownEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        ViewData result = delegate.onLeftEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        ViewData result = delegate.onRightEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        ViewData result = delegate.onRotateEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        DownData result = delegate.onHardDropEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        ViewData result = delegate.onHoldEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        tracker.dispatched(System.nanoTime());
+        ViewData result = delegate.onRewindEvent(event);
+        tracker.modelUpdated(System.nanoTime());
+        return result;
+    }
+
+    @Override
+    public void createNewGame() {
+        delegate.createNewGame();
+    }
+}
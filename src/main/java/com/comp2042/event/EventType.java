@@ -16,6 +16,8 @@ public enum EventType {
     /** Instantly drop brick to the bottom */
     HARD_DROP, 
     /** Store or swap current brick with held brick */
-    HOLD
+    HOLD,
+    /** Take back the last locked brick in practice mode */
+    REWIND
 }
 
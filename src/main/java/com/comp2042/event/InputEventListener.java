@@ -57,6 +57,14 @@ public interface InputEventListener {
      */
     ViewData onHoldEvent(MoveEvent event);
 
+    /**
+     * Handles the rewind event, taking back the last locked brick in practice mode.
+     * 
+     * @param event the move event
+     * @return the updated view data
+     */
+    ViewData onRewindEvent(MoveEvent event);
+
     /**
      * Creates and initializes a new game.
      */
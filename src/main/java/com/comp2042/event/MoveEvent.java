@@ -3,13 +3,32 @@ package com.comp2042.event;
 /**
  * Immutable data class representing a movement or action event in the game.
  * Encapsulates the type of event and its source.
+ * One shared instance per type and source is created up front and handed out by {@link #of},
+ * so raising an event on every key press or gravity step never allocates. The game uses only the shared
+ * instances; the constructor stays available for callers that build their own events.
  */
 public final class MoveEvent {
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    // Canonical instances indexed by type, then source
+    private static final MoveEvent[] EVENTS = new MoveEvent[TYPES.length * SOURCES.length];
+
+    static {
+        for (EventType type : TYPES) {
+            for (EventSource source : SOURCES) {
+                EVENTS[indexOf(type, source)] = new MoveEvent(type, source);
+            }
+        }
+    }
+
     private final EventType eventType;
     private final EventSource eventSource;
 
     /**
      * Constructs a new MoveEvent with the specified type and source.
+     * Prefer {@link #of}, which returns a shared instance instead of allocating one.
      * 
      * @param eventType the type of event or action
      * @param eventSource the source of the event (user or thread)
@@ -19,6 +38,21 @@ public final class MoveEvent {
         this.eventSource = eventSource;
     }
 
+    /**
+     * Gets the event with the specified type and source.
+     * 
+     * @param eventType the type of event or action
+     * @param eventSource the source of the event (user or thread)
+     * @return the shared instance for that type and source
+     */
+    public static MoveEvent of(EventType eventType, EventSource eventSource) {
+        return EVENTS[indexOf(eventType, eventSource)];
+    }
+
+    private static int indexOf(EventType eventType, EventSource eventSource) {
+        return eventType.ordinal() * SOURCES.length + eventSource.ordinal();
+    }
+
     /**
      * Gets the type of the event.
      * 
@@ -36,5 +70,14 @@ public final class MoveEvent {
     public EventSource getEventSource() {
         return eventSource;
     }
-}
 
+    /**
+     * Formats the event for logs and test failures.
+     * 
+     * @return the type and source
+     */
+    @Override
+    public String toString() {
+        return eventType + "/" + eventSource;
+    }
+}
@@ -0,0 +1,500 @@
+package com.comp2042.model;
+
+import com.comp2042.data.BoardChanges;
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.ViewData;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Board implementation that stores every row of the playfield as a primitive bitmask.
+ * A parallel color plane keeps the brick colors for rendering, while collision, merge and
+ * full-row checks are done with a few AND/OR operations per row instead of cell-by-cell scans.
+ */
+public class BitBoard implements Board {
+
+    // Bitmasks use one int per row, so boards wider than this cannot be represented
+    private static final int MAX_COLUMNS = 31;
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+    // The preview panel shows at most this many upcoming bricks
+    private static final int PREVIEW_COUNT = 4;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final BrickGenerator brickGenerator;
+    private final Score score;
+
+    // Bit c of rowBits[r] is set when cell (r, c) is occupied
+    private final int[] rowBits;
+    // Color id of every cell, also returned as the board matrix
+    private final int[][] colorPlane;
+    // Background cells changed since the view last redrew them
+    private final BoardChanges changes = new BoardChanges();
+
+    private Brick currentBrick;
+    private int currentType;
+    private int rotation;
+    private int offsetX;
+    private int offsetY;
+
+    // Hold piece feature - stores the brick being held
+    private Brick heldBrick;
+    // Prevents holding/swapping multiple times per piece (standard Tetris rule)
+    private boolean canHold;
+
+    /**
+     * Constructs a new BitBoard with the specified dimensions and a random brick generator.
+     * 
+     * @param rows the number of rows on the board
+     * @param columns the number of columns on the board (at most 31)
+     */
+    public BitBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new BitBoard with the specified dimensions and brick generator.
+     * 
+     * @param rows the number of rows on the board
+     * @param columns the number of columns on the board (at most 31)
+     * @param brickGenerator the generator supplying new bricks
+     * @throws IllegalArgumentException if the board is wider than a row bitmask allows
+     */
+    public BitBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("BitBoard supports 1 to " + MAX_COLUMNS + " columns, got " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.brickGenerator = brickGenerator;
+        this.rowBits = new int[rows];
+        this.colorPlane = new int[rows][columns];
+        this.score = new Score();
+    }
+
+    /**
+     * Attempts to move the current brick down one row.
+     * 
+     * @return true if the movement was successful, false if the brick cannot move down
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMoveBrick(0, 1);
+    }
+
+    /**
+     * Attempts to move the current brick left one column.
+     * 
+     * @return true if the movement was successful, false if blocked
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMoveBrick(-1, 0);
+    }
+
+    /**
+     * Attempts to move the current brick right one column.
+     * 
+     * @return true if the movement was successful, false if blocked
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMoveBrick(1, 0);
+    }
+
+    // Attempts to move brick by offset (dx, dy), returns true if successful
+    private boolean tryMoveBrick(int dx, int dy) {
+        if (collides(rotation, offsetX + dx, offsetY + dy)) {
+            return false;
+        }
+        offsetX += dx;
+        offsetY += dy;
+        return true;
+    }
+
+    /**
+     * Attempts to rotate the current brick clockwise.
+     * 
+     * @return true if the rotation was successful, false if blocked
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = (rotation + 1) % ShapeTable.getRotationCount(currentType);
+        if (collides(nextRotation, offsetX, offsetY)) {
+            return false;
+        }
+        rotation = nextRotation;
+        return true;
+    }
+
+    /**
+     * Instantly drops the brick to the bottom position.
+     * 
+     * @return the number of rows the brick dropped
+     */
+    @Override
+    public int hardDropBrick() {
+        int initialY = offsetY;
+        offsetY = calculateGhostPosition();
+        return offsetY - initialY;
+    }
+
+    /**
+     * Creates and spawns a new brick at the top of the board.
+     * 
+     * @return true if successful, false otherwise
+     */
+    @Override
+    public boolean createNewBrick() {
+        setCurrentBrick(brickGenerator.getBrick());
+        // Reset hold ability for the new piece (one hold/swap allowed per piece)
+        canHold = true;
+        return false; // Return value maintained for interface compatibility
+    }
+
+    // Makes the given brick the falling piece at the spawn location
+    private void setCurrentBrick(Brick brick) {
+        currentBrick = brick;
+        currentType = brick.getTypeId();
+        rotation = 0;
+        offsetX = SPAWN_X;
+        offsetY = SPAWN_Y;
+    }
+
+    // Checks the piece in the given rotation at (x, y) against walls, floor and settled blocks
+    private boolean collides(int rot, int x, int y) {
+        BrickShape shape = ShapeTable.get(currentType, rot);
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int boardRow = y + r;
+            if (boardRow < 0 || boardRow >= rows) {
+                return true;
+            }
+            long shifted;
+            if (x >= 0) {
+                shifted = (long) mask << x;
+            } else {
+                // Any cell shifted past column 0 is outside the left wall
+                if ((mask & ((1 << -x) - 1)) != 0) {
+                    return true;
+                }
+                shifted = mask >>> -x;
+            }
+            if ((shifted & ~(long) fullRowMask) != 0 || (rowBits[boardRow] & shifted) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the current state of the game board matrix.
+     * 
+     * @return the board matrix
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorPlane;
+    }
+
+    /**
+     * Gets the current view data for rendering the game state.
+     * 
+     * @return the view data containing brick positions and states
+     */
+    @Override
+    public ViewData getViewData() {
+        int ghostY = calculateGhostPosition();
+
+        // Get next 4 bricks for preview
+        List<int[][]> next4Bricks = new ArrayList<>();
+        int previewCount = Math.min(brickGenerator.getPreviewSize(), PREVIEW_COUNT);
+        for (int i = 0; i < previewCount; i++) {
+            next4Bricks.add(ShapeTable.get(brickGenerator.getPreview(i).getTypeId(), 0).getMatrix());
+        }
+
+        return new ViewData(ShapeTable.get(currentType, rotation).getMatrix(), offsetX, offsetY, next4Bricks, ghostY, getHeldBrickShape());
+    }
+
+    // Calculates the Y position where the current brick would land if dropped straight down
+    private int calculateGhostPosition() {
+        int ghostY = offsetY;
+        while (!collides(rotation, offsetX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    /**
+     * Merges the current falling brick into the background board matrix.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = ShapeTable.get(currentType, rotation);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int boardRow = offsetY + shape.getCellRow(i);
+            int boardCol = offsetX + shape.getCellCol(i);
+            if (boardRow >= 0 && boardRow < rows && boardCol >= 0 && boardCol < columns) {
+                rowBits[boardRow] |= 1 << boardCol;
+                colorPlane[boardRow][boardCol] = currentType;
+                changes.markCell(boardRow, boardCol);
+            }
+        }
+    }
+
+    /**
+     * Clears all completed rows and returns information about the clearing operation.
+     * Surviving rows are compacted in place and the cleared row arrays are recycled as the new empty top rows.
+     * 
+     * @return the clear row data containing lines removed, their indices and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int fullRows = 0;
+        int stackTop = rows;
+        for (int r = 0; r < rows; r++) {
+            if (rowBits[r] == fullRowMask) {
+                fullRows++;
+            }
+            if (rowBits[r] != 0 && stackTop == rows) {
+                stackTop = r;
+            }
+        }
+        int[] clearedRows = new int[fullRows];
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (rowBits[read] == fullRowMask) {
+                // Filled from the end so the indices come out top to bottom
+                clearedRows[--fullRows] = read;
+                continue;
+            }
+            if (write != read) {
+                // Swap so the full row's array bubbles up and can be reused as an empty row
+                int[] colors = colorPlane[write];
+                colorPlane[write] = colorPlane[read];
+                colorPlane[read] = colors;
+                rowBits[write] = rowBits[read];
+            }
+            write--;
+        }
+        int linesRemoved = write + 1;
+        if (linesRemoved > 0) {
+            // Every row from the top of the stack down to the lowest cleared row shifts
+            changes.markRows(stackTop, clearedRows[linesRemoved - 1]);
+        }
+        for (int r = 0; r <= write; r++) {
+            rowBits[r] = 0;
+            Arrays.fill(colorPlane[r], 0);
+        }
+        int scoreBonus = 50 * linesRemoved * linesRemoved;
+        return new ClearRow(linesRemoved, colorPlane, scoreBonus, clearedRows);
+    }
+
+    /**
+     * Gets the background cells changed since the change set was last reset.
+     * 
+     * @return the board's change set
+     */
+    @Override
+    public BoardChanges getBackgroundChanges() {
+        return changes;
+    }
+
+    /**
+     * Gets the score tracking object for the current game.
+     * 
+     * @return the score object
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Resets the board and starts a new game.
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(rowBits, 0);
+        for (int[] row : colorPlane) {
+            Arrays.fill(row, 0);
+        }
+        changes.markAll();
+        score.reset();
+        // Reset hold piece state for new game
+        heldBrick = null;
+        canHold = true;
+        createNewBrick();
+    }
+
+    /**
+     * Checks if blocks have reached the danger line at the top of the play area.
+     * 
+     * @return true if game over condition is met, false otherwise
+     */
+    @Override
+    public boolean isDangerLineReached() {
+        // Row 2 is the top of the visible play area
+        return rowBits[2] != 0;
+    }
+
+    /**
+     * Stores or swaps the current brick with the held brick.
+     * 
+     * @return true if hold was successful, false if already used for this brick
+     */
+    @Override
+    public boolean holdCurrentBrick() {
+        if (!canHold) {
+            return false; // Already held/swapped - must wait until piece locks
+        }
+        canHold = false;
+        Brick brick = currentBrick;
+        if (heldBrick == null) {
+            // First time holding - store current piece and spawn a new random piece
+            heldBrick = brick;
+            createNewBrick(); // This will set canHold = true for the new piece
+        } else {
+            // Swap current piece with the held piece, back at the spawn location
+            Brick temp = heldBrick;
+            heldBrick = brick;
+            setCurrentBrick(temp);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     * 
+     * @return the preview depth of the brick generator
+     */
+    @Override
+    public int getPreviewCount() {
+        return brickGenerator.getPreviewSize();
+    }
+
+    /**
+     * Gets the type of an upcoming brick without advancing the brick generator.
+     * 
+     * @param index 0 for the next brick, up to {@link #getPreviewCount()} - 1
+     * @return the brick type id
+     */
+    @Override
+    public int getPreviewType(int index) {
+        return brickGenerator.getPreview(index).getTypeId();
+    }
+
+    /**
+     * Gets the Zobrist hash of the settled blocks, computed on demand from the row bitmasks.
+     * 
+     * @return the settled hash
+     */
+    @Override
+    public long getSettledHash() {
+        long hash = 0;
+        for (int r = 0; r < rows; r++) {
+            hash ^= Zobrist.rowTerm(r, Zobrist.rowContent(rowBits[r]));
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the Zobrist hash of the whole position: settled blocks, falling brick and hold state.
+     * 
+     * @return the state hash
+     */
+    @Override
+    public long getStateHash() {
+        return getSettledHash() ^ Zobrist.pieceKey(currentType, rotation, offsetX, offsetY)
+                ^ Zobrist.holdKey(heldBrick != null ? heldBrick.getTypeId() : 0, canHold);
+    }
+
+    /**
+     * Gets the shape matrix of the currently held brick.
+     * 
+     * @return the held brick shape, or null if no brick is held
+     */
+    @Override
+    public int[][] getHeldBrickShape() {
+        if (heldBrick == null) {
+            return null;
+        }
+        return ShapeTable.get(heldBrick.getTypeId(), 0).getMatrix();
+    }
+
+    /**
+     * Saves the complete game state; only the rows from the top of the stack down are packed.
+     * 
+     * @return an immutable snapshot
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        int top = stackTop();
+        return new BoardSnapshot(rows, columns, top, BoardSnapshot.packCells(colorPlane, top, columns),
+                currentType, rotation, offsetX, offsetY, heldBrick != null ? heldBrick.getTypeId() : 0, canHold,
+                score.getScore(), score.getLevel(), score.getLines(), brickGenerator.saveState());
+    }
+
+    /**
+     * Returns the board to a saved state, rebuilding the row bitmasks from the restored colors.
+     * 
+     * @param snapshot a snapshot of a board of the same size
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != rows || snapshot.getColumns() != columns) {
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + " board does not fit a " + rows + "x" + columns + " board");
+        }
+        if (!ShapeTable.isValidType(snapshot.getBrickType())
+                || (snapshot.getHeldType() != 0 && !ShapeTable.isValidType(snapshot.getHeldType()))) {
+            throw new IllegalArgumentException("Snapshot holds an invalid brick type");
+        }
+        brickGenerator.restoreState(snapshot.getGeneratorState());
+        // Only rows that hold blocks now or in the snapshot need writing
+        for (int r = Math.min(snapshot.getFirstRow(), stackTop()); r < rows; r++) {
+            int[] colors = colorPlane[r];
+            snapshot.unpackRow(r, colors);
+            int bits = 0;
+            for (int c = 0; c < columns; c++) {
+                if (colors[c] != 0) {
+                    bits |= 1 << c;
+                }
+            }
+            rowBits[r] = bits;
+        }
+        changes.markAll();
+
+        setCurrentBrick(ShapeTable.getBrick(snapshot.getBrickType()));
+        rotation = snapshot.getRotation();
+        offsetX = snapshot.getOffsetX();
+        offsetY = snapshot.getOffsetY();
+        heldBrick = snapshot.getHeldType() != 0 ? ShapeTable.getBrick(snapshot.getHeldType()) : null;
+        canHold = snapshot.canHold();
+        score.restore(snapshot.getScore(), snapshot.getLevel(), snapshot.getLines());
+    }
+
+    // Highest row holding any settled block, or the row count when the board is empty
+    private int stackTop() {
+        for (int r = 0; r < rows; r++) {
+            if (rowBits[r] != 0) {
+                return r;
+            }
+        }
+        return rows;
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.model;
 
+import com.comp2042.data.BoardChanges;
+import com.comp2042.data.BoardSnapshot;
 import com.comp2042.data.ClearRow;
 import com.comp2042.data.ViewData;
 
@@ -58,6 +60,15 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Gets the background cells changed since the change set was last reset.
+     * Merges record the cells they write, clears record the rows they shift and a new game asks for a full refresh.
+     * The same instance is returned on every call; views reset it once they have applied it.
+     * 
+     * @return the board's change set
+     */
+    BoardChanges getBackgroundChanges();
+
     /**
      * Gets the current view data for rendering the game state.
      * 
@@ -105,9 +116,58 @@ public interface Board {
     
     /**
      * Gets the shape matrix of the currently held brick.
+     * The matrix may be shared with the brick shape table and must not be modified.
      * 
      * @return the held brick shape, or null if no brick is held
      */
     int[][] getHeldBrickShape();
+
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     * 
+     * @return the preview depth of the board's brick generator
+     */
+    int getPreviewCount();
+
+    /**
+     * Gets the type of an upcoming brick without advancing the brick generator.
+     * 
+     * @param index 0 for the next brick, up to {@link #getPreviewCount()} - 1
+     * @return the brick type id
+     * @throws IndexOutOfBoundsException if index is outside the preview
+     */
+    int getPreviewType(int index);
+
+    /**
+     * Gets the {@link Zobrist} hash of the settled blocks; equal occupancy gives an equal hash on every board.
+     * 
+     * @return the settled hash
+     */
+    long getSettledHash();
+
+    /**
+     * Gets the {@link Zobrist} hash of the whole position: settled blocks, falling brick and hold state.
+     * 
+     * @return the state hash
+     */
+    long getStateHash();
+
+    /**
+     * Saves the complete game state: settled blocks, falling brick, hold state, score and generator position.
+     * 
+     * @return an immutable snapshot
+     * @throws UnsupportedOperationException if the brick generator cannot save its state
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Returns the board to a saved state and marks the whole background as changed.
+     * Score listeners are notified of the restored values.
+     * 
+     * @param snapshot a snapshot taken from a board of the same size and generator type
+     * @throws IllegalArgumentException if the snapshot is from a board of a different size or holds an invalid
+     *         brick type
+     */
+    void restore(BoardSnapshot snapshot);
 }
 
@@ -2,14 +2,19 @@ package com.comp2042.model;
 
 import com.comp2042.data.NextShapeInfo;
 import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.ShapeTable;
 
 /**
  * Manages the rotation states of Tetris bricks.
  * Handles transitioning between different rotation orientations of a brick.
+ * Shapes are read straight from the static {@link ShapeTable}, so reading them never allocates.
  */
 public class BrickRotator {
 
     private Brick brick;
+    private int type;
+    private int rotationCount;
     private int currentShape = 0;
 
     /**
@@ -18,18 +23,66 @@ public class BrickRotator {
      * @return the next shape information including the shape matrix and position index
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(ShapeTable.get(type, nextShape).getMatrix(), nextShape);
+    }
+
+    /**
+     * Gets the index of the rotation state that follows the current one.
+     * 
+     * @return the next rotation index
+     */
+    public int getNextRotation() {
+        return (currentShape + 1) % rotationCount;
     }
 
     /**
      * Gets the shape matrix for the current rotation state.
+     * The returned matrix is shared with the rotator and must not be modified.
      * 
      * @return the current shape matrix
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return ShapeTable.get(type, currentShape).getMatrix();
+    }
+
+    /**
+     * Gets the precomputed shape data for the current rotation state.
+     * 
+     * @return the current immutable brick shape
+     */
+    public BrickShape getCurrentBrickShape() {
+        return ShapeTable.get(type, currentShape);
+    }
+
+    /**
+     * Gets the shape matrix for the given rotation state.
+     * The returned matrix is shared with the rotator and must not be modified.
+     * 
+     * @param rotation the rotation state index
+     * @return the shape matrix for that rotation
+     */
+    public int[][] getShape(int rotation) {
+        return ShapeTable.get(type, rotation).getMatrix();
+    }
+
+    /**
+     * Gets the precomputed shape data for the given rotation state.
+     * 
+     * @param rotation the rotation state index
+     * @return the immutable brick shape for that rotation
+     */
+    public BrickShape getBrickShape(int rotation) {
+        return ShapeTable.get(type, rotation);
+    }
+
+    /**
+     * Gets the current rotation state index.
+     * 
+     * @return the rotation index, from 0
+     */
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     /**
@@ -48,6 +101,8 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.type = brick.getTypeId();
+        this.rotationCount = ShapeTable.getRotationCount(type);
         currentShape = 0;
     }
 
@@ -61,4 +116,3 @@ public class BrickRotator {
     }
 
 }
-
@@ -0,0 +1,260 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+
+/**
+ * Row storage for a game board, kept as a circular buffer of row arrays.
+ * Logical row 0 is the top of the board; it maps to a physical slot through a rotating head index.
+ * Removing full rows either shifts the rows above them down or the rows below them up and rotates the head,
+ * whichever moves fewer references, so a clear touches the cleared rows and the short side only.
+ * Each slot also carries a filled-cell count so full rows are found without scanning them, and a
+ * {@link Zobrist} content hash of its occupied cells that moves with the row.
+ */
+public final class RowStorage {
+
+    private final int rowCount;
+    private final int columnCount;
+    // Row arrays, their filled-cell counts and occupancy hashes by physical slot
+    private final int[][] slots;
+    private final int[] fillCounts;
+    private final long[] rowHashes;
+    // Physical slot of logical row 0
+    private int head;
+
+    // Logical-order view handed out by asMatrix(), re-threaded only when rows have moved
+    private final int[][] view;
+    private boolean viewStale;
+
+    /**
+     * Constructs an empty row storage.
+     *
+     * @param rowCount the number of rows
+     * @param columnCount the number of columns in each row
+     */
+    public RowStorage(int rowCount, int columnCount) {
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.slots = new int[rowCount][columnCount];
+        this.fillCounts = new int[rowCount];
+        this.rowHashes = new long[rowCount];
+        this.view = new int[rowCount][];
+        this.viewStale = true;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the row count
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of columns in each row.
+     *
+     * @return the column count
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    // Maps a logical row to its physical slot
+    private int slot(int row) {
+        int physical = head + row;
+        return physical >= rowCount ? physical - rowCount : physical;
+    }
+
+    /**
+     * Gets the color id of a cell.
+     *
+     * @param row the logical row, 0 being the top
+     * @param col the column
+     * @return the color id, or 0 for an empty cell
+     */
+    public int get(int row, int col) {
+        return slots[slot(row)][col];
+    }
+
+    /**
+     * Sets the color id of a cell, keeping the row's filled-cell count and hash up to date.
+     *
+     * @param row the logical row, 0 being the top
+     * @param col the column
+     * @param value the color id, or 0 to empty the cell
+     */
+    public void set(int row, int col, int value) {
+        int physical = slot(row);
+        int[] cells = slots[physical];
+        if (cells[col] == 0 && value != 0) {
+            fillCounts[physical]++;
+            rowHashes[physical] ^= Zobrist.cellKey(col);
+        } else if (cells[col] != 0 && value == 0) {
+            fillCounts[physical]--;
+            rowHashes[physical] ^= Zobrist.cellKey(col);
+        }
+        cells[col] = value;
+    }
+
+    /**
+     * Replaces every cell of a row, recounting its filled cells and rehashing it.
+     *
+     * @param row the logical row
+     * @param values the color ids, at least one per column
+     */
+    public void setRow(int row, int[] values) {
+        int physical = slot(row);
+        System.arraycopy(values, 0, slots[physical], 0, columnCount);
+        int fill = 0;
+        long hash = 0;
+        for (int col = 0; col < columnCount; col++) {
+            if (values[col] != 0) {
+                fill++;
+                hash ^= Zobrist.cellKey(col);
+            }
+        }
+        fillCounts[physical] = fill;
+        rowHashes[physical] = hash;
+    }
+
+    /**
+     * Gets the number of filled cells in a row.
+     *
+     * @param row the logical row
+     * @return the filled-cell count
+     */
+    public int getFillCount(int row) {
+        return fillCounts[slot(row)];
+    }
+
+    /**
+     * Gets the occupancy hash of a row.
+     *
+     * @param row the logical row
+     * @return the XOR of the {@link Zobrist#cellKey(int)} keys of the filled cells, 0 for an empty row
+     */
+    public long getRowHash(int row) {
+        return rowHashes[slot(row)];
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * @param row the logical row
+     * @return true if the row is full
+     */
+    public boolean isFull(int row) {
+        return fillCounts[slot(row)] == columnCount;
+    }
+
+    /**
+     * Removes full rows and inserts the same number of empty rows at the top.
+     * Rows between stackTop and the removed rows move down; rows above stackTop are assumed empty and stay put.
+     *
+     * @param removed the logical indices of the rows to remove, in ascending order
+     * @param count the number of entries of removed to use
+     * @param stackTop the highest logical row holding any filled cell
+     */
+    public void removeRows(int[] removed, int count, int stackTop) {
+        if (count == 0) {
+            return;
+        }
+        int highest = removed[0];
+        int lowest = removed[count - 1];
+        int rowsAbove = lowest - stackTop + 1;
+        int rowsBelow = rowCount - highest;
+        if (rowsAbove <= rowsBelow) {
+            shiftUpperRowsDown(lowest, stackTop);
+        } else {
+            shiftLowerRowsUp(highest);
+        }
+        viewStale = true;
+    }
+
+    // Walks up from the lowest removed row, pulling surviving rows down over the removed ones
+    // The removed row arrays bubble up to the top of the stack and are emptied there
+    private void shiftUpperRowsDown(int lowest, int stackTop) {
+        int write = lowest;
+        for (int read = lowest; read >= stackTop; read--) {
+            int readSlot = slot(read);
+            if (fillCounts[readSlot] == columnCount) {
+                continue;
+            }
+            if (write != read) {
+                swapSlots(slot(write), readSlot);
+            }
+            write--;
+        }
+        for (int row = stackTop; row <= write; row++) {
+            emptySlot(slot(row));
+        }
+    }
+
+    // Walks down from the highest removed row, pulling surviving rows up so the removed arrays collect at the bottom,
+    // then rotates the head so those arrays wrap around to become the empty top rows
+    private void shiftLowerRowsUp(int highest) {
+        int write = highest;
+        for (int read = highest; read < rowCount; read++) {
+            int readSlot = slot(read);
+            if (fillCounts[readSlot] == columnCount) {
+                continue;
+            }
+            if (write != read) {
+                swapSlots(slot(write), readSlot);
+            }
+            write++;
+        }
+        int removedCount = rowCount - write;
+        for (int row = write; row < rowCount; row++) {
+            emptySlot(slot(row));
+        }
+        head -= removedCount;
+        if (head < 0) {
+            head += rowCount;
+        }
+    }
+
+    private void swapSlots(int a, int b) {
+        int[] cells = slots[a];
+        slots[a] = slots[b];
+        slots[b] = cells;
+        int fill = fillCounts[a];
+        fillCounts[a] = fillCounts[b];
+        fillCounts[b] = fill;
+        long hash = rowHashes[a];
+        rowHashes[a] = rowHashes[b];
+        rowHashes[b] = hash;
+    }
+
+    private void emptySlot(int physical) {
+        Arrays.fill(slots[physical], 0);
+        fillCounts[physical] = 0;
+        rowHashes[physical] = 0;
+    }
+
+    /**
+     * Empties every row.
+     */
+    public void clear() {
+        for (int physical = 0; physical < rowCount; physical++) {
+            emptySlot(physical);
+        }
+    }
+
+    /**
+     * Gets the rows as a matrix in logical order, top row first.
+     * The same array is returned on every call and its row arrays are the live rows, so it must be treated
+     * as read-only and fetched again after rows are removed.
+     *
+     * @return the logical-order matrix view
+     */
+    public int[][] asMatrix() {
+        if (viewStale) {
+            for (int row = 0; row < rowCount; row++) {
+                view[row] = slots[slot(row)];
+            }
+            viewStale = false;
+        }
+        return view;
+    }
+}
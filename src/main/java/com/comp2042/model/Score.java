@@ -1,52 +1,74 @@
 package com.comp2042.model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages the game scoring system including score, level, and lines cleared.
- * Uses JavaFX properties to enable automatic UI binding and updates.
+ * Values are kept as primitive counters so the game logic runs without a UI toolkit;
+ * views observe changes through {@link ScoreListener}.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
-    private final IntegerProperty level = new SimpleIntegerProperty(1);
-    private final IntegerProperty lines = new SimpleIntegerProperty(0);
+    private int score;
+    private int level = 1;
+    private int lines;
+
+    private final List<ScoreListener> listeners = new ArrayList<>();
 
     /**
-     * Gets the score property for binding to UI components.
+     * Gets the current score.
      * 
-     * @return the score integer property
+     * @return the score
      */
-    public IntegerProperty scoreProperty() {
+    public int getScore() {
         return score;
     }
 
     /**
-     * Gets the level property for binding to UI components.
+     * Gets the current level.
      * 
-     * @return the level integer property
+     * @return the level, starting at 1
      */
-    public IntegerProperty levelProperty() {
+    public int getLevel() {
         return level;
     }
 
     /**
-     * Gets the lines property for binding to UI components.
+     * Gets the total number of lines cleared.
      * 
-     * @return the lines cleared integer property
+     * @return the lines cleared
      */
-    public IntegerProperty linesProperty() {
+    public int getLines() {
         return lines;
     }
 
+    /**
+     * Registers a listener to be notified whenever the score, level or lines change.
+     * 
+     * @param listener the listener to add
+     */
+    public void addListener(ScoreListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeListener(ScoreListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Adds points to the current score.
      * 
      * @param i the number of points to add
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        score += i;
+        fireChanged();
     }
 
     /**
@@ -55,24 +77,45 @@ public final class Score {
      * @param linesCleared the number of lines cleared
      */
     public void addLines(int linesCleared) {
-        lines.setValue(lines.getValue() + linesCleared);
+        lines += linesCleared;
         // Update level based on lines cleared (every 3 lines = new level)
         updateLevel();
+        fireChanged();
     }
 
     // Calculates and updates the level based on lines cleared
     private void updateLevel() {
-        int newLevel = (lines.getValue() / 3) + 1;
-        level.setValue(newLevel);
+        level = (lines / 3) + 1;
+    }
+
+    /**
+     * Sets all score values at once, such as when a saved game is restored.
+     * 
+     * @param score the score
+     * @param level the level
+     * @param lines the lines cleared
+     */
+    public void restore(int score, int level, int lines) {
+        this.score = score;
+        this.level = level;
+        this.lines = lines;
+        fireChanged();
     }
 
     /**
      * Resets all score values to their initial state for a new game.
      */
     public void reset() {
-        score.setValue(0);
-        level.setValue(1);
-        lines.setValue(0);
+        score = 0;
+        level = 1;
+        lines = 0;
+        fireChanged();
     }
-}
 
+    // Indexed loop so notifying listeners does not allocate an iterator
+    private void fireChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).scoreChanged(score, level, lines);
+        }
+    }
+}
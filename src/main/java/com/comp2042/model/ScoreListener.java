@@ -0,0 +1,16 @@
+package com.comp2042.model;
+
+/**
+ * Callback interface for observing changes to a {@link Score}.
+ */
+public interface ScoreListener {
+
+    /**
+     * Called after the score, level or lines cleared have changed.
+     * 
+     * @param score the current score
+     * @param level the current level
+     * @param lines the total lines cleared
+     */
+    void scoreChanged(int score, int level, int lines);
+}
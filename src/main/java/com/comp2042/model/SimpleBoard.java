@@ -1,15 +1,17 @@
 package com.comp2042.model;
 
+import com.comp2042.data.BoardChanges;
+import com.comp2042.data.BoardSnapshot;
 import com.comp2042.data.ClearRow;
-import com.comp2042.data.NextShapeInfo;
 import com.comp2042.data.ViewData;
 import com.comp2042.model.bricks.Brick;
 import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickShape;
 import com.comp2042.model.bricks.RandomBrickGenerator;
-import com.comp2042.util.MatrixOperations;
+import com.comp2042.model.bricks.ShapeTable;
 
-import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,14 +20,32 @@ import java.util.List;
  */
 public class SimpleBoard implements Board {
 
+    // The preview panel shows at most this many upcoming bricks
+    private static final int PREVIEW_COUNT = 4;
+
     private final int width;
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    // Settled blocks, stored as a ring of rows so line clears only move the rows they have to
+    private final RowStorage background;
+    // Position of the falling brick's 4x4 shape origin, kept as primitives so moves never allocate
+    private int offsetX;
+    private int offsetY;
+    // Skyline cache: row of the highest filled cell in each column, or the row count if the column is empty
+    private final int[] columnTops;
+    // Zobrist hash of the settled blocks, updated as bricks merge and rows clear
+    private long settledHash;
+    // Board rows covered by the last merged brick; only these can have become full
+    private int lastMergeTopRow;
+    private int lastMergeBottomRow = -1;
+    // Background cells changed since the view last redrew them
+    private final BoardChanges changes = new BoardChanges();
     private final Score score;
     
+    // Row buffer for restoring snapshots
+    private final int[] rowBuffer;
+
     // Hold piece feature - stores the brick being held
     private Brick heldBrick;
     // Prevents holding/swapping multiple times per piece (standard Tetris rule)
@@ -38,10 +58,24 @@ public class SimpleBoard implements Board {
      * @param height the number of columns on the board
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new SimpleBoard with the specified dimensions and brick generator.
+     * 
+     * @param width the number of rows on the board
+     * @param height the number of columns on the board
+     * @param brickGenerator the generator supplying new bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
-        currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        background = new RowStorage(width, height);
+        columnTops = new int[height];
+        Arrays.fill(columnTops, width);
+        rowBuffer = new int[height];
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -77,20 +111,13 @@ public class SimpleBoard implements Board {
     }
 
     // Attempts to move brick by offset (dx, dy), returns true if successful
+    // Collision is checked read-only against the settled rows, so no copies are made
     private boolean tryMoveBrick(int dx, int dy) {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(dx, dy);
-        
-        boolean conflict = MatrixOperations.intersect(
-            currentMatrix, 
-            brickRotator.getCurrentShape(), 
-            (int) newPosition.getX(), 
-            (int) newPosition.getY()
-        );
+        boolean conflict = intersects(brickRotator.getCurrentBrickShape(), offsetX + dx, offsetY + dy);
         
         if (!conflict) {
-            currentOffset = newPosition;
+            offsetX += dx;
+            offsetY += dy;
             return true;
         }
         return false;
@@ -103,13 +130,12 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        int nextRotation = brickRotator.getNextRotation();
+        boolean conflict = intersects(brickRotator.getBrickShape(nextRotation), offsetX, offsetY);
         if (conflict) {
             return false;
         } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            brickRotator.setCurrentShape(nextRotation);
             return true;
         }
     }
@@ -122,11 +148,11 @@ public class SimpleBoard implements Board {
     @Override
     public int hardDropBrick() {
         // Store the starting position
-        int initialY = (int) currentOffset.getY();
+        int initialY = offsetY;
         // Calculate where the brick will land (same as ghost brick position)
         int ghostY = calculateGhostPosition();
         // Instantly move the brick to the landing position
-        currentOffset.setLocation(currentOffset.getX(), ghostY);
+        offsetY = ghostY;
         // Return the distance dropped for scoring purposes
         return ghostY - initialY;
     }
@@ -141,20 +167,40 @@ public class SimpleBoard implements Board {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
         // Spawn above the visible area (y=0 is hidden, top of visible area is y=2)
-        currentOffset = new Point(4, 0);
+        resetOffsetToSpawn();
         // Reset hold ability for the new piece (one hold/swap allowed per piece)
         canHold = true;
         return false; // Return value maintained for interface compatibility
     }
 
+    // Checks the occupied cells of a shape at (x, y) against the walls, the floor and the settled blocks
+    private boolean intersects(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellRow(i);
+            int col = x + shape.getCellCol(i);
+            if (col < 0 || col >= height || row < 0 || row >= width || background.get(row, col) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Moves the falling brick back to the spawn location
+    private void resetOffsetToSpawn() {
+        offsetX = 4;
+        offsetY = 0;
+    }
+
     /**
      * Gets the current state of the game board matrix.
+     * The live rows are returned; the matrix must be treated as read-only because the board caches row fills
+     * and column heights, and should be fetched again after rows are cleared.
      * 
      * @return the board matrix
      */
     @Override
     public int[][] getBoardMatrix() {
-        return currentGameMatrix;
+        return background.asMatrix();
     }
 
     /**
@@ -168,27 +214,43 @@ public class SimpleBoard implements Board {
         
         // Get next 4 bricks for preview
         List<int[][]> next4Bricks = new ArrayList<>();
-        if (brickGenerator instanceof RandomBrickGenerator) {
-            RandomBrickGenerator randomGen = (RandomBrickGenerator) brickGenerator;
-            for (Brick brick : randomGen.getNext4Bricks()) {
-                next4Bricks.add(brick.getShapeMatrix().get(0));
-            }
+        int previewCount = Math.min(brickGenerator.getPreviewSize(), PREVIEW_COUNT);
+        for (int i = 0; i < previewCount; i++) {
+            next4Bricks.add(ShapeTable.get(brickGenerator.getPreview(i).getTypeId(), 0).getMatrix());
         }
         
         // Include held brick shape in view data so UI can display it
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), next4Bricks, ghostY, getHeldBrickShape());
+        return new ViewData(brickRotator.getCurrentShape(), offsetX, offsetY, next4Bricks, ghostY, getHeldBrickShape());
     }
 
     // Calculates the Y position where the current brick would land if dropped straight down
-    private int calculateGhostPosition() {
-        int ghostY = (int) currentOffset.getY();
-        int ghostX = (int) currentOffset.getX();
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentShape = brickRotator.getCurrentShape();
+    // Uses the skyline cache in constant time, falling back to a scan when the brick is tucked under an overhang
+    int calculateGhostPosition() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int ghostY = Integer.MAX_VALUE;
+        for (int c = 0; c < shape.getWidth(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = columnTops[offsetX + c];
+            if (offsetY + bottom >= top) {
+                // Blocks above the brick in this column, so the skyline says nothing about the gap below
+                return calculateGhostPositionByScan();
+            }
+            ghostY = Math.min(ghostY, top - 1 - bottom);
+        }
+        return ghostY;
+    }
+
+    // Finds the landing row by testing one row at a time until the next position would collide
+    int calculateGhostPositionByScan() {
+        int ghostY = offsetY;
+        BrickShape currentShape = brickRotator.getCurrentBrickShape();
         
         // Keep incrementing Y until the NEXT position would collide
         // This matches exactly how moveBrickDown works
-        while (!MatrixOperations.intersect(currentMatrix, currentShape, ghostX, ghostY + 1)) {
+        while (!intersects(currentShape, offsetX, ghostY + 1)) {
             ghostY++;
         }
         
@@ -200,20 +262,95 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        // The brick was checked against the board on every move, so its cells can be written in place
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int color = shape.getType();
+        toggleRowHashes(offsetY + shape.getMinRow(), offsetY + shape.getMaxRow());
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = offsetY + shape.getCellRow(i);
+            int col = offsetX + shape.getCellCol(i);
+            background.set(row, col, color);
+            changes.markCell(row, col);
+            // Raise the skyline wherever the brick now sits above the previous top
+            columnTops[col] = Math.min(columnTops[col], row);
+        }
+        lastMergeTopRow = offsetY + shape.getMinRow();
+        lastMergeBottomRow = offsetY + shape.getMaxRow();
+        toggleRowHashes(lastMergeTopRow, lastMergeBottomRow);
     }
 
     /**
      * Clears all completed rows and returns information about the clearing operation.
+     * Only the rows covered by the last merged brick are checked, and only the cleared rows and the shorter
+     * side of the stack around them are moved.
      * 
-     * @return the clear row data containing lines removed and score bonus
+     * @return the clear row data containing lines removed, their indices and score bonus
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int fullRows = 0;
+        for (int row = lastMergeTopRow; row <= lastMergeBottomRow; row++) {
+            if (background.isFull(row)) {
+                fullRows++;
+            }
+        }
+        int[] clearedRows = new int[fullRows];
+        if (fullRows > 0) {
+            int index = 0;
+            for (int row = lastMergeTopRow; row <= lastMergeBottomRow; row++) {
+                if (background.isFull(row)) {
+                    clearedRows[index++] = row;
+                }
+            }
+            // Every row from the top of the stack down to the lowest cleared row shifts
+            int top = stackTop();
+            toggleRowHashes(top, clearedRows[fullRows - 1]);
+            background.removeRows(clearedRows, fullRows, top);
+            toggleRowHashes(top, clearedRows[fullRows - 1]);
+            changes.markRows(top, clearedRows[fullRows - 1]);
+            updateColumnTopsAfterClear();
+        }
+        // A second call without a new merge must not report the same rows again
+        lastMergeBottomRow = -1;
+        return new ClearRow(fullRows, background.asMatrix(), 50 * fullRows * fullRows, clearedRows);
+    }
+
+    // XORs the hash terms of a range of rows into the settled hash; called before the rows change to take
+    // their old terms out and after to put the new ones in
+    private void toggleRowHashes(int fromRow, int toRow) {
+        for (int row = fromRow; row <= toRow; row++) {
+            settledHash ^= Zobrist.rowTerm(row, background.getRowHash(row));
+        }
+    }
+
+    // Highest row holding any settled block, or the row count when the board is empty
+    private int stackTop() {
+        int top = width;
+        for (int col = 0; col < height; col++) {
+            top = Math.min(top, columnTops[col]);
+        }
+        return top;
+    }
 
+    // Rows only move down when lines clear, so each column's new top is found by scanning down from the old one
+    private void updateColumnTopsAfterClear() {
+        for (int col = 0; col < height; col++) {
+            int row = columnTops[col];
+            while (row < width && background.get(row, col) == 0) {
+                row++;
+            }
+            columnTops[col] = row;
+        }
+    }
+
+    /**
+     * Gets the background cells changed since the change set was last reset.
+     * 
+     * @return the board's change set
+     */
+    @Override
+    public BoardChanges getBackgroundChanges() {
+        return changes;
     }
 
     /**
@@ -232,7 +369,11 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        background.clear();
+        settledHash = 0;
+        Arrays.fill(columnTops, width);
+        lastMergeBottomRow = -1;
+        changes.markAll();
         score.reset();
         // Reset hold piece state for new game
         heldBrick = null;
@@ -247,14 +388,8 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean isDangerLineReached() {
-        // Check if any blocks exist at row 2 (top of visible play area)
-        // Game over if blocks reach the top
-        for (int col = 0; col < height; col++) {
-            if (currentGameMatrix[2][col] != 0) {
-                return true;  // Game over - blocks have reached the top
-            }
-        }
-        return false;
+        // Game over if any block sits in row 2 (top of visible play area)
+        return background.getFillCount(2) > 0;
     }
 
     /**
@@ -282,13 +417,57 @@ public class SimpleBoard implements Board {
             Brick temp = heldBrick;
             heldBrick = currentBrick;
             brickRotator.setBrick(temp);
-            currentOffset = new Point(4, 0); // Reset position to spawn location
+            resetOffsetToSpawn(); // Reset position to spawn location
             // canHold stays false - can't swap again until this piece locks in place
         }
         
         return true;
     }
 
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     * 
+     * @return the preview depth of the brick generator
+     */
+    @Override
+    public int getPreviewCount() {
+        return brickGenerator.getPreviewSize();
+    }
+
+    /**
+     * Gets the type of an upcoming brick without advancing the brick generator.
+     * 
+     * @param index 0 for the next brick, up to {@link #getPreviewCount()} - 1
+     * @return the brick type id
+     */
+    @Override
+    public int getPreviewType(int index) {
+        return brickGenerator.getPreview(index).getTypeId();
+    }
+
+    /**
+     * Gets the Zobrist hash of the settled blocks, kept up to date as bricks merge and rows clear.
+     * 
+     * @return the settled hash
+     */
+    @Override
+    public long getSettledHash() {
+        return settledHash;
+    }
+
+    /**
+     * Gets the Zobrist hash of the whole position: settled blocks, falling brick and hold state.
+     * 
+     * @return the state hash
+     */
+    @Override
+    public long getStateHash() {
+        return settledHash
+                ^ Zobrist.pieceKey(brickRotator.getBrick().getTypeId(), brickRotator.getCurrentRotation(),
+                        offsetX, offsetY)
+                ^ Zobrist.holdKey(heldBrick != null ? heldBrick.getTypeId() : 0, canHold);
+    }
+
     /**
      * Gets the shape matrix of the currently held brick.
      * 
@@ -300,7 +479,60 @@ public class SimpleBoard implements Board {
         if (heldBrick == null) {
             return null;
         }
-        return heldBrick.getShapeMatrix().get(0);
+        return ShapeTable.get(heldBrick.getTypeId(), 0).getMatrix();
+    }
+
+    /**
+     * Saves the complete game state; only the rows from the top of the stack down are packed.
+     * 
+     * @return an immutable snapshot
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        int top = stackTop();
+        return new BoardSnapshot(width, height, top, BoardSnapshot.packCells(background.asMatrix(), top, height),
+                brickRotator.getBrick().getTypeId(), brickRotator.getCurrentRotation(), offsetX, offsetY,
+                heldBrick != null ? heldBrick.getTypeId() : 0, canHold,
+                score.getScore(), score.getLevel(), score.getLines(), brickGenerator.saveState());
+    }
+
+    /**
+     * Returns the board to a saved state, rebuilding the skyline cache from the restored rows.
+     * 
+     * @param snapshot a snapshot of a board of the same size
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != width || snapshot.getColumns() != height) {
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + " board does not fit a " + width + "x" + height + " board");
+        }
+        if (!ShapeTable.isValidType(snapshot.getBrickType())
+                || (snapshot.getHeldType() != 0 && !ShapeTable.isValidType(snapshot.getHeldType()))) {
+            throw new IllegalArgumentException("Snapshot holds an invalid brick type");
+        }
+        brickGenerator.restoreState(snapshot.getGeneratorState());
+        int top = snapshot.getFirstRow();
+        // Only rows that hold blocks now or in the snapshot need writing, and rows above the stack hash to 0
+        settledHash = 0;
+        for (int row = Math.min(top, stackTop()); row < width; row++) {
+            snapshot.unpackRow(row, rowBuffer);
+            background.setRow(row, rowBuffer);
+            settledHash ^= Zobrist.rowTerm(row, background.getRowHash(row));
+        }
+        // Rows above the snapshot's stack top are empty, so each column's top is found by scanning down from it
+        Arrays.fill(columnTops, top);
+        updateColumnTopsAfterClear();
+        lastMergeBottomRow = -1;
+        changes.markAll();
+
+        brickRotator.setBrick(ShapeTable.getBrick(snapshot.getBrickType()));
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        offsetX = snapshot.getOffsetX();
+        offsetY = snapshot.getOffsetY();
+        heldBrick = snapshot.getHeldType() != 0 ? ShapeTable.getBrick(snapshot.getHeldType()) : null;
+        canHold = snapshot.canHold();
+        score.restore(snapshot.getScore(), snapshot.getLevel(), snapshot.getLines());
     }
 }
 
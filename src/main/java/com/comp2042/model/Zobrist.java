@@ -0,0 +1,124 @@
+package com.comp2042.model;
+
+/**
+ * Zobrist keys for hashing game states, shared by the boards and the bots so equal states hash equally wherever
+ * they were built.
+ * <p>
+ * A state hash is the XOR of one key per occupied cell, the falling brick's key and the hold key, so placing or
+ * removing anything updates it with a few XORs. Cell keys are split in two so line clears stay cheap: the cells
+ * of a row XOR into a row content hash that does not depend on the row index, and the board hash XORs one term
+ * per non-empty row mixing that content with the row index. A row moving down by a clear then swaps one term for
+ * another instead of re-keying each of its cells.
+ * <p>
+ * Only occupancy is hashed, not cell colors, because colors never change how the game plays on.
+ * Keys are fixed SplitMix64 outputs, so hashes are stable across runs.
+ */
+public final class Zobrist {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long CELL_SEED = 0x2545F4914F6CDD1DL;
+    private static final long ROW_SEED = 0x5851F42D4C957F2DL;
+    private static final long PIECE_SEED = 0x14057B7EF767814FL;
+    private static final long HOLD_SEED = 0x632BE59BD9B4E019L;
+    private static final long CAN_HOLD_KEY = mix(HOLD_SEED - 1);
+    // Cell and row keys are tabulated for the usual sizes and computed beyond them
+    private static final long[] CELL_KEYS = new long[64];
+    private static final long[] ROW_KEYS = new long[64];
+    // Content hash of each byte of a row bitmask, so a 32-column row hashes in four lookups
+    private static final long[][] BYTE_CONTENTS = new long[Integer.BYTES][256];
+
+    static {
+        for (int i = 0; i < CELL_KEYS.length; i++) {
+            CELL_KEYS[i] = computeCellKey(i);
+            ROW_KEYS[i] = computeRowKey(i);
+        }
+        for (int b = 0; b < Integer.BYTES; b++) {
+            for (int bits = 1; bits < 256; bits++) {
+                int low = Integer.numberOfTrailingZeros(bits);
+                BYTE_CONTENTS[b][bits] = BYTE_CONTENTS[b][bits & (bits - 1)] ^ CELL_KEYS[b * Byte.SIZE + low];
+            }
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of an occupied cell within a row.
+     *
+     * @param col the column
+     * @return the cell key
+     */
+    public static long cellKey(int col) {
+        return col < CELL_KEYS.length ? CELL_KEYS[col] : computeCellKey(col);
+    }
+
+    /**
+     * Gets the content hash of a row from its occupancy bitmask.
+     *
+     * @param bits the row bitmask, bit c set for an occupied cell in column c
+     * @return the XOR of the keys of the occupied cells, 0 for an empty row
+     */
+    public static long rowContent(int bits) {
+        long content = 0;
+        for (int b = 0; bits != 0; b++, bits >>>= Byte.SIZE) {
+            content ^= BYTE_CONTENTS[b][bits & 0xFF];
+        }
+        return content;
+    }
+
+    /**
+     * Gets the term a row contributes to the board hash.
+     *
+     * @param row the row index
+     * @param content the row content hash
+     * @return the row term, 0 for an empty row
+     */
+    public static long rowTerm(int row, long content) {
+        if (content == 0) {
+            return 0;
+        }
+        return mix(content ^ (row < ROW_KEYS.length ? ROW_KEYS[row] : computeRowKey(row)));
+    }
+
+    /**
+     * Gets the key of the falling brick.
+     *
+     * @param type the brick type id
+     * @param rotation the rotation index
+     * @param x the column of the shape origin
+     * @param y the row of the shape origin
+     * @return the brick key
+     */
+    public static long pieceKey(int type, int rotation, int x, int y) {
+        long packed = (long) type << 48 | (long) rotation << 40 | (x & 0xFFFFFL) << 20 | (y & 0xFFFFFL);
+        return mix(PIECE_SEED ^ mix(packed));
+    }
+
+    /**
+     * Gets the key of the hold state.
+     *
+     * @param heldType the type id of the held brick, or 0 if none is held
+     * @param canHold true if the falling brick may still be held
+     * @return the hold key
+     */
+    public static long holdKey(int heldType, boolean canHold) {
+        long key = heldType == 0 ? 0 : mix(HOLD_SEED + heldType * GOLDEN_GAMMA);
+        return canHold ? key ^ CAN_HOLD_KEY : key;
+    }
+
+    private static long computeCellKey(int col) {
+        return mix(CELL_SEED + (col + 1) * GOLDEN_GAMMA);
+    }
+
+    private static long computeRowKey(int row) {
+        return mix(ROW_SEED + row * GOLDEN_GAMMA);
+    }
+
+    // SplitMix64 finalizer: a bijective mix, so distinct inputs give distinct keys
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
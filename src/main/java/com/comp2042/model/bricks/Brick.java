@@ -14,5 +14,12 @@ public interface Brick {
      * @return a list of 2D integer arrays, each representing a rotation state
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the type id of the brick, used to look up its precomputed shapes in {@link ShapeTable}.
+     * 
+     * @return the brick type id, from 1 to {@link ShapeTable#TYPE_COUNT}
+     */
+    int getTypeId();
 }
 
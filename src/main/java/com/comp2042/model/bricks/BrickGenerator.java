@@ -19,5 +19,48 @@ public interface BrickGenerator {
      * @return the brick that will appear after the current one
      */
     Brick getNextBrick();
-}
 
+    /**
+     * Gets the number of upcoming bricks that can be previewed with {@link #getPreview(int)}.
+     * 
+     * @return the preview depth
+     */
+    default int getPreviewSize() {
+        return 1;
+    }
+
+    /**
+     * Previews an upcoming brick without advancing the generator or allocating.
+     * 
+     * @param index 0 for the next brick, up to {@link #getPreviewSize()} - 1
+     * @return the upcoming brick
+     * @throws IndexOutOfBoundsException if index is outside the preview
+     */
+    default Brick getPreview(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " outside 0..0");
+        }
+        return getNextBrick();
+    }
+
+    /**
+     * Saves the generator's position in its sequence, including the preview, so it can be restored later.
+     * 
+     * @return the state, to be passed only to {@link #restoreState(long[])} of a generator of the same class
+     * @throws UnsupportedOperationException if the generator cannot save its state
+     */
+    default long[] saveState() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot save its state");
+    }
+
+    /**
+     * Returns the generator to a state saved by {@link #saveState()}.
+     * 
+     * @param state the saved state, which is not modified or kept
+     * @throws UnsupportedOperationException if the generator cannot restore its state
+     * @throws IllegalArgumentException if the state was not saved by a compatible generator
+     */
+    default void restoreState(long[] state) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot restore its state");
+    }
+}
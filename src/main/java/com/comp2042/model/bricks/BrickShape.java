@@ -0,0 +1,210 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed description of one rotation state of a brick.
+ * Besides the 4x4 shape matrix it carries the bounding box, the list of occupied cells
+ * and a column bitmask per shape row, so the board can test and place the brick without copying.
+ */
+public final class BrickShape {
+
+    private final int type;
+    private final int rotation;
+    private final int[][] matrix;
+    private final int[] rowMasks;
+    private final int[] cellRows;
+    private final int[] cellCols;
+    // Lowest occupied shape row per shape column, -1 for empty columns
+    private final int[] columnBottoms;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+
+    BrickShape(int type, int rotation, int[][] source) {
+        this.type = type;
+        this.rotation = rotation;
+        this.matrix = MatrixOperations.copy(source);
+        this.rowMasks = new int[matrix.length];
+
+        int cellCount = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    cellCount++;
+                }
+            }
+        }
+        cellRows = new int[cellCount];
+        cellCols = new int[cellCount];
+        columnBottoms = new int[matrix[0].length];
+        Arrays.fill(columnBottoms, -1);
+
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int index = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    rowMasks[r] |= 1 << c;
+                    cellRows[index] = r;
+                    cellCols[index] = c;
+                    columnBottoms[c] = r;
+                    index++;
+                    top = Math.min(top, r);
+                    bottom = Math.max(bottom, r);
+                    left = Math.min(left, c);
+                    right = Math.max(right, c);
+                }
+            }
+        }
+        minRow = top;
+        maxRow = bottom;
+        minCol = left;
+        maxCol = right;
+    }
+
+    /**
+     * Gets the brick type id, which is also the color id written into the board.
+     * 
+     * @return the brick type id
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Gets the rotation index of this shape.
+     * 
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the shape matrix. The array is shared by every caller and must not be modified.
+     * 
+     * @return the shared 4x4 shape matrix
+     */
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * Gets a private copy of the shape matrix that the caller may modify.
+     * 
+     * @return a copy of the shape matrix
+     */
+    public int[][] copyMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+
+    /**
+     * Gets the number of rows in the shape matrix.
+     * 
+     * @return the shape matrix height
+     */
+    public int getHeight() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the occupied columns of a shape row as a bitmask (bit c set for column c).
+     * 
+     * @param row the shape row
+     * @return the column bitmask of that row
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the number of occupied cells in the shape.
+     * 
+     * @return the cell count
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the shape row of an occupied cell.
+     * 
+     * @param index the cell index, from 0 to {@link #getCellCount()} - 1
+     * @return the row of that cell inside the shape matrix
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the shape column of an occupied cell.
+     * 
+     * @param index the cell index, from 0 to {@link #getCellCount()} - 1
+     * @return the column of that cell inside the shape matrix
+     */
+    public int getCellCol(int index) {
+        return cellCols[index];
+    }
+
+    /**
+     * Gets the number of columns in the shape matrix.
+     * 
+     * @return the shape matrix width
+     */
+    public int getWidth() {
+        return columnBottoms.length;
+    }
+
+    /**
+     * Gets the lowest occupied row of a shape column, which is the part of the brick that lands first.
+     * 
+     * @param col the shape column
+     * @return the bottom occupied row of that column, or -1 if the column is empty
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Gets the topmost occupied row of the shape.
+     * 
+     * @return the minimum occupied row
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Gets the bottommost occupied row of the shape.
+     * 
+     * @return the maximum occupied row
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Gets the leftmost occupied column of the shape.
+     * 
+     * @return the minimum occupied column
+     */
+    public int getMinCol() {
+        return minCol;
+    }
+
+    /**
+     * Gets the rightmost occupied column of the shape.
+     * 
+     * @return the maximum occupied column
+     */
+    public int getMaxCol() {
+        return maxCol;
+    }
+}
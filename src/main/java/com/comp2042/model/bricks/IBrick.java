@@ -1,34 +1,17 @@
 package com.comp2042.model.bricks;
 
-import com.comp2042.util.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 // straight line brick with 2 rotation states
 final class IBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
-    }
-
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return ShapeTable.copyRotations(ShapeTable.I);
     }
 
+    @Override
+    public int getTypeId() {
+        return ShapeTable.I;
+    }
 }
-
@@ -1,45 +1,17 @@
 package com.comp2042.model.bricks;
 
-import com.comp2042.util.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 // L-shaped brick with 4 rotation states
 final class LBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public LBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 3},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 3, 0},
-                {0, 0, 3, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ShapeTable.copyRotations(ShapeTable.L);
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public int getTypeId() {
+        return ShapeTable.L;
     }
 }
-
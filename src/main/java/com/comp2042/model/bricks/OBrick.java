@@ -1,28 +1,17 @@
 package com.comp2042.model.bricks;
 
-import com.comp2042.util.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 // sqaure brick with 1 rotation state
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
-
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return ShapeTable.copyRotations(ShapeTable.O);
     }
 
+    @Override
+    public int getTypeId() {
+        return ShapeTable.O;
+    }
 }
-
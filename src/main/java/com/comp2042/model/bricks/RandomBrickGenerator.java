@@ -76,6 +76,75 @@ public class RandomBrickGenerator implements BrickGenerator {
         return preview;
     }
 
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     * 
+     * @return 4, the size of the preview queue
+     */
+    @Override
+    public int getPreviewSize() {
+        return 4;
+    }
+
+    /**
+     * Previews one of the next 4 bricks without advancing the generator.
+     * 
+     * @param index 0 for the next brick, up to 3
+     * @return the upcoming brick
+     * @throws IndexOutOfBoundsException if index is outside the preview
+     */
+    @Override
+    public Brick getPreview(int index) {
+        if (index >= 0 && index < 4) {
+            int count = 0;
+            for (Brick brick : nextBricks) {
+                if (count++ == index) {
+                    return brick;
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("Preview index " + index + " outside 0..3");
+    }
+
+    /**
+     * Saves the queued bricks; the bricks drawn after them stay random.
+     * 
+     * @return the state, holding the queue length and the queued type ids
+     */
+    @Override
+    public long[] saveState() {
+        long packed = nextBricks.size();
+        int shift = 4;
+        for (Brick brick : nextBricks) {
+            packed |= (long) brick.getTypeId() << shift;
+            shift += 4;
+        }
+        return new long[]{packed};
+    }
+
+    /**
+     * Refills the queue with the bricks of a saved state.
+     * 
+     * @param state the saved state
+     * @throws IllegalArgumentException if the state was not saved by a random brick generator
+     */
+    @Override
+    public void restoreState(long[] state) {
+        if (state.length != 1) {
+            throw new IllegalArgumentException("Not a random brick generator state");
+        }
+        int count = (int) state[0] & 0xF;
+        nextBricks.clear();
+        for (int i = 1; i <= count; i++) {
+            int type = (int) (state[0] >>> (4 * i)) & 0xF;
+            if (type < 1 || type > brickList.size()) {
+                throw new IllegalArgumentException("Invalid brick type in state: " + type);
+            }
+            // The brick list is in type id order
+            nextBricks.add(brickList.get(type - 1));
+        }
+    }
+
     // Returns a random brick from the brick list
     private Brick getRandomBrick() {
         return brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
@@ -1,33 +1,17 @@
 package com.comp2042.model.bricks;
 
-import com.comp2042.util.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 // S-shaped brick with 2 rotation states
 final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public SBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 5, 5, 0},
-                {5, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {5, 0, 0, 0},
-                {5, 5, 0, 0},
-                {0, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ShapeTable.copyRotations(ShapeTable.S);
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public int getTypeId() {
+        return ShapeTable.S;
     }
 }
-
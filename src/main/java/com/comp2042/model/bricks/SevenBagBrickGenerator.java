@@ -0,0 +1,240 @@
+package com.comp2042.model.bricks;
+
+/**
+ * Implementation of BrickGenerator using the standard 7-bag randomizer.
+ * Every run of seven bricks is a shuffled set of all seven types, and the whole sequence
+ * is determined by the seed, so games can be reproduced for replays and benchmarks.
+ * Upcoming bricks are kept as type ids in a primitive ring buffer, so drawing and previewing
+ * bricks allocates nothing.
+ * The random numbers come from a SplitMix64 generator whose whole state is one long, drawing exactly the
+ * numbers {@link java.util.SplittableRandom} draws for the same seed, so the generator's position can be
+ * saved and restored in a few words.
+ */
+public class SevenBagBrickGenerator implements BrickGenerator {
+
+    /** Preview depth used when none is given, matching the four-brick preview panel. */
+    public static final int DEFAULT_PREVIEW_SIZE = 4;
+
+    // SplitMix64 increment, as used by SplittableRandom
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // Bits per type id in saved states
+    private static final int TYPE_BITS = 4;
+    private static final int TYPES_PER_WORD = Long.SIZE / TYPE_BITS;
+    private static final int STATE_HEADER_WORDS = 3;
+
+    private final int previewSize;
+    private final int[] bag = new int[ShapeTable.TYPE_COUNT];
+    private int bagIndex;
+    // Upcoming type ids; upcoming[head] is the next brick returned by getBrick()
+    private final int[] upcoming;
+    private int head;
+
+    private long seed;
+    private long randomState;
+
+    /**
+     * Constructs a 7-bag generator with the default preview depth.
+     * 
+     * @param seed the seed that determines the whole brick sequence
+     */
+    public SevenBagBrickGenerator(long seed) {
+        this(seed, DEFAULT_PREVIEW_SIZE);
+    }
+
+    /**
+     * Constructs a 7-bag generator.
+     * 
+     * @param seed the seed that determines the whole brick sequence
+     * @param previewSize how many upcoming bricks can be previewed, at least 1
+     * @throws IllegalArgumentException if previewSize is less than 1
+     */
+    public SevenBagBrickGenerator(long seed, int previewSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("Preview size must be at least 1, got " + previewSize);
+        }
+        this.previewSize = previewSize;
+        this.upcoming = new int[previewSize];
+        reset(seed);
+    }
+
+    /**
+     * Restarts the sequence from a new seed, discarding the current bag and preview.
+     * 
+     * @param seed the seed that determines the new brick sequence
+     */
+    public void reset(long seed) {
+        this.seed = seed;
+        this.randomState = seed;
+        bagIndex = bag.length;
+        head = 0;
+        for (int i = 0; i < previewSize; i++) {
+            upcoming[i] = nextFromBag();
+        }
+    }
+
+    /**
+     * Gets the seed the current sequence was started from.
+     * 
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    // Draws the next type id from the bag, shuffling a fresh bag when the current one is used up
+    private int nextFromBag() {
+        if (bagIndex == bag.length) {
+            for (int i = 0; i < bag.length; i++) {
+                bag[i] = i + 1;
+            }
+            // Fisher-Yates shuffle
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                int swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            bagIndex = 0;
+        }
+        return bag[bagIndex++];
+    }
+
+    // Uniform int in [0, bound), drawn the way SplittableRandom.nextInt(bound) draws it
+    private int nextInt(int bound) {
+        int r = nextRandomInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextRandomInt() >>> 1) {
+            // Rejects the few values that would bias the result
+        }
+        return r;
+    }
+
+    private int nextRandomInt() {
+        randomState += GOLDEN_GAMMA;
+        long z = randomState;
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    /**
+     * Saves the seed, the random number state, the current bag and the preview.
+     * 
+     * @return the state
+     */
+    @Override
+    public long[] saveState() {
+        long[] state = new long[STATE_HEADER_WORDS + (previewSize + TYPES_PER_WORD - 1) / TYPES_PER_WORD];
+        state[0] = seed;
+        state[1] = randomState;
+        long packedBag = bagIndex;
+        for (int i = 0; i < bag.length; i++) {
+            packedBag |= (long) bag[i] << (TYPE_BITS * (i + 1));
+        }
+        state[2] = packedBag;
+        for (int i = 0; i < previewSize; i++) {
+            state[STATE_HEADER_WORDS + i / TYPES_PER_WORD] |=
+                    (long) getPreviewTypeId(i) << (TYPE_BITS * (i % TYPES_PER_WORD));
+        }
+        return state;
+    }
+
+    /**
+     * Returns to a state saved by a 7-bag generator with the same preview depth.
+     * 
+     * @param state the saved state
+     * @throws IllegalArgumentException if the state does not fit this generator's preview depth or holds an
+     *         invalid brick type
+     */
+    @Override
+    public void restoreState(long[] state) {
+        if (state.length != STATE_HEADER_WORDS + (previewSize + TYPES_PER_WORD - 1) / TYPES_PER_WORD) {
+            throw new IllegalArgumentException("State does not match a preview of " + previewSize);
+        }
+        seed = state[0];
+        randomState = state[1];
+        long packedBag = state[2];
+        int typeMask = (1 << TYPE_BITS) - 1;
+        bagIndex = (int) packedBag & typeMask;
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = (int) (packedBag >>> (TYPE_BITS * (i + 1))) & typeMask;
+        }
+        head = 0;
+        for (int i = 0; i < previewSize; i++) {
+            upcoming[i] = (int) (state[STATE_HEADER_WORDS + i / TYPES_PER_WORD] >>> (TYPE_BITS * (i % TYPES_PER_WORD)))
+                    & typeMask;
+            checkType(upcoming[i]);
+        }
+        for (int i = bagIndex; i < bag.length; i++) {
+            checkType(bag[i]);
+        }
+    }
+
+    // Type ids are checked here, once, so getBrick can look bricks up without checking
+    private static void checkType(int type) {
+        if (!ShapeTable.isValidType(type)) {
+            throw new IllegalArgumentException("Invalid brick type in state: " + type);
+        }
+    }
+
+    /**
+     * Gets the next brick in the sequence and advances the generator.
+     * 
+     * @return the next brick to be used in the game
+     */
+    @Override
+    public Brick getBrick() {
+        int type = upcoming[head];
+        upcoming[head] = nextFromBag();
+        head = head + 1 == previewSize ? 0 : head + 1;
+        return ShapeTable.getBrick(type);
+    }
+
+    /**
+     * Previews the next brick without advancing the generator.
+     * 
+     * @return the brick that will appear after the current one
+     */
+    @Override
+    public Brick getNextBrick() {
+        return getPreview(0);
+    }
+
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     * 
+     * @return the preview depth
+     */
+    @Override
+    public int getPreviewSize() {
+        return previewSize;
+    }
+
+    /**
+     * Previews an upcoming brick without advancing the generator.
+     * 
+     * @param index 0 for the next brick, up to {@link #getPreviewSize()} - 1
+     * @return the upcoming brick
+     */
+    @Override
+    public Brick getPreview(int index) {
+        return ShapeTable.getBrick(getPreviewTypeId(index));
+    }
+
+    /**
+     * Previews the type id of an upcoming brick without advancing the generator.
+     * 
+     * @param index 0 for the next brick, up to {@link #getPreviewSize()} - 1
+     * @return the type id of the upcoming brick
+     * @throws IndexOutOfBoundsException if index is outside the preview
+     */
+    public int getPreviewTypeId(int index) {
+        if (index < 0 || index >= previewSize) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " outside 0.." + (previewSize - 1));
+        }
+        int slot = head + index;
+        return upcoming[slot >= previewSize ? slot - previewSize : slot];
+    }
+}
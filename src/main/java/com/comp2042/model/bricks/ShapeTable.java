@@ -0,0 +1,230 @@
+package com.comp2042.model.bricks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Static table of every brick type and rotation state, built once when the class loads.
+ * Type ids double as the color ids written into the board matrix.
+ */
+public final class ShapeTable {
+
+    /** Type id of the straight line brick. */
+    public static final int I = 1;
+    /** Type id of the J-shaped brick. */
+    public static final int J = 2;
+    /** Type id of the L-shaped brick. */
+    public static final int L = 3;
+    /** Type id of the square brick. */
+    public static final int O = 4;
+    /** Type id of the S-shaped brick. */
+    public static final int S = 5;
+    /** Type id of the T-shaped brick. */
+    public static final int T = 6;
+    /** Type id of the Z-shaped brick. */
+    public static final int Z = 7;
+
+    /** Number of brick types; valid type ids run from 1 to this value. */
+    public static final int TYPE_COUNT = 7;
+
+    // SHAPES[type][rotation], index 0 unused so type ids can be used directly
+    private static final BrickShape[][] SHAPES = new BrickShape[TYPE_COUNT + 1][];
+
+    // One shared brick per type, indexed the same way
+    private static final Brick[] BRICKS = {
+            null, new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    static {
+        register(I,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {1, 1, 1, 1},
+                        {0, 0, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 1, 0, 0},
+                        {0, 1, 0, 0},
+                        {0, 1, 0, 0},
+                        {0, 1, 0, 0}
+                });
+        register(J,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {2, 2, 2, 0},
+                        {0, 0, 2, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 2, 2, 0},
+                        {0, 2, 0, 0},
+                        {0, 2, 0, 0}
+                },
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 2, 0, 0},
+                        {0, 2, 2, 2},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 0, 2, 0},
+                        {0, 0, 2, 0},
+                        {0, 2, 2, 0},
+                        {0, 0, 0, 0}
+                });
+        register(L,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 3, 3, 3},
+                        {0, 3, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 3, 3, 0},
+                        {0, 0, 3, 0},
+                        {0, 0, 3, 0}
+                },
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 0, 3, 0},
+                        {3, 3, 3, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 3, 0, 0},
+                        {0, 3, 0, 0},
+                        {0, 3, 3, 0},
+                        {0, 0, 0, 0}
+                });
+        register(O,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 4, 4, 0},
+                        {0, 4, 4, 0},
+                        {0, 0, 0, 0}
+                });
+        register(S,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 5, 5, 0},
+                        {5, 5, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {5, 0, 0, 0},
+                        {5, 5, 0, 0},
+                        {0, 5, 0, 0},
+                        {0, 0, 0, 0}
+                });
+        register(T,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {6, 6, 6, 0},
+                        {0, 6, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 6, 0, 0},
+                        {0, 6, 6, 0},
+                        {0, 6, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 6, 0, 0},
+                        {6, 6, 6, 0},
+                        {0, 0, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 6, 0, 0},
+                        {6, 6, 0, 0},
+                        {0, 6, 0, 0},
+                        {0, 0, 0, 0}
+                });
+        register(Z,
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {7, 7, 0, 0},
+                        {0, 7, 7, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 7, 0, 0},
+                        {7, 7, 0, 0},
+                        {7, 0, 0, 0},
+                        {0, 0, 0, 0}
+                });
+    }
+
+    private ShapeTable() {
+
+    }
+
+    private static void register(int type, int[][]... rotations) {
+        BrickShape[] shapes = new BrickShape[rotations.length];
+        for (int i = 0; i < rotations.length; i++) {
+            shapes[i] = new BrickShape(type, i, rotations[i]);
+        }
+        SHAPES[type] = shapes;
+    }
+
+    /**
+     * Gets the precomputed shape of a brick type in the given rotation.
+     * 
+     * @param type the brick type id, from 1 to {@link #TYPE_COUNT}
+     * @param rotation the rotation index, from 0 to {@link #getRotationCount(int)} - 1
+     * @return the shared immutable shape
+     */
+    public static BrickShape get(int type, int rotation) {
+        return SHAPES[type][rotation];
+    }
+
+    /**
+     * Gets the shared brick of a type, for code that stores bricks as type ids.
+     * Like {@link #get(int, int)} this sits on the spawn path and does not check the type id; type ids read
+     * from saved states are checked with {@link #isValidType(int)} when they are restored.
+     * 
+     * @param type the brick type id, from 1 to {@link #TYPE_COUNT}
+     * @return the shared brick
+     */
+    public static Brick getBrick(int type) {
+        return BRICKS[type];
+    }
+
+    /**
+     * Checks whether a number is a brick type id.
+     * 
+     * @param type the number to check
+     * @return true if it is from 1 to {@link #TYPE_COUNT}
+     */
+    public static boolean isValidType(int type) {
+        return type >= 1 && type <= TYPE_COUNT;
+    }
+
+    /**
+     * Gets the number of distinct rotation states of a brick type.
+     * 
+     * @param type the brick type id
+     * @return the rotation count
+     */
+    public static int getRotationCount(int type) {
+        return SHAPES[type].length;
+    }
+
+    /**
+     * Builds fresh copies of all rotation matrices of a brick type, for callers that want to own them.
+     * 
+     * @param type the brick type id
+     * @return a new list with one copied matrix per rotation
+     */
+    public static List<int[][]> copyRotations(int type) {
+        List<int[][]> copies = new ArrayList<>(SHAPES[type].length);
+        for (BrickShape shape : SHAPES[type]) {
+            copies.add(shape.copyMatrix());
+        }
+        return copies;
+    }
+}
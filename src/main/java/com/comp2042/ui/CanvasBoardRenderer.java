@@ -0,0 +1,317 @@
+package com.comp2042.ui;
+
+import com.comp2042.data.ViewData;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.transform.Scale;
+
+import java.util.List;
+
+/**
+ * Draws the game board, falling brick, ghost and the hold and next panels onto a single Canvas.
+ * Used instead of the Rectangle node grids when the canvas render mode is selected.
+ * Updates only record the latest state; an animation timer repaints the canvas at most once per frame,
+ * and only when something changed since the last paint.
+ */
+public class CanvasBoardRenderer {
+
+    private static final int HIDDEN_ROWS = 2; // Spawn rows above the visible board
+    private static final int PREVIEW_CELLS = 4;
+    private static final int PREVIEW_COUNT = 4;
+    private static final double DIMMED_ALPHA = 0.3;
+    private static final double GHOST_ALPHA = 0.6;
+
+    // Hold and next panel geometry, matching the node panels (2px border, 5px padding, 97px wide)
+    private static final double PANEL_WIDTH = 97;
+    private static final double PANEL_INSET = 7;
+    private static final double LABEL_HEIGHT = 17;
+    private static final double LABEL_SPACING = 5;
+    private static final double PREVIEW_GAP = 8;
+
+    private static final Color PANEL_FILL = Color.rgb(50, 50, 50, 0.7);
+    private static final Color PANEL_BORDER = Color.rgb(100, 150, 200, 0.8);
+    private static final Font LABEL_FONT = Font.font("Arial", FontWeight.BOLD, 14);
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final Scale inverseScale = new Scale(1, 1, 0, 0);
+    private final double baseWidth;
+    private final double baseHeight;
+    private final int cellSize;
+    private final int cellPitch;
+
+    // Pixels per base unit, so the canvas is painted at window resolution instead of being stretched
+    private double scaleX = 1;
+    private double scaleY = 1;
+
+    // Top-left corners in base coordinates: first visible board row, hold container and next container
+    private double boardX;
+    private double boardY;
+    private double holdX;
+    private double holdY;
+    private double nextX;
+    private double nextY;
+
+    private int[][] boardMatrix;
+    private ViewData brick;
+    private boolean gameOver;
+    private boolean dirty = true;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (dirty) {
+                dirty = false;
+                paint();
+            }
+        }
+    };
+
+    /**
+     * Constructs a renderer whose canvas covers the whole unscaled game area.
+     *
+     * @param baseWidth the unscaled width of the game area
+     * @param baseHeight the unscaled height of the game area
+     * @param cellSize the size of one cell, not counting the 1px gap between cells
+     */
+    public CanvasBoardRenderer(double baseWidth, double baseHeight, int cellSize) {
+        this.baseWidth = baseWidth;
+        this.baseHeight = baseHeight;
+        this.cellSize = cellSize;
+        this.cellPitch = cellSize + 1;
+        canvas = new Canvas(baseWidth, baseHeight);
+        canvas.setMouseTransparent(true);
+        canvas.getTransforms().add(inverseScale);
+        graphics = canvas.getGraphicsContext2D();
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.TOP);
+        graphics.setFont(LABEL_FONT);
+    }
+
+    /**
+     * Gets the canvas this renderer paints onto.
+     *
+     * @return the canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Sets how many pixels one base unit covers on screen.
+     * The canvas is resized to match and counter-scaled, so drawing stays sharp on large windows.
+     *
+     * @param scaleX the horizontal scale applied to the game area
+     * @param scaleY the vertical scale applied to the game area
+     */
+    public void setPixelScale(double scaleX, double scaleY) {
+        if (scaleX <= 0 || scaleY <= 0) {
+            return;
+        }
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+        canvas.setWidth(Math.ceil(baseWidth * scaleX));
+        canvas.setHeight(Math.ceil(baseHeight * scaleY));
+        inverseScale.setX(1 / scaleX);
+        inverseScale.setY(1 / scaleY);
+        dirty = true;
+    }
+
+    /**
+     * Sets where the board and the side panels are drawn.
+     *
+     * @param boardX the x coordinate of the first visible board cell
+     * @param boardY the y coordinate of the first visible board cell
+     * @param holdX the x coordinate of the hold panel label
+     * @param holdY the y coordinate of the hold panel label
+     * @param nextX the x coordinate of the next panel label
+     * @param nextY the y coordinate of the next panel label
+     */
+    public void setLayout(double boardX, double boardY, double holdX, double holdY, double nextX, double nextY) {
+        if (boardX != this.boardX || boardY != this.boardY || holdX != this.holdX
+                || holdY != this.holdY || nextX != this.nextX || nextY != this.nextY) {
+            this.boardX = boardX;
+            this.boardY = boardY;
+            this.holdX = holdX;
+            this.holdY = holdY;
+            this.nextX = nextX;
+            this.nextY = nextY;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Records the board to draw on the next frame.
+     *
+     * @param boardMatrix the board matrix, including the hidden spawn rows
+     */
+    public void setBoard(int[][] boardMatrix) {
+        this.boardMatrix = boardMatrix;
+        dirty = true;
+    }
+
+    /**
+     * Records the falling brick, its ghost and the hold and next pieces to draw on the next frame.
+     *
+     * @param brick the brick view data
+     */
+    public void setBrick(ViewData brick) {
+        this.brick = brick;
+        dirty = true;
+    }
+
+    /**
+     * Sets whether the game is over, which dims the board and hides the falling brick and its ghost.
+     *
+     * @param gameOver true if the game is over
+     */
+    public void setGameOver(boolean gameOver) {
+        this.gameOver = gameOver;
+        dirty = true;
+    }
+
+    /**
+     * Starts repainting on animation frames.
+     */
+    public void start() {
+        dirty = true;
+        timer.start();
+    }
+
+    /**
+     * Stops repainting, used while the canvas is hidden.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    // Paints everything in one pass, in base coordinates scaled up to canvas pixels
+    private void paint() {
+        graphics.setTransform(scaleX, 0, 0, scaleY, 0, 0);
+        graphics.clearRect(0, 0, baseWidth, baseHeight);
+
+        if (boardMatrix != null) {
+            graphics.setGlobalAlpha(gameOver ? DIMMED_ALPHA : 1.0);
+            drawBoard();
+            graphics.setGlobalAlpha(1.0);
+        }
+
+        if (brick != null && !gameOver) {
+            drawGhost();
+            drawFallingBrick();
+        }
+
+        drawHoldPanel();
+        drawNextPanel();
+    }
+
+    private void drawBoard() {
+        graphics.setLineWidth(0.5);
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            int[] row = boardMatrix[i];
+            double y = boardY + (i - HIDDEN_ROWS) * cellPitch;
+            for (int j = 0; j < row.length; j++) {
+                double x = boardX + j * cellPitch;
+                if (row[j] != 0) {
+                    drawBlock(row[j], x, y);
+                } else {
+                    graphics.setFill(CellPalette.EMPTY_FILL);
+                    graphics.fillRect(x, y, cellSize, cellSize);
+                    graphics.setStroke(CellPalette.EMPTY_STROKE);
+                    graphics.strokeRect(x + 0.25, y + 0.25, cellSize - 0.5, cellSize - 0.5);
+                }
+            }
+        }
+    }
+
+    private void drawFallingBrick() {
+        double originX = boardX + brick.getxPosition() * cellPitch;
+        double originY = boardY + (brick.getyPosition() - HIDDEN_ROWS) * cellPitch;
+        drawShape(brick.getBrickData(), originX, originY);
+    }
+
+    // Outlines the cells the brick would occupy after a hard drop
+    private void drawGhost() {
+        int[][] shape = brick.getBrickData();
+        double originX = boardX + brick.getxPosition() * cellPitch;
+        double originY = boardY + (brick.getGhostYPosition() - HIDDEN_ROWS) * cellPitch;
+        graphics.setGlobalAlpha(GHOST_ALPHA);
+        graphics.setStroke(CellPalette.GHOST_STROKE);
+        graphics.setLineWidth(2);
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    graphics.strokeRoundRect(originX + j * cellPitch + 1, originY + i * cellPitch + 1,
+                            cellSize - 2, cellSize - 2, CellPalette.BLOCK_ARC, CellPalette.BLOCK_ARC);
+                }
+            }
+        }
+        graphics.setGlobalAlpha(1.0);
+    }
+
+    private void drawHoldPanel() {
+        double panelY = drawPanel("HOLD", holdX, holdY, 1);
+        if (brick != null) {
+            drawShape(brick.getHeldBrickData(), holdX + PANEL_INSET, panelY + PANEL_INSET);
+        }
+    }
+
+    private void drawNextPanel() {
+        double panelY = drawPanel("NEXT", nextX, nextY, PREVIEW_COUNT);
+        if (brick == null || brick.getNext4BricksData() == null) {
+            return;
+        }
+        List<int[][]> next = brick.getNext4BricksData();
+        // Each preview is a 4x4 grid followed by a gap row, with the 1px grid gap around the gap row too
+        double previewPitch = PREVIEW_CELLS * cellPitch + PREVIEW_GAP + 1;
+        for (int index = 0; index < PREVIEW_COUNT && index < next.size(); index++) {
+            drawShape(next.get(index), nextX + PANEL_INSET, panelY + PANEL_INSET + index * previewPitch);
+        }
+    }
+
+    // Draws a labelled panel holding the given number of 4x4 previews and returns the panel's top edge
+    private double drawPanel(String label, double x, double y, int previews) {
+        graphics.setFill(Color.WHITE);
+        graphics.fillText(label, x + PANEL_WIDTH / 2, y);
+
+        double panelY = y + LABEL_HEIGHT + LABEL_SPACING;
+        double gridHeight = PREVIEW_CELLS * cellPitch - 1;
+        double contentHeight = previews * gridHeight + (previews - 1) * (PREVIEW_GAP + 2);
+        double panelHeight = contentHeight + 2 * PANEL_INSET;
+        graphics.setFill(PANEL_FILL);
+        graphics.fillRect(x, panelY, PANEL_WIDTH, panelHeight);
+        graphics.setStroke(PANEL_BORDER);
+        graphics.setLineWidth(2);
+        graphics.strokeRect(x + 1, panelY + 1, PANEL_WIDTH - 2, panelHeight - 2);
+        return panelY;
+    }
+
+    // Draws the filled cells of a shape with its top-left cell at the given position
+    private void drawShape(int[][] shape, double originX, double originY) {
+        if (shape == null) {
+            return;
+        }
+        graphics.setLineWidth(0.5);
+        for (int i = 0; i < shape.length && i < PREVIEW_CELLS; i++) {
+            for (int j = 0; j < shape[i].length && j < PREVIEW_CELLS; j++) {
+                if (shape[i][j] != 0) {
+                    drawBlock(shape[i][j], originX + j * cellPitch, originY + i * cellPitch);
+                }
+            }
+        }
+    }
+
+    // Draws one colored block with rounded corners and a faint inner outline
+    private void drawBlock(int color, double x, double y) {
+        graphics.setFill(CellPalette.getBlockFill(color));
+        graphics.fillRoundRect(x, y, cellSize, cellSize, CellPalette.BLOCK_ARC, CellPalette.BLOCK_ARC);
+        graphics.setStroke(CellPalette.BLOCK_STROKE);
+        graphics.strokeRoundRect(x + 0.25, y + 0.25, cellSize - 0.5, cellSize - 0.5, CellPalette.BLOCK_ARC, CellPalette.BLOCK_ARC);
+    }
+}
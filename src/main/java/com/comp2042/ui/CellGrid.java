@@ -0,0 +1,167 @@
+package com.comp2042.ui;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+
+/**
+ * A grid of Rectangle cells that remembers which color id each cell shows.
+ * Setting a cell to the color it already shows returns without touching the Rectangle, so refreshing
+ * a mostly unchanged grid costs an int comparison per cell instead of several property writes.
+ */
+public final class CellGrid {
+
+    /**
+     * How the cells of a grid are styled.
+     */
+    public enum Style {
+        /** Game board cells, drawn with a gridline when empty */
+        BOARD,
+
+        /** Falling brick, hold and next cells, transparent when empty */
+        PREVIEW,
+
+        /** Ghost cells, an outline only where the brick has a block */
+        GHOST
+    }
+
+    private final Rectangle[][] cells;
+    private final int[][] shown;
+    private final Style style;
+
+    /**
+     * Constructs a grid of empty cells.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param cellSize the width and height of a cell
+     * @param style how the cells are styled
+     */
+    public CellGrid(int rows, int columns, double cellSize, Style style) {
+        this.cells = new Rectangle[rows][columns];
+        this.shown = new int[rows][columns];
+        this.style = style;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                cells[i][j] = createCell(cellSize);
+            }
+        }
+    }
+
+    // Creates a cell already styled for color id 0; stroke width and type never change afterwards
+    private Rectangle createCell(double cellSize) {
+        Rectangle rectangle = new Rectangle(cellSize, cellSize);
+        rectangle.setStrokeType(StrokeType.INSIDE);  // Keep stroke inside to maintain consistent cell size
+        switch (style) {
+            case BOARD:
+                rectangle.setFill(CellPalette.EMPTY_FILL);
+                rectangle.setStroke(CellPalette.EMPTY_STROKE);
+                rectangle.setStrokeWidth(0.5);
+                break;
+            case PREVIEW:
+                rectangle.setFill(Color.TRANSPARENT);
+                rectangle.setStroke(null);
+                rectangle.setStrokeWidth(0.5);
+                break;
+            case GHOST:
+                rectangle.setFill(Color.TRANSPARENT);  // Transparent fill for outline only
+                rectangle.setStroke(Color.TRANSPARENT);
+                rectangle.setStrokeWidth(2);
+                rectangle.setArcHeight(CellPalette.BLOCK_ARC);  // Match the rounded corners of actual blocks
+                rectangle.setArcWidth(CellPalette.BLOCK_ARC);
+                rectangle.setOpacity(0.6);
+                break;
+        }
+        return rectangle;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the row count
+     */
+    public int getRowCount() {
+        return cells.length;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the column count
+     */
+    public int getColumnCount() {
+        return cells[0].length;
+    }
+
+    /**
+     * Gets the Rectangle of a cell, for adding it to a layout.
+     *
+     * @param row the row
+     * @param column the column
+     * @return the cell's Rectangle
+     */
+    public Rectangle getCell(int row, int column) {
+        return cells[row][column];
+    }
+
+    /**
+     * Gets the color id a cell currently shows.
+     *
+     * @param row the row
+     * @param column the column
+     * @return the shown color id
+     */
+    public int getShownColor(int row, int column) {
+        return shown[row][column];
+    }
+
+    /**
+     * Shows a color id in a cell, skipping the Rectangle entirely if it already shows that color.
+     *
+     * @param row the row
+     * @param column the column
+     * @param colorId the color id, or 0 for an empty cell
+     */
+    public void set(int row, int column, int colorId) {
+        if (shown[row][column] == colorId) {
+            return;
+        }
+        shown[row][column] = colorId;
+        Rectangle rectangle = cells[row][column];
+        switch (style) {
+            case BOARD:
+                rectangle.setFill(CellPalette.getBoardFill(colorId));
+                rectangle.setStroke(CellPalette.getBoardStroke(colorId));
+                setArc(rectangle, colorId);
+                break;
+            case PREVIEW:
+                rectangle.setFill(CellPalette.getBlockFill(colorId));
+                rectangle.setStroke(CellPalette.getPreviewStroke(colorId));
+                setArc(rectangle, colorId);
+                break;
+            case GHOST:
+                rectangle.setStroke(CellPalette.getGhostStroke(colorId));
+                break;
+        }
+    }
+
+    private static void setArc(Rectangle rectangle, int colorId) {
+        double arc = CellPalette.getArc(colorId);
+        rectangle.setArcHeight(arc);
+        rectangle.setArcWidth(arc);
+    }
+
+    /**
+     * Shows a shape in the grid, clearing every cell the shape does not cover.
+     *
+     * @param shape the shape matrix, or null to clear the grid
+     */
+    public void setAll(int[][] shape) {
+        for (int i = 0; i < cells.length; i++) {
+            for (int j = 0; j < cells[i].length; j++) {
+                boolean inside = shape != null && i < shape.length && j < shape[i].length;
+                set(i, j, inside ? shape[i][j] : 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.comp2042.ui;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Precomputed fills and strokes for every brick color id.
+ * Built once when the class loads, so redrawing cells looks colors up in a table instead of creating them.
+ * Board cells show a gridline when empty, preview cells are fully transparent when empty, and ghost cells
+ * only carry an outline.
+ */
+public final class CellPalette {
+
+    /** Corner arc of a filled block */
+    public static final double BLOCK_ARC = 9;
+
+    /** Fill of an empty board cell */
+    public static final Color EMPTY_FILL = Color.rgb(25, 40, 70, 0.4);
+
+    /** Gridline around an empty board cell */
+    public static final Color EMPTY_STROKE = Color.rgb(45, 65, 100, 0.5);
+
+    /** Faint outline around a filled block */
+    public static final Color BLOCK_STROKE = Color.rgb(255, 255, 255, 0.3);
+
+    /** Outline of a ghost cell */
+    public static final Color GHOST_STROKE = Color.LIGHTGRAY;
+
+    // Fill for color ids 0 to 7; any other id is drawn white
+    private static final Color[] BLOCK_FILLS = {
+            Color.TRANSPARENT,
+            Color.AQUA,
+            Color.BLUEVIOLET,
+            Color.DARKGREEN,
+            Color.YELLOW,
+            Color.RED,
+            Color.BEIGE,
+            Color.BURLYWOOD
+    };
+    private static final Color UNKNOWN_FILL = Color.WHITE;
+
+    private CellPalette() {
+    }
+
+    /**
+     * Gets the fill of a block, transparent for an empty cell.
+     *
+     * @param colorId the color id
+     * @return the block fill
+     */
+    public static Color getBlockFill(int colorId) {
+        return colorId >= 0 && colorId < BLOCK_FILLS.length ? BLOCK_FILLS[colorId] : UNKNOWN_FILL;
+    }
+
+    /**
+     * Gets the fill of a board cell, which shows the gridline background when empty.
+     *
+     * @param colorId the color id
+     * @return the board cell fill
+     */
+    public static Color getBoardFill(int colorId) {
+        return colorId == 0 ? EMPTY_FILL : getBlockFill(colorId);
+    }
+
+    /**
+     * Gets the outline of a board cell.
+     *
+     * @param colorId the color id
+     * @return the board cell stroke
+     */
+    public static Color getBoardStroke(int colorId) {
+        return colorId == 0 ? EMPTY_STROKE : BLOCK_STROKE;
+    }
+
+    /**
+     * Gets the outline of a preview cell, or null when the cell is empty.
+     *
+     * @param colorId the color id
+     * @return the preview cell stroke
+     */
+    public static Color getPreviewStroke(int colorId) {
+        return colorId == 0 ? null : BLOCK_STROKE;
+    }
+
+    /**
+     * Gets the outline of a ghost cell, transparent when the cell is empty.
+     *
+     * @param colorId the color id of the brick cell the ghost mirrors
+     * @return the ghost cell stroke
+     */
+    public static Color getGhostStroke(int colorId) {
+        return colorId == 0 ? Color.TRANSPARENT : GHOST_STROKE;
+    }
+
+    /**
+     * Gets the corner arc of a cell.
+     *
+     * @param colorId the color id
+     * @return the arc, rounded for blocks and square for empty cells
+     */
+    public static double getArc(int colorId) {
+        return colorId == 0 ? 0 : BLOCK_ARC;
+    }
+}
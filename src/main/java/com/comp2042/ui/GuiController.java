@@ -1,15 +1,24 @@
 package com.comp2042.ui;
 
+import com.comp2042.data.BoardChanges;
 import com.comp2042.data.DownData;
+import com.comp2042.data.GameSnapshot;
 import com.comp2042.data.ViewData;
+import com.comp2042.engine.AutoShift;
+import com.comp2042.engine.EngineThread;
+import com.comp2042.engine.GameClock;
+import com.comp2042.engine.InputLatencyTracker;
+import com.comp2042.engine.TimedInputEventListener;
 import com.comp2042.event.EventSource;
 import com.comp2042.event.EventType;
 import com.comp2042.event.InputEventListener;
 import com.comp2042.event.MoveEvent;
+import com.comp2042.model.ScoreListener;
 import com.comp2042.util.GameAction;
+import com.comp2042.util.GameSettings;
 import com.comp2042.util.KeyBindingManager;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.util.RenderMode;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -25,19 +34,24 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
 import javafx.scene.shape.*;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.media.MediaView;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Main GUI controller for the Tetris game view.
@@ -70,11 +84,13 @@ public class GuiController implements Initializable {
     
     private SettingsPanel settingsPanel;
 
-    private Rectangle[][] displayMatrix;
+    // Visible board cells; board row i is grid row i - 2, as the two spawn rows are hidden
+    private CellGrid boardCells;
 
     private InputEventListener eventListener;
+    private InputEventListener gameEventListener; // The listener as given, before latency timing is added
 
-    private Rectangle[][] rectangles;
+    private CellGrid brickCells;
     
     private boolean isGameInitialized = false;
     
@@ -86,16 +102,16 @@ public class GuiController implements Initializable {
 
     // Ghost brick preview - shows where the block will land
     private GridPane ghostBrickPanel;
-    private Rectangle[][] ghostRectangles;
+    private CellGrid ghostCells;
 
     // Hold piece feature - UI components to display held piece
     private GridPane heldBrickPanel;      // Panel containing the held brick visualization
-    private Rectangle[][] heldRectangles; // 4x4 grid to display held brick shape
+    private CellGrid heldCells;           // 4x4 grid to display held brick shape
     private VBox heldBrickContainer;      // Container with "HOLD" label and panel
     
     // Next piece preview - UI components to display upcoming 4 pieces in one panel
     private GridPane nextBrickPanel;               // Single panel containing all 4 brick visualizations
-    private List<Rectangle[][]> nextRectanglesList; // 4x4 grids to display next brick shapes
+    private List<CellGrid> nextCellsList;          // 4x4 grids to display next brick shapes
     private VBox nextBrickContainer;               // Container with "NEXT" label and panel
 
     // Game statistics - displays score, level, and lines cleared
@@ -105,7 +121,59 @@ public class GuiController implements Initializable {
     private Text linesText;
     private IntegerProperty levelProperty;
 
-    private Timeline timeLine;
+    // Board renderer selection - the node grids are built only while the node renderer is in use
+    private RenderMode renderMode;
+    private CanvasBoardRenderer canvasRenderer;
+    private int boardRows;
+    private int boardColumns;
+    private int brickRows;
+    private int brickColumns;
+    private double windowScaleX = 1;
+    private double windowScaleY = 1;
+
+    // Gravity runs on a fixed-timestep clock, advanced once per frame by the game loop
+    private final GameClock gameClock = new GameClock(this::gravityDrop);
+    // Held left/right keys repeat from the game loop, independent of the OS key repeat rate
+    private final AutoShift autoShift = new AutoShift(() -> shiftBrick(EventType.LEFT), () -> shiftBrick(EventType.RIGHT),
+            KeyBindingManager.DEFAULT_DAS_MILLIS, KeyBindingManager.DEFAULT_ARR_MILLIS);
+    private int brickX; // Column of the falling brick, used to tell whether a shift moved it
+
+    // Set when the engine runs on its own thread; inputs are queued to it and its snapshots drawn each frame
+    private EngineThread engineThread;
+    private ScoreListener snapshotScore;
+    private int[][] shownBoard;
+    private int shownClearCount;
+    private long inputsSubmitted;
+    private boolean rewindEnabled; // True when practice rewind is on, so the rewind key does something
+
+    private final AnimationTimer gameLoop = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (engineThread != null) {
+                // The engine thread runs shifts and gravity; draw its latest state, if it changed
+                GameSnapshot snapshot = engineThread.pollSnapshot();
+                if (snapshot != null) {
+                    applySnapshot(snapshot);
+                }
+                return;
+            }
+            // Shifts run before gravity, so a brick slid along the floor moves before it can lock
+            autoShift.update(now);
+            gameClock.advance(now);
+        }
+    };
+
+    // Key-to-frame latency, shown by the debug overlay and written to a file at game over while it is shown
+    private static final long OVERLAY_REFRESH_NANOS = 250_000_000L;
+    // Writes latency reports off the FX thread so game over never waits for the disk; a daemon, like the replay writer
+    private static final ExecutorService REPORT_WRITER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "latency-report-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final InputLatencyTracker latencyTracker = new InputLatencyTracker();
+    private final Text latencyOverlay = new Text();
+    private long lastOverlayNanos;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
 
@@ -155,6 +223,13 @@ public class GuiController implements Initializable {
             scale.setX(scaleX);
             scale.setY(scaleY);
             
+            // Keep the canvas renderer drawing at window resolution
+            windowScaleX = scaleX;
+            windowScaleY = scaleY;
+            if (canvasRenderer != null) {
+                canvasRenderer.setPixelScale(scaleX, scaleY);
+            }
+            
             // Update video dimensions to match scaled window
             if (videoView != null) {
                 videoView.setFitWidth(BASE_WIDTH);
@@ -167,6 +242,18 @@ public class GuiController implements Initializable {
         
         // Trigger initial scaling
         sizeListener.changed(null, 0, 0);
+        
+        // Debug overlay in the top-left corner, hidden until toggled
+        latencyOverlay.setFont(Font.font("Monospaced", 10));
+        latencyOverlay.setFill(Color.LIGHTGREEN);
+        latencyOverlay.setLayoutX(6);
+        latencyOverlay.setLayoutY(14);
+        latencyOverlay.setMouseTransparent(true);
+        latencyOverlay.setVisible(false);
+        root.getChildren().add(latencyOverlay);
+        
+        // Runs after layout on every pulse, just before the frame with the latest changes is rendered
+        scene.addPostLayoutPulseListener(this::onFramePulse);
     }
 
     /**
@@ -200,6 +287,7 @@ public class GuiController implements Initializable {
         gamePanel.setOnKeyPressed(new EventHandler<KeyEvent>() {
             @Override
             public void handle(KeyEvent keyEvent) {
+                long keyNanos = System.nanoTime();
                 KeyCode keyCode = keyEvent.getCode();
                 GameAction action = keyBindingManager.getAction(keyCode);
                 
@@ -209,31 +297,45 @@ public class GuiController implements Initializable {
                 
                 // Handle game actions during active gameplay
                 if (isGameInitialized && isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                    switch (action) {
-                        case MOVE_LEFT:
-                            refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                            keyEvent.consume();
-                            break;
-                        case MOVE_RIGHT:
-                            refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                            keyEvent.consume();
-                            break;
-                        case ROTATE:
-                            refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                            keyEvent.consume();
-                            break;
-                        case SOFT_DROP:
-                            moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                    latencyTracker.keyPressed(keyNanos);
+                    if (engineThread != null) {
+                        // Queued for the engine thread; the result arrives with a later snapshot
+                        if (submitToEngineThread(action)) {
                             keyEvent.consume();
-                            break;
-                        case HARD_DROP:
-                            hardDrop(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
-                            keyEvent.consume();
-                            break;
-                        case HOLD_PIECE:
-                            holdPiece(new MoveEvent(EventType.HOLD, EventSource.USER));
-                            keyEvent.consume();
-                            break;
+                        }
+                    } else {
+                        switch (action) {
+                            case MOVE_LEFT:
+                                autoShift.press(EventType.LEFT, keyNanos);
+                                keyEvent.consume();
+                                break;
+                            case MOVE_RIGHT:
+                                autoShift.press(EventType.RIGHT, keyNanos);
+                                keyEvent.consume();
+                                break;
+                            case ROTATE:
+                                refreshBrick(eventListener.onRotateEvent(MoveEvent.of(EventType.ROTATE, EventSource.USER)));
+                                keyEvent.consume();
+                                break;
+                            case SOFT_DROP:
+                                moveDown(MoveEvent.of(EventType.DOWN, EventSource.USER));
+                                keyEvent.consume();
+                                break;
+                            case HARD_DROP:
+                                hardDrop(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+                                keyEvent.consume();
+                                break;
+                            case HOLD_PIECE:
+                                holdPiece(MoveEvent.of(EventType.HOLD, EventSource.USER));
+                                keyEvent.consume();
+                                break;
+                            case REWIND:
+                                if (rewindEnabled) {
+                                    rewindPiece(MoveEvent.of(EventType.REWIND, EventSource.USER));
+                                    keyEvent.consume();
+                                }
+                                break;
+                        }
                     }
                 }
                 
@@ -248,6 +350,29 @@ public class GuiController implements Initializable {
                     newGame(null);
                     keyEvent.consume();
                 }
+                
+                if (action == GameAction.TOGGLE_DEBUG) {
+                    toggleLatencyOverlay();
+                    keyEvent.consume();
+                }
+                
+                // Presses that did not reach the game, like OS repeats of a held key, are not measured
+                latencyTracker.keyHandled();
+            }
+        });
+        
+        // Releases end auto-repeat; they are handled in any state so a key let go while paused is not left held
+        gamePanel.setOnKeyReleased(keyEvent -> {
+            GameAction action = keyBindingManager.getAction(keyEvent.getCode());
+            EventType direction = action == GameAction.MOVE_LEFT ? EventType.LEFT
+                    : action == GameAction.MOVE_RIGHT ? EventType.RIGHT : null;
+            if (direction != null) {
+                if (engineThread != null) {
+                    engineThread.releaseShift(direction);
+                } else {
+                    autoShift.release(direction, System.nanoTime());
+                }
+                keyEvent.consume();
             }
         });
         
@@ -377,29 +502,17 @@ public class GuiController implements Initializable {
      */
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         isGameInitialized = true;
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                // Initialize empty cells with filled gridline appearance
-                rectangle.setFill(Color.rgb(25, 40, 70, 0.4));
-                rectangle.setStroke(Color.rgb(45, 65, 100, 0.5));
-                rectangle.setStrokeWidth(0.5);
-                rectangle.setStrokeType(StrokeType.INSIDE);  // Keep stroke inside to maintain consistent cell size
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
-        }
+        boardRows = boardMatrix.length;
+        boardColumns = boardMatrix[0].length;
+        brickRows = brick.getBrickData().length;
+        brickColumns = brick.getBrickData()[0].length;
+        
+        // Fix the board size so the frame keeps its shape when the cell grid is not built (canvas renderer)
+        double boardWidth = boardColumns * (BRICK_SIZE + 1) - 1;
+        double boardHeight = (boardRows - 2) * (BRICK_SIZE + 1) - 1;
+        gamePanel.setMinSize(boardWidth, boardHeight);
+        gamePanel.setPrefSize(boardWidth, boardHeight);
 
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                setBrickPreviewData(brick.getBrickData()[i][j], rectangle);
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
-        }
         // Account for gameBoard's layoutX and layoutY position
         double gameBoardOffsetX = gameBoard.getLayoutX();
         double gameBoardOffsetY = gameBoard.getLayoutY();
@@ -412,21 +525,6 @@ public class GuiController implements Initializable {
         ghostBrickPanel = new GridPane();
         ghostBrickPanel.setVgap(1);
         ghostBrickPanel.setHgap(1);
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);  // Transparent fill for outline only
-                rectangle.setStroke(Color.LIGHTGRAY);
-                rectangle.setStrokeWidth(2);
-                rectangle.setStrokeType(StrokeType.INSIDE);  // Prevents overlap with adjacent blocks
-                rectangle.setArcHeight(9);  // Match the rounded corners of actual blocks
-                rectangle.setArcWidth(9);
-                rectangle.setOpacity(0.6);
-                ghostRectangles[i][j] = rectangle;
-                ghostBrickPanel.add(rectangle, j, i);
-            }
-        }
         // Position ghost at the calculated landing position
         ghostBrickPanel.setLayoutX(gameBoardOffsetX + gamePanel.getLayoutX() + brick.getxPosition() * (BRICK_SIZE + 1));
         ghostBrickPanel.setLayoutY(gameBoardOffsetY - 42 + gamePanel.getLayoutY() + brick.getGhostYPosition() * (BRICK_SIZE + 1));
@@ -441,17 +539,6 @@ public class GuiController implements Initializable {
         // Style: semi-transparent dark background with blue border
         heldBrickPanel.setStyle("-fx-background-color: rgba(50, 50, 50, 0.7); -fx-border-color: rgba(100, 150, 200, 0.8); -fx-border-width: 2; -fx-padding: 5; -fx-pref-width: 97;");
         
-        // Create 4x4 grid of rectangles (max Tetris piece size)
-        heldRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                heldRectangles[i][j] = rectangle;
-                heldBrickPanel.add(rectangle, j, i);
-            }
-        }
-        
         // Create "HOLD" label above the panel
         Text holdLabel = new Text("HOLD");
         holdLabel.setFill(Color.WHITE);
@@ -473,8 +560,6 @@ public class GuiController implements Initializable {
         ((javafx.scene.layout.Pane) gamePanel.getParent().getParent()).getChildren().add(heldBrickContainer);
 
         // === NEXT 4 PIECES PREVIEW - Initialize single panel to display upcoming 4 pieces ===
-        nextRectanglesList = new ArrayList<>();
-        
         // Create "NEXT" label above the panel
         Text nextLabel = new Text("NEXT");
         nextLabel.setFill(Color.WHITE);
@@ -488,32 +573,6 @@ public class GuiController implements Initializable {
         // Style: larger panel to hold all 4 bricks stacked vertically
         nextBrickPanel.setStyle("-fx-background-color: rgba(50, 50, 50, 0.7); -fx-border-color: rgba(100, 150, 200, 0.8); -fx-border-width: 2; -fx-padding: 5; -fx-pref-width: 97;");
         
-        // Create 4 sections within the single panel (each section is 4x4, separated by gaps)
-        for (int brickIndex = 0; brickIndex < 4; brickIndex++) {
-            Rectangle[][] rectangles = new Rectangle[4][4];
-            int rowOffset = brickIndex * 5; // 4 rows per brick + 1 row gap
-            
-            for (int i = 0; i < 4; i++) {
-                for (int j = 0; j < 4; j++) {
-                    Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                    rectangle.setFill(Color.TRANSPARENT);
-                    rectangles[i][j] = rectangle;
-                    nextBrickPanel.add(rectangle, j, rowOffset + i);
-                }
-            }
-            
-            nextRectanglesList.add(rectangles);
-            
-            // Add a gap row between bricks (except after the last one)
-            if (brickIndex < 3) {
-                for (int j = 0; j < 4; j++) {
-                    Rectangle gap = new Rectangle(BRICK_SIZE, 8); // 8px gap height
-                    gap.setFill(Color.TRANSPARENT);
-                    nextBrickPanel.add(gap, j, rowOffset + 4);
-                }
-            }
-        }
-        
         // Create container with label and panel
         nextBrickContainer = new VBox(5);
         nextBrickContainer.getChildren().addAll(nextLabel, nextBrickPanel);
@@ -614,6 +673,9 @@ public class GuiController implements Initializable {
         // Add statistics panel to screen
         ((javafx.scene.layout.Pane) gamePanel.getParent().getParent()).getChildren().add(statsContainer);
         
+        // Build the cell grids or the canvas, depending on the renderer chosen in settings
+        applyRenderMode();
+        
         // Hide all game elements initially (they'll be shown when game mode starts)
         gamePanel.setVisible(false);
         brickPanel.setVisible(false);
@@ -622,45 +684,102 @@ public class GuiController implements Initializable {
         nextBrickContainer.setVisible(false);
         statsContainer.setVisible(false);
 
-        // Set initial fall speed - higher value = slower fall (600ms per drop at level 1)
-        // Timeline will be created and started in updateFallSpeed
+        // Set initial fall speed (600ms per drop at level 1) and start the game loop
         updateFallSpeed(1);
     }
 
-    private Paint getFillColor(int i) {
-        Paint returnPaint;
-        switch (i) {
-            case 0:
-                returnPaint = Color.TRANSPARENT;
-                break;
-            case 1:
-                returnPaint = Color.AQUA;
-                break;
-            case 2:
-                returnPaint = Color.BLUEVIOLET;
-                break;
-            case 3:
-                returnPaint = Color.DARKGREEN;
-                break;
-            case 4:
-                returnPaint = Color.YELLOW;
-                break;
-            case 5:
-                returnPaint = Color.RED;
-                break;
-            case 6:
-                returnPaint = Color.BEIGE;
-                break;
-            case 7:
-                returnPaint = Color.BURLYWOOD;
-                break;
-            default:
-                returnPaint = Color.WHITE;
-                break;
+    /**
+     * Switches to the render mode chosen in settings.
+     * The node grids are built when the node renderer is selected and released when the canvas takes over,
+     * so only one renderer's scene graph exists at a time.
+     */
+    private void applyRenderMode() {
+        renderMode = GameSettings.getInstance().getRenderMode();
+        if (renderMode == RenderMode.CANVAS) {
+            releaseNodeGrids();
+            if (canvasRenderer == null) {
+                canvasRenderer = new CanvasBoardRenderer(BASE_WIDTH, BASE_HEIGHT, BRICK_SIZE);
+                canvasRenderer.setPixelScale(windowScaleX, windowScaleY);
+                canvasRenderer.getCanvas().setVisible(false);
+                ((javafx.scene.layout.Pane) gamePanel.getParent().getParent()).getChildren().add(canvasRenderer.getCanvas());
+            }
+        } else {
+            buildNodeGrids();
+        }
+    }
+
+    // Creates the Rectangle grids for the board, falling brick, ghost, hold and next panels
+    private void buildNodeGrids() {
+        if (boardCells != null) {
+            return;
+        }
+        boardCells = new CellGrid(boardRows - 2, boardColumns, BRICK_SIZE, CellGrid.Style.BOARD);
+        addCells(gamePanel, boardCells, 0);
+
+        brickCells = new CellGrid(brickRows, brickColumns, BRICK_SIZE, CellGrid.Style.PREVIEW);
+        addCells(brickPanel, brickCells, 0);
+
+        ghostCells = new CellGrid(brickRows, brickColumns, BRICK_SIZE, CellGrid.Style.GHOST);
+        addCells(ghostBrickPanel, ghostCells, 0);
+
+        // 4x4 grid (max Tetris piece size)
+        heldCells = new CellGrid(4, 4, BRICK_SIZE, CellGrid.Style.PREVIEW);
+        addCells(heldBrickPanel, heldCells, 0);
+
+        // Create 4 sections within the single next panel (each section is 4x4, separated by gaps)
+        nextCellsList = new ArrayList<>();
+        for (int brickIndex = 0; brickIndex < 4; brickIndex++) {
+            CellGrid cells = new CellGrid(4, 4, BRICK_SIZE, CellGrid.Style.PREVIEW);
+            int rowOffset = brickIndex * 5; // 4 rows per brick + 1 row gap
+            addCells(nextBrickPanel, cells, rowOffset);
+            nextCellsList.add(cells);
+            
+            // Add a gap row between bricks (except after the last one)
+            if (brickIndex < 3) {
+                for (int j = 0; j < 4; j++) {
+                    Rectangle gap = new Rectangle(BRICK_SIZE, 8); // 8px gap height
+                    gap.setFill(Color.TRANSPARENT);
+                    nextBrickPanel.add(gap, j, rowOffset + 4);
+                }
+            }
         }
-        return returnPaint;
     }
 
+    // Adds every cell of a grid to a panel, starting at the given panel row
+    private static void addCells(GridPane panel, CellGrid cells, int rowOffset) {
+        for (int i = 0; i < cells.getRowCount(); i++) {
+            for (int j = 0; j < cells.getColumnCount(); j++) {
+                panel.add(cells.getCell(i, j), j, rowOffset + i);
+            }
+        }
+    }
+
+    // Removes the Rectangle grids from the scene so the canvas renderer runs without them
+    private void releaseNodeGrids() {
+        if (boardCells == null) {
+            return;
+        }
+        gamePanel.getChildren().clear();
+        brickPanel.getChildren().clear();
+        ghostBrickPanel.getChildren().clear();
+        heldBrickPanel.getChildren().clear();
+        nextBrickPanel.getChildren().clear();
+        boardCells = null;
+        brickCells = null;
+        ghostCells = null;
+        heldCells = null;
+        nextCellsList = null;
+    }
+
+    // Passes the current board, hold and next panel positions to the canvas renderer
+    private void updateCanvasLayout() {
+        double gameBoardOffsetX = gameBoard.getLayoutX();
+        double gameBoardOffsetY = gameBoard.getLayoutY();
+        canvasRenderer.setLayout(
+                gameBoardOffsetX + gamePanel.getLayoutX(), gameBoardOffsetY + gamePanel.getLayoutY(),
+                heldBrickContainer.getLayoutX(), heldBrickContainer.getLayoutY(),
+                nextBrickContainer.getLayoutX(), nextBrickContainer.getLayoutY());
+    }
 
     /**
      * Refreshes the brick display with updated position and state information.
@@ -668,7 +787,11 @@ public class GuiController implements Initializable {
      * @param brick the updated brick view data
      */
     public void refreshBrick(ViewData brick) {
-        if (isPause.getValue() == Boolean.FALSE) {
+        brickX = brick.getxPosition();
+        if (isPause.getValue() == Boolean.FALSE && renderMode == RenderMode.CANVAS) {
+            updateCanvasLayout();
+            canvasRenderer.setBrick(brick);
+        } else if (isPause.getValue() == Boolean.FALSE) {
             // Account for gameBoard's layoutX and layoutY position
             double gameBoardOffsetX = gameBoard.getLayoutX();
             double gameBoardOffsetY = gameBoard.getLayoutY();
@@ -676,25 +799,13 @@ public class GuiController implements Initializable {
             brickPanel.setLayoutY(gameBoardOffsetY - 42 + gamePanel.getLayoutY() + brick.getyPosition() * (BRICK_SIZE + 1));
             // Ensure the falling brick stays visible on top
             brickPanel.toFront();
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setBrickPreviewData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
+            brickCells.setAll(brick.getBrickData());
             
             // Update ghost brick position when the block moves/rotates
             ghostBrickPanel.setLayoutX(gameBoardOffsetX + gamePanel.getLayoutX() + brick.getxPosition() * (BRICK_SIZE + 1));
             ghostBrickPanel.setLayoutY(gameBoardOffsetY - 42 + gamePanel.getLayoutY() + brick.getGhostYPosition() * (BRICK_SIZE + 1));
             // Update ghost outline to match current brick shape
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    if (brick.getBrickData()[i][j] != 0) {
-                        ghostRectangles[i][j].setStroke(Color.LIGHTGRAY);
-                    } else {
-                        ghostRectangles[i][j].setStroke(Color.TRANSPARENT);
-                    }
-                }
-            }
+            ghostCells.setAll(brick.getBrickData());
             
             // Update held brick display panel with current held piece
             updateHeldBrickDisplay(brick.getHeldBrickData());
@@ -710,65 +821,67 @@ public class GuiController implements Initializable {
      * @param board the updated board matrix
      */
     public void refreshGameBackground(int[][] board) {
+        if (renderMode == RenderMode.CANVAS) {
+            canvasRenderer.setBoard(board);
+            return;
+        }
         for (int i = 2; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+                boardCells.set(i - 2, j, board[i][j]);
             }
         }
     }
 
-    // Sets rectangle appearance for game board cells (adds filled gridlines to empty cells)
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        
-        if (color != 0) {
-            // Colored blocks with rounded corners
-            rectangle.setArcHeight(9);
-            rectangle.setArcWidth(9);
-            rectangle.setStroke(Color.rgb(255, 255, 255, 0.3));
-            rectangle.setStrokeWidth(0.5);
-            rectangle.setStrokeType(StrokeType.INSIDE);
-        } else {
-            // Empty cells on game board get filled gridline appearance
-            rectangle.setFill(Color.rgb(25, 40, 70, 0.4));
-            rectangle.setArcHeight(0);
-            rectangle.setArcWidth(0);
-            rectangle.setStroke(Color.rgb(45, 65, 100, 0.5));
-            rectangle.setStrokeWidth(0.5);
-            rectangle.setStrokeType(StrokeType.INSIDE);
+    /**
+     * Refreshes only the cells of the game board that changed.
+     * Cells written by a merge are restyled one by one and rows shifted by a clear are restyled as a range,
+     * so a lock without a clear touches a handful of rectangles instead of the whole board.
+     * 
+     * @param board the updated board matrix
+     * @param changes the cells and rows that changed since the last refresh
+     */
+    public void refreshGameBackground(int[][] board, BoardChanges changes) {
+        if (renderMode == RenderMode.CANVAS || changes.isFullRefresh()) {
+            refreshGameBackground(board);
+            return;
         }
-    }
-
-    // Sets rectangle appearance for brick preview panels (no gridlines on empty cells)
-    private void setBrickPreviewData(int color, Rectangle rectangle) {
-        if (color != 0) {
-            // Colored blocks with rounded corners
-            rectangle.setFill(getFillColor(color));
-            rectangle.setArcHeight(9);
-            rectangle.setArcWidth(9);
-            rectangle.setStroke(Color.rgb(255, 255, 255, 0.3));
-            rectangle.setStrokeWidth(0.5);
-            rectangle.setStrokeType(StrokeType.INSIDE);
-        } else {
-            // Empty cells in preview panels are transparent (no gridlines)
-            rectangle.setFill(Color.TRANSPARENT);
-            rectangle.setArcHeight(0);
-            rectangle.setArcWidth(0);
-            rectangle.setStroke(null);
+        int firstRow = Math.max(2, changes.getFirstDirtyRow());
+        int lastRow = changes.getLastDirtyRow();
+        for (int i = firstRow; i <= lastRow; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                boardCells.set(i - 2, j, board[i][j]);
+            }
+        }
+        for (int c = 0; c < changes.getCellCount(); c++) {
+            int row = changes.getCellRow(c);
+            // Hidden spawn rows have no rectangles, and cells inside the shifted range are already done
+            if (row >= 2 && (row < firstRow || row > lastRow)) {
+                int col = changes.getCellColumn(c);
+                boardCells.set(row - 2, col, board[row][col]);
+            }
         }
     }
 
-    private void moveDown(MoveEvent event) {
+    // Returns true if the brick fell a row, false if it locked or the game is paused
+    private boolean moveDown(MoveEvent event) {
+        boolean fell = false;
         if (isPause.getValue() == Boolean.FALSE) {
             DownData downData = eventListener.onDownEvent(event);
+            fell = downData.getClearRow() == null;
             if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
+                showScoreNotification(downData.getClearRow().getScoreBonus());
             }
             refreshBrick(downData.getViewData());
         }
         gamePanel.requestFocus();
+        return fell;
+    }
+
+    // Floats the bonus of a line clear over the board
+    private void showScoreNotification(int bonus) {
+        NotificationPanel notificationPanel = new NotificationPanel("+" + bonus);
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
     }
 
     // Handles the hard drop action (instantly drops brick and locks it in place)
@@ -777,9 +890,7 @@ public class GuiController implements Initializable {
             DownData downData = eventListener.onHardDropEvent(event);
             // Show score notification if rows were cleared
             if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
+                showScoreNotification(downData.getClearRow().getScoreBonus());
             }
             refreshBrick(downData.getViewData());
         }
@@ -796,64 +907,64 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
+    // Handles the rewind action (takes back the last locked piece in practice mode)
+    // The restored background is redrawn through the controller's background notification
+    private void rewindPiece(MoveEvent event) {
+        if (isPause.getValue() == Boolean.FALSE) {
+            ViewData viewData = eventListener.onRewindEvent(event);
+            refreshBrick(viewData);
+        }
+        gamePanel.requestFocus();
+    }
+
     // Updates the held brick display panel
     private void updateHeldBrickDisplay(int[][] heldBrickData) {
-        // Clear all rectangles first
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                heldRectangles[i][j].setFill(Color.TRANSPARENT);
-                heldRectangles[i][j].setStroke(null);
-                heldRectangles[i][j].setArcHeight(0);
-                heldRectangles[i][j].setArcWidth(0);
-            }
-        }
-        
-        // Render the held brick if one exists
-        if (heldBrickData != null) {
-            for (int i = 0; i < heldBrickData.length && i < 4; i++) {
-                for (int j = 0; j < heldBrickData[i].length && j < 4; j++) {
-                    setBrickPreviewData(heldBrickData[i][j], heldRectangles[i][j]);
-                }
-            }
+        if (heldCells == null) {
+            return; // Canvas renderer draws the held piece from the brick view data
         }
+        // Cells already showing the right color are left untouched
+        heldCells.setAll(heldBrickData);
     }
 
     // Updates the next 4 bricks preview panels with the upcoming pieces
     private void updateNext4BricksDisplay(List<int[][]> next4BricksData) {
-        // Update each of the 4 preview panels
-        for (int panelIndex = 0; panelIndex < 4 && panelIndex < nextRectanglesList.size(); panelIndex++) {
-            Rectangle[][] rectangles = nextRectanglesList.get(panelIndex);
-            
-            // Clear all rectangles in this panel first
-            for (int i = 0; i < 4; i++) {
-                for (int j = 0; j < 4; j++) {
-                    rectangles[i][j].setFill(Color.TRANSPARENT);
-                    rectangles[i][j].setArcHeight(0);
-                    rectangles[i][j].setArcWidth(0);
-                }
-            }
-            
-            // Render the brick if data is available for this panel
-            if (next4BricksData != null && panelIndex < next4BricksData.size()) {
-                int[][] brickData = next4BricksData.get(panelIndex);
-                if (brickData != null) {
-                    for (int i = 0; i < brickData.length && i < 4; i++) {
-                        for (int j = 0; j < brickData[i].length && j < 4; j++) {
-                            setBrickPreviewData(brickData[i][j], rectangles[i][j]);
-                        }
-                    }
-                }
-            }
+        for (int panelIndex = 0; panelIndex < nextCellsList.size(); panelIndex++) {
+            boolean available = next4BricksData != null && panelIndex < next4BricksData.size();
+            nextCellsList.get(panelIndex).setAll(available ? next4BricksData.get(panelIndex) : null);
         }
     }
 
+    /**
+     * Switches the view to an engine running on its own thread.
+     * Gameplay keys are then queued to that thread, and each frame draws its latest snapshot
+     * instead of calling the event listener and running gravity here.
+     * 
+     * @param engineThread the engine thread
+     * @param scoreListener receives the score, level and lines of each snapshot on the JavaFX thread
+     */
+    public void setEngineThread(EngineThread engineThread, ScoreListener scoreListener) {
+        this.engineThread = engineThread;
+        this.snapshotScore = scoreListener;
+    }
+
+    /**
+     * Enables or disables the rewind key. Rewind inputs are only sent when the engine has a rewind buffer.
+     * 
+     * @param rewindEnabled true if practice rewind is on
+     */
+    public void setRewindEnabled(boolean rewindEnabled) {
+        this.rewindEnabled = rewindEnabled;
+    }
+
     /**
      * Sets the event listener for handling game events.
      * 
      * @param eventListener the listener to handle input events
      */
     public void setEventListener(InputEventListener eventListener) {
-        this.eventListener = eventListener;
+        // Timed so the latency overlay can split key handling from the model update
+        this.gameEventListener = eventListener;
+        this.eventListener = new TimedInputEventListener(eventListener, latencyTracker);
     }
 
     /**
@@ -884,31 +995,154 @@ public class GuiController implements Initializable {
     }
     
     // Updates the fall speed based on level (faster as level increases)
+    // The clock keeps the partial row already accumulated, so a level-up does not restart the current fall
     private void updateFallSpeed(int level) {
-        // Formula: 600ms - (level - 1) * 100ms, minimum 50ms
-        // Level 1: 600ms, Level 2: 500ms, Level 3: 400ms, Level 4: 300ms, etc.
-        int fallDuration = Math.max(50, 600 - (level - 1) * 100);
-        
-        // Stop current timeline if it exists and is playing
-        boolean wasPlaying = (timeLine != null && timeLine.getStatus() == javafx.animation.Animation.Status.RUNNING);
-        if (timeLine != null) {
-            timeLine.stop();
-        }
-        
-        // Create new timeline with updated speed
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(fallDuration),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
+        gameClock.setLevel(level);
         
-        // Resume playing if game is not paused or over
+        // Resume the loop if game is not paused or over
         // This handles both cases: resuming after level change, and initial game start
         if (!isPause.getValue() && !isGameOver.getValue()) {
-            timeLine.play();
+            startGameLoop();
         }
     }
 
+    // Starts stepping gravity and auto-shift on every frame, picking up any DAS/ARR change from settings
+    private void startGameLoop() {
+        if (!gameClock.isRunning()) {
+            autoShift.setTiming(keyBindingManager.getDasMillis(), keyBindingManager.getArrMillis());
+            if (engineThread != null) {
+                engineThread.setRepeatTiming(keyBindingManager.getDasMillis(), keyBindingManager.getArrMillis());
+                engineThread.setPaused(false);
+            }
+            gameClock.start();
+            gameLoop.start();
+        }
+    }
+
+    // Stops gravity; time spent stopped is not caught up when the loop starts again
+    // Held keys are forgotten, since their releases may go to a menu instead of the game panel
+    private void stopGameLoop() {
+        gameClock.stop();
+        gameLoop.stop();
+        autoShift.releaseAll();
+        if (engineThread != null) {
+            engineThread.setPaused(true);
+        }
+    }
+
+    // Gravity callback from the clock; returns false once the brick has locked so no further rows drop this step
+    private boolean gravityDrop() {
+        return moveDown(MoveEvent.of(EventType.DOWN, EventSource.THREAD));
+    }
+
+    // Completes the pending latency sample and refreshes the overlay a few times per second
+    private void onFramePulse() {
+        long now = System.nanoTime();
+        latencyTracker.frameRendered(now);
+        if (latencyOverlay.isVisible() && now - lastOverlayNanos >= OVERLAY_REFRESH_NANOS) {
+            lastOverlayNanos = now;
+            latencyOverlay.setText(latencyTracker.toString());
+        }
+    }
+
+    private void toggleLatencyOverlay() {
+        latencyOverlay.setVisible(!latencyOverlay.isVisible());
+        if (latencyOverlay.isVisible()) {
+            latencyOverlay.setText(latencyTracker.toString());
+            latencyOverlay.toFront();
+        }
+    }
+
+    // Writes the latency histograms of the game that just ended to the user's home directory.
+    // The text is taken here, before the next game resets the tracker, and written on the report writer
+    private void writeLatencyReport() {
+        if (latencyTracker.getKeyToFrame().getCount() == 0) {
+            return;
+        }
+        Path file = Paths.get(System.getProperty("user.home"), "tetris-latency-" + System.currentTimeMillis() + ".txt");
+        String report = latencyTracker.formatReport();
+        REPORT_WRITER.execute(() -> {
+            try {
+                Files.writeString(file, report, StandardCharsets.UTF_8);
+                System.out.println("Latency report written to " + file);
+            } catch (IOException e) {
+                System.err.println("Could not write latency report: " + e.getMessage());
+            }
+        });
+    }
+
+    // Queues a gameplay action for the engine thread, returning true if the action was one it handles
+    private boolean submitToEngineThread(GameAction action) {
+        boolean queued;
+        switch (action) {
+            case MOVE_LEFT:
+                queued = engineThread.pressShift(EventType.LEFT);
+                break;
+            case MOVE_RIGHT:
+                queued = engineThread.pressShift(EventType.RIGHT);
+                break;
+            case ROTATE:
+                queued = engineThread.submit(MoveEvent.of(EventType.ROTATE, EventSource.USER));
+                break;
+            case SOFT_DROP:
+                queued = engineThread.submit(MoveEvent.of(EventType.DOWN, EventSource.USER));
+                break;
+            case HARD_DROP:
+                queued = engineThread.submit(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+                break;
+            case HOLD_PIECE:
+                queued = engineThread.submit(MoveEvent.of(EventType.HOLD, EventSource.USER));
+                break;
+            case REWIND:
+                if (!rewindEnabled) {
+                    return false;
+                }
+                queued = engineThread.submit(MoveEvent.of(EventType.REWIND, EventSource.USER));
+                break;
+            default:
+                return false;
+        }
+        if (queued) {
+            inputsSubmitted++;
+            latencyTracker.dispatched(System.nanoTime());
+        }
+        return true;
+    }
+
+    // Draws a snapshot from the engine thread, skipping the board when its settled blocks did not change
+    private void applySnapshot(GameSnapshot snapshot) {
+        if (snapshot.getBoardMatrix() != null && snapshot.getBoardMatrix() != shownBoard) {
+            shownBoard = snapshot.getBoardMatrix();
+            refreshGameBackground(shownBoard);
+        }
+        refreshBrick(snapshot.getViewData());
+        snapshotScore.scoreChanged(snapshot.getScore(), snapshot.getLevel(), snapshot.getLines());
+        if (snapshot.getClearCount() != shownClearCount) {
+            shownClearCount = snapshot.getClearCount();
+            if (shownClearCount > 0) {
+                showScoreNotification(snapshot.getLastClearBonus());
+            }
+        }
+        // Once every queued input has been taken, the pending key's model update is in this snapshot
+        if (snapshot.getInputsApplied() >= inputsSubmitted) {
+            latencyTracker.modelUpdated(System.nanoTime());
+        }
+        if (snapshot.isGameOver() && isGameOver.getValue() == Boolean.FALSE) {
+            gameOver();
+        }
+    }
+
+    // Auto-shift callback; returns false when the brick is blocked so repeats stop at the wall
+    private boolean shiftBrick(EventType direction) {
+        if (isPause.getValue() == Boolean.TRUE || isGameOver.getValue() == Boolean.TRUE) {
+            return false;
+        }
+        int previousX = brickX;
+        MoveEvent event = MoveEvent.of(direction, EventSource.USER);
+        refreshBrick(direction == EventType.LEFT ? eventListener.onLeftEvent(event) : eventListener.onRightEvent(event));
+        return brickX != previousX;
+    }
+
     /**
      * Binds the lines display to the game lines cleared property for automatic updates.
      * 
@@ -924,7 +1158,7 @@ public class GuiController implements Initializable {
      * Dims the game board, hides falling bricks, stops music, and shows the game over overlay with final score.
      */
     public void gameOver() {
-        timeLine.stop();
+        stopGameLoop();
         if (backgroundMusic != null) {
             backgroundMusic.stop();
         }
@@ -939,6 +1173,9 @@ public class GuiController implements Initializable {
         if (ghostBrickPanel != null) {
             ghostBrickPanel.setVisible(false);
         }
+        if (renderMode == RenderMode.CANVAS) {
+            canvasRenderer.setGameOver(true);
+        }
         
         // Get final score and display it on game over screen
         try {
@@ -951,17 +1188,22 @@ public class GuiController implements Initializable {
         gameOverPanel.setVisible(true);
         gameOverPanel.toFront();
         isGameOver.setValue(Boolean.TRUE);
+        
+        if (latencyOverlay.isVisible()) {
+            writeLatencyReport();
+        }
     }
 
     /**
-     * Starts a new game by resetting the game state and restarting the timeline.
+     * Starts a new game by resetting the game state and restarting the game loop.
      * Restores UI element visibility and opacity, clears the hold panel, resets game state,
      * and restarts background music.
      * 
      * @param actionEvent the action event that triggered the new game (may be null)
      */
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
+        stopGameLoop();
+        gameClock.reset();
         gameOverPanel.setVisible(false);
         
         // Restore full opacity to game elements that were dimmed
@@ -971,22 +1213,27 @@ public class GuiController implements Initializable {
         gamePanel.setOpacity(1.0);
         
         // Show the falling brick and ghost brick panels again (they were hidden, not dimmed)
-        brickPanel.setVisible(true);
+        boolean showNodes = renderMode != RenderMode.CANVAS;
+        brickPanel.setVisible(showNodes);
         if (ghostBrickPanel != null) {
-            ghostBrickPanel.setVisible(true);
+            ghostBrickPanel.setVisible(showNodes);
+        }
+        if (canvasRenderer != null) {
+            canvasRenderer.setGameOver(false);
         }
         
         // Clear hold panel for new game
         updateHeldBrickDisplay(null);
         
-        // Set game state flags before resetting score/level (so listener can start timeline)
+        // Set game state flags before resetting score/level (so listener can start the game loop)
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
         
         // Reset game state (also resets score/level/lines to initial values)
         eventListener.createNewGame();
+        latencyTracker.reset();
         
-        // Explicitly restart the timeline to ensure blocks start falling
+        // Explicitly restart the game loop to ensure blocks start falling
         // (needed in case level was already 1, which wouldn't trigger the listener)
         updateFallSpeed(1);
         
@@ -1004,7 +1251,7 @@ public class GuiController implements Initializable {
         if (isPause.getValue() == Boolean.FALSE) {
             // Pause the game
             isPause.setValue(Boolean.TRUE);
-            timeLine.pause();
+            stopGameLoop();
             if (backgroundMusic != null) {
                 backgroundMusic.pause();
             }
@@ -1031,7 +1278,7 @@ public class GuiController implements Initializable {
             gameOverPanel.toFront();
         } else {
             // Normal resume 
-            timeLine.play();
+            startGameLoop();
             if (backgroundMusic != null) {
                 backgroundMusic.play();
             }
@@ -1044,9 +1291,7 @@ public class GuiController implements Initializable {
      */
     public void showMainMenu() {
         // Stop the game if running
-        if (timeLine != null) {
-            timeLine.stop();
-        }
+        stopGameLoop();
         
         // Stop background music
         if (backgroundMusic != null) {
@@ -1114,11 +1359,12 @@ public class GuiController implements Initializable {
         
         // Initialize game if first time
         if (!isGameInitialized) {
-            ((com.comp2042.controller.GameController) eventListener).initializeGame();
+            ((com.comp2042.controller.GameController) gameEventListener).initializeGame();
         }
         
-        // Show all game elements
+        // Show all game elements, drawn by the renderer chosen in settings
         if (isGameInitialized) {
+            applyRenderMode();
             setGameElementsVisible(true);
         }
         
@@ -1132,14 +1378,24 @@ public class GuiController implements Initializable {
     }
 
     // Shows or hides all game UI elements
+    // With the canvas renderer, the node panels stay hidden and the canvas is shown instead
     private void setGameElementsVisible(boolean visible) {
+        boolean canvas = renderMode == RenderMode.CANVAS;
         gamePanel.setVisible(visible);
         gamePanel.setManaged(visible);
-        brickPanel.setVisible(visible);
-        brickPanel.setManaged(visible);
-        ghostBrickPanel.setVisible(visible);
-        heldBrickContainer.setVisible(visible);
-        nextBrickContainer.setVisible(visible);
+        brickPanel.setVisible(visible && !canvas);
+        brickPanel.setManaged(visible && !canvas);
+        ghostBrickPanel.setVisible(visible && !canvas);
+        heldBrickContainer.setVisible(visible && !canvas);
+        nextBrickContainer.setVisible(visible && !canvas);
+        if (canvasRenderer != null) {
+            canvasRenderer.getCanvas().setVisible(visible && canvas);
+            if (visible && canvas) {
+                canvasRenderer.start();
+            } else {
+                canvasRenderer.stop();
+            }
+        }
         groupNotification.setVisible(visible);
         groupNotification.setManaged(visible);
         
@@ -0,0 +1,80 @@
+package com.comp2042.ui;
+
+import com.comp2042.model.Score;
+import com.comp2042.model.ScoreListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Exposes a game {@link Score} as JavaFX properties so the view can bind to it.
+ * The properties follow the score through a listener, so the score itself stays free of JavaFX.
+ */
+public final class ScoreProperties implements ScoreListener {
+
+    private final IntegerProperty score = new SimpleIntegerProperty();
+    private final IntegerProperty level = new SimpleIntegerProperty();
+    private final IntegerProperty lines = new SimpleIntegerProperty();
+
+    /**
+     * Creates properties mirroring the given score and starts listening for changes.
+     * 
+     * @param source the score to mirror
+     */
+    public ScoreProperties(Score source) {
+        scoreChanged(source.getScore(), source.getLevel(), source.getLines());
+        source.addListener(this);
+    }
+
+    /**
+     * Creates properties holding the given values that change only through {@link #scoreChanged},
+     * for a score that is updated on another thread and copied over by the view.
+     * 
+     * @param score the initial score
+     * @param level the initial level
+     * @param lines the initial lines cleared
+     */
+    public ScoreProperties(int score, int level, int lines) {
+        scoreChanged(score, level, lines);
+    }
+
+    /**
+     * Gets the score property for binding to UI components.
+     * 
+     * @return the score integer property
+     */
+    public IntegerProperty scoreProperty() {
+        return score;
+    }
+
+    /**
+     * Gets the level property for binding to UI components.
+     * 
+     * @return the level integer property
+     */
+    public IntegerProperty levelProperty() {
+        return level;
+    }
+
+    /**
+     * Gets the lines property for binding to UI components.
+     * 
+     * @return the lines cleared integer property
+     */
+    public IntegerProperty linesProperty() {
+        return lines;
+    }
+
+    /**
+     * Copies the new values into the properties.
+     * 
+     * @param score the current score
+     * @param level the current level
+     * @param lines the total lines cleared
+     */
+    @Override
+    public void scoreChanged(int score, int level, int lines) {
+        this.score.set(score);
+        this.level.set(level);
+        this.lines.set(lines);
+    }
+}
@@ -1,7 +1,9 @@
 package com.comp2042.ui;
 
 import com.comp2042.util.GameAction;
+import com.comp2042.util.GameSettings;
 import com.comp2042.util.KeyBindingManager;
+import com.comp2042.util.RenderMode;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -19,11 +21,15 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
 /**
- * Settings panel for adjusting game volume and customizing key bindings.
+ * Settings panel for adjusting game volume, choosing the board renderer, tuning auto-repeat and customizing key bindings.
  * Players can click any key button to rebind controls and reset to defaults.
  */
 public class SettingsPanel extends BorderPane {
 
+    // Choices offered for the held-key auto-repeat timing, in milliseconds
+    private static final int[] DAS_CHOICES = {83, 117, 133, 167, 200, 250};
+    private static final int[] ARR_CHOICES = {0, 17, 33, 50, 83};
+    
     private static final String SECTION_LABEL_STYLE = "-fx-font-size: 14px; -fx-font-weight: bold; -fx-text-fill: white;";
     
     // Button style constants to avoid duplication
@@ -59,6 +65,9 @@ public class SettingsPanel extends BorderPane {
     
     private Slider volumeSlider;
     private Button backButton;
+    private Button renderModeButton;
+    private Button dasButton;
+    private Button arrButton;
     private KeyBindingManager keyBindingManager;
     private GameAction currentlyRebinding = null;
     private Button currentRebindButton = null;
@@ -91,6 +100,34 @@ public class SettingsPanel extends BorderPane {
         volumeBox.setAlignment(Pos.CENTER);
         volumeBox.getChildren().addAll(volumeLabel, volumeSlider);
         
+        // Renderer toggle - switches between the node grid and the single canvas
+        Label renderModeLabel = new Label("RENDERER");
+        renderModeLabel.setStyle(SECTION_LABEL_STYLE);
+        
+        renderModeButton = new Button(GameSettings.getInstance().getRenderMode().getDisplayName());
+        renderModeButton.setStyle(KEY_BUTTON_NORMAL_STYLE);
+        renderModeButton.setPrefWidth(100);
+        renderModeButton.setOnAction(e -> cycleRenderMode());
+        renderModeButton.setOnMouseEntered(e -> renderModeButton.setStyle(KEY_BUTTON_HOVER_STYLE));
+        renderModeButton.setOnMouseExited(e -> renderModeButton.setStyle(KEY_BUTTON_NORMAL_STYLE));
+        
+        HBox renderModeBox = new HBox(10);
+        renderModeBox.setAlignment(Pos.CENTER);
+        renderModeBox.getChildren().addAll(renderModeLabel, renderModeButton);
+        
+        // Auto-repeat timing for held left/right keys
+        Label dasLabel = new Label("DAS");
+        dasLabel.setStyle(SECTION_LABEL_STYLE);
+        dasButton = createCycleButton(e -> cycleDas());
+        Label arrLabel = new Label("ARR");
+        arrLabel.setStyle(SECTION_LABEL_STYLE);
+        arrButton = createCycleButton(e -> cycleArr());
+        updateRepeatButtons();
+        
+        HBox repeatBox = new HBox(10);
+        repeatBox.setAlignment(Pos.CENTER);
+        repeatBox.getChildren().addAll(dasLabel, dasButton, arrLabel, arrButton);
+        
         // Control display
         Label controlsLabel = new Label("KEY BINDINGS");
         controlsLabel.setStyle(SECTION_LABEL_STYLE);
@@ -135,7 +172,7 @@ public class SettingsPanel extends BorderPane {
         VBox contentBox = new VBox(10);
         contentBox.setAlignment(Pos.CENTER);
         contentBox.setPadding(new Insets(12));
-        contentBox.getChildren().addAll(titleLabel, volumeBox, controlsSection, buttonsBox);
+        contentBox.getChildren().addAll(titleLabel, volumeBox, renderModeBox, repeatBox, controlsSection, buttonsBox);
         
         // Panel styling
         this.setStyle("-fx-background-color: rgba(0, 0, 0, 0.9); -fx-border-color: rgba(100, 150, 200, 0.8); -fx-border-width: 3;");
@@ -147,6 +184,60 @@ public class SettingsPanel extends BorderPane {
         this.setFocusTraversable(true);
     }
 
+    /**
+     * Switches to the next render mode and saves it.
+     * The new renderer takes effect the next time a game is started.
+     */
+    private void cycleRenderMode() {
+        GameSettings settings = GameSettings.getInstance();
+        RenderMode mode = settings.getRenderMode().next();
+        settings.setRenderMode(mode);
+        renderModeButton.setText(mode.getDisplayName());
+    }
+
+    /**
+     * Switches the Delayed Auto Shift to the next choice and saves it.
+     * Takes effect the next time the game loop starts or resumes.
+     */
+    private void cycleDas() {
+        keyBindingManager.setDasMillis(nextChoice(DAS_CHOICES, keyBindingManager.getDasMillis()));
+        updateRepeatButtons();
+    }
+    
+    /**
+     * Switches the Auto Repeat Rate to the next choice and saves it.
+     * Takes effect the next time the game loop starts or resumes.
+     */
+    private void cycleArr() {
+        keyBindingManager.setArrMillis(nextChoice(ARR_CHOICES, keyBindingManager.getArrMillis()));
+        updateRepeatButtons();
+    }
+    
+    // Gets the first choice above the current value, wrapping around to the smallest
+    private static int nextChoice(int[] choices, int current) {
+        for (int choice : choices) {
+            if (choice > current) {
+                return choice;
+            }
+        }
+        return choices[0];
+    }
+    
+    private void updateRepeatButtons() {
+        dasButton.setText(keyBindingManager.getDasMillis() + " ms");
+        arrButton.setText(keyBindingManager.getArrMillis() + " ms");
+    }
+    
+    private Button createCycleButton(javafx.event.EventHandler<javafx.event.ActionEvent> onAction) {
+        Button button = new Button();
+        button.setStyle(KEY_BUTTON_NORMAL_STYLE);
+        button.setPrefWidth(90);
+        button.setOnAction(onAction);
+        button.setOnMouseEntered(e -> button.setStyle(KEY_BUTTON_HOVER_STYLE));
+        button.setOnMouseExited(e -> button.setStyle(KEY_BUTTON_NORMAL_STYLE));
+        return button;
+    }
+
     /**
      * Adds an interactive key binding control for a game action.
      * Users can click the button to rebind the key.
@@ -235,10 +326,11 @@ public class SettingsPanel extends BorderPane {
     }
     
     /**
-     * Resets all key bindings to their default values and updates the UI.
+     * Resets all key bindings and the auto-repeat timing to their default values and updates the UI.
      */
     private void resetKeybindsToDefaults() {
         keyBindingManager.resetToDefaults();
+        updateRepeatButtons();
         
         // Refresh all buttons - rebuild the controls section
         // Find the controls box and rebuild it
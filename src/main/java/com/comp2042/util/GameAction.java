@@ -22,11 +22,17 @@ public enum GameAction {
     /** Hold piece */
     HOLD_PIECE("Hold Piece"),
     
+    /** Take back the last piece in practice mode */
+    REWIND("Rewind"),
+    
     /** Pause game */
     PAUSE("Pause"),
     
     /** Start new game */
-    NEW_GAME("New Game");
+    NEW_GAME("New Game"),
+    
+    /** Show or hide the input latency overlay */
+    TOGGLE_DEBUG("Debug Overlay");
 
     private final String displayName;
 
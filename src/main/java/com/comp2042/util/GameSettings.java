@@ -0,0 +1,70 @@
+package com.comp2042.util;
+
+import java.util.prefs.Preferences;
+
+/**
+ * Manages persisted game options other than key bindings.
+ * Uses the Singleton pattern and stores values in the same preferences node as the key bindings.
+ */
+public class GameSettings {
+
+    private static final String RENDER_MODE_KEY = "render_mode";
+    private static final RenderMode DEFAULT_RENDER_MODE = RenderMode.NODES;
+    // Created after the defaults above, which the constructor reads
+    private static final GameSettings INSTANCE = new GameSettings();
+
+    private final Preferences preferences;
+
+    private RenderMode renderMode;
+
+    private GameSettings() {
+        preferences = Preferences.userNodeForPackage(GameSettings.class);
+        renderMode = loadRenderMode();
+    }
+
+    /**
+     * Gets the singleton instance.
+     * 
+     * @return the instance
+     */
+    public static GameSettings getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the selected board render mode.
+     * 
+     * @return the render mode
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Sets the board render mode and saves it to preferences.
+     * 
+     * @param renderMode the render mode
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+        preferences.put(RENDER_MODE_KEY, renderMode.name());
+    }
+
+    /**
+     * Resets all settings to default values.
+     */
+    public void resetToDefaults() {
+        setRenderMode(DEFAULT_RENDER_MODE);
+    }
+
+    // Reads the saved render mode, falling back to the default for missing or unknown values
+    private RenderMode loadRenderMode() {
+        String name = preferences.get(RENDER_MODE_KEY, DEFAULT_RENDER_MODE.name());
+        try {
+            return RenderMode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid render mode in preferences: " + name);
+            return DEFAULT_RENDER_MODE;
+        }
+    }
+}
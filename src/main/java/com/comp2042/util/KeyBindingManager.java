@@ -6,7 +6,7 @@ import java.util.*;
 import java.util.prefs.Preferences;
 
 /**
- * Manages key bindings for game actions.
+ * Manages key bindings for game actions and the auto-repeat timing of held direction keys.
  * Provides functionality to get, set, and persist key bindings.
  * Uses the Singleton pattern and supports versioning of default bindings.
  */
@@ -14,7 +14,18 @@ public class KeyBindingManager {
     
     private static final KeyBindingManager INSTANCE = new KeyBindingManager();
     private static final String KEYBIND_VERSION_KEY = "keybind_version";
-    private static final int CURRENT_KEYBIND_VERSION = 2; // Increment when defaults change
+    private static final int CURRENT_KEYBIND_VERSION = 4; // Increment when defaults change
+    private static final String DAS_KEY = "das_ms";
+    private static final String ARR_KEY = "arr_ms";
+    
+    /** Default Delayed Auto Shift: about 10 frames at 60Hz before a held direction starts repeating. */
+    public static final int DEFAULT_DAS_MILLIS = 167;
+    
+    /** Default Auto Repeat Rate: about 2 frames at 60Hz between repeats. */
+    public static final int DEFAULT_ARR_MILLIS = 33;
+    
+    /** Longest DAS or ARR accepted, so a bad saved value cannot disable movement. */
+    public static final int MAX_REPEAT_MILLIS = 1000;
     
     // Maps each action to a list of key codes
     private final Map<GameAction, List<KeyCode>> keyBindings;
@@ -24,6 +35,9 @@ public class KeyBindingManager {
     
     private final Preferences preferences;
     
+    private int dasMillis;
+    private int arrMillis;
+    
     private KeyBindingManager() {
         keyBindings = new EnumMap<>(GameAction.class);
         reverseBindings = new HashMap<>();
@@ -42,6 +56,9 @@ public class KeyBindingManager {
             // Old version or first run - save current defaults
             saveBindings();
         }
+        
+        dasMillis = clampRepeatMillis(preferences.getInt(DAS_KEY, DEFAULT_DAS_MILLIS));
+        arrMillis = clampRepeatMillis(preferences.getInt(ARR_KEY, DEFAULT_ARR_MILLIS));
     }
     
     /**
@@ -81,8 +98,10 @@ public class KeyBindingManager {
             case SOFT_DROP: return KeyCode.DOWN;
             case HARD_DROP: return KeyCode.SPACE;
             case HOLD_PIECE: return KeyCode.SHIFT;
+            case REWIND: return KeyCode.R;
             case PAUSE: return KeyCode.ESCAPE;
             case NEW_GAME: return KeyCode.N;
+            case TOGGLE_DEBUG: return KeyCode.F3;
             default: return null;
         }
     }
@@ -170,11 +189,55 @@ public class KeyBindingManager {
     }
     
     /**
-     * Resets all key bindings to default values.
+     * Gets the Delayed Auto Shift, the time a direction key is held before it starts repeating.
+     * 
+     * @return the delay in milliseconds
+     */
+    public int getDasMillis() {
+        return dasMillis;
+    }
+    
+    /**
+     * Sets the Delayed Auto Shift and saves it to preferences.
+     * 
+     * @param dasMillis the delay in milliseconds, clamped to 0..MAX_REPEAT_MILLIS
+     */
+    public void setDasMillis(int dasMillis) {
+        this.dasMillis = clampRepeatMillis(dasMillis);
+        preferences.putInt(DAS_KEY, this.dasMillis);
+    }
+    
+    /**
+     * Gets the Auto Repeat Rate, the time between repeats of a held direction key.
+     * 
+     * @return the interval in milliseconds, where 0 slides the brick to the wall at once
+     */
+    public int getArrMillis() {
+        return arrMillis;
+    }
+    
+    /**
+     * Sets the Auto Repeat Rate and saves it to preferences.
+     * 
+     * @param arrMillis the interval in milliseconds, clamped to 0..MAX_REPEAT_MILLIS
+     */
+    public void setArrMillis(int arrMillis) {
+        this.arrMillis = clampRepeatMillis(arrMillis);
+        preferences.putInt(ARR_KEY, this.arrMillis);
+    }
+    
+    /**
+     * Resets all key bindings and the auto-repeat timing to default values.
      */
     public void resetToDefaults() {
         loadDefaultBindings();
         saveBindings();
+        setDasMillis(DEFAULT_DAS_MILLIS);
+        setArrMillis(DEFAULT_ARR_MILLIS);
+    }
+    
+    private static int clampRepeatMillis(int millis) {
+        return Math.max(0, Math.min(MAX_REPEAT_MILLIS, millis));
     }
     
     /**
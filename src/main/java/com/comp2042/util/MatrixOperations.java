@@ -2,9 +2,6 @@ package com.comp2042.util;
 
 import com.comp2042.data.ClearRow;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -90,38 +87,48 @@ public class MatrixOperations {
      * Calculates the score bonus based on the number of rows cleared.
      * 
      * @param matrix the game board matrix to check
-     * @return a ClearRow object containing the number of lines removed, updated matrix, and score bonus
+     * @return a ClearRow object containing the number of lines removed, their indices, updated matrix, and score bonus
      */
     public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
-        Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
-
-        for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
-                clearedRows.add(i);
+        int[][] tmp = new int[matrix.length][];
+        int[] clearedRows = new int[matrix.length];
+        int clearedCount = 0;
+
+        // Copy surviving rows bottom-up so they settle at the bottom of the new matrix
+        int write = matrix.length - 1;
+        for (int i = matrix.length - 1; i >= 0; i--) {
+            if (isRowFull(matrix[i])) {
+                clearedRows[clearedCount++] = i;
             } else {
-                newRows.add(tmpRow);
+                tmp[write--] = matrix[i].clone();
             }
         }
-        for (int i = matrix.length - 1; i >= 0; i--) {
-            int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
-            } else {
-                break;
+        for (int i = write; i >= 0; i--) {
+            tmp[i] = new int[matrix[0].length];
+        }
+
+        // Report cleared rows top to bottom
+        int[] cleared = new int[clearedCount];
+        for (int i = 0; i < clearedCount; i++) {
+            cleared[i] = clearedRows[clearedCount - 1 - i];
+        }
+        int scoreBonus = 50 * clearedCount * clearedCount;
+        return new ClearRow(clearedCount, tmp, scoreBonus, cleared);
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     * 
+     * @param row the row to check
+     * @return true if the row has no empty cells
+     */
+    public static boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        return true;
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.comp2042.util;
+
+/**
+ * Represents the available ways of drawing the game board.
+ */
+public enum RenderMode {
+    /** One Rectangle node per cell, styled through the scene graph */
+    NODES("Nodes"),
+
+    /** Board, pieces and previews painted onto a single Canvas */
+    CANVAS("Canvas");
+
+    private final String displayName;
+
+    RenderMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the display name for this render mode.
+     * 
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the render mode that follows this one, wrapping around after the last.
+     * 
+     * @return the next render mode
+     */
+    public RenderMode next() {
+        RenderMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+}
@@ -0,0 +1,115 @@
+package com.comp2042.bot;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the beam search planner
+// Covers agreement with the single brick search, parallel expansion, the score cache, the time budget and the statistics
+class BeamSearchPlannerTest {
+
+    private static final long NO_BUDGET = Long.MAX_VALUE / 2;
+
+    @Test
+    void testDepthOneMatchesPlacementSearch() {
+        PlacementSearch search = new PlacementSearch();
+        BeamSearchPlanner planner = new BeamSearchPlanner(4, 1, NO_BUDGET, PlacementEvaluator.DEFAULT, null);
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(5));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+
+        for (int i = 0; i < 200 && !engine.isGameOver(); i++) {
+            Placement expected = search.findBest(board);
+            Placement planned = planner.findBest(board);
+            assertEquals(expected.toString(), planned.toString());
+            planned.play(engine);
+        }
+        assertEquals(1, planner.getLastDepth());
+    }
+
+    @Test
+    void testParallelExpansionMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BeamSearchPlanner sequential = new BeamSearchPlanner(6, 3, NO_BUDGET, PlacementEvaluator.DEFAULT, null);
+            BeamSearchPlanner parallel = new BeamSearchPlanner(6, 3, NO_BUDGET, PlacementEvaluator.DEFAULT, pool);
+            BitBoard board = new BitBoard(25, 10, new SevenBagBrickGenerator(17));
+            GameEngine engine = new GameEngine(board);
+            engine.newGame();
+
+            for (int i = 0; i < 100 && !engine.isGameOver(); i++) {
+                Placement expected = sequential.findBest(board);
+                Placement actual = parallel.findBest(board);
+                assertEquals(expected.toString(), actual.toString());
+                assertEquals(sequential.getLastNodes(), parallel.getLastNodes());
+                actual.play(engine);
+            }
+            assertEquals(3, parallel.getLastDepth());
+            assertEquals(0, parallel.getCutShortCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testScoreCacheLeavesPlansUnchanged() {
+        TranspositionTable table = new TranspositionTable(1 << 14);
+        BeamSearchPlanner plain = new BeamSearchPlanner(6, 3, NO_BUDGET, PlacementEvaluator.DEFAULT, null);
+        BeamSearchPlanner cached = new BeamSearchPlanner(6, 3, NO_BUDGET, PlacementEvaluator.DEFAULT, null, table);
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(23));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+
+        for (int i = 0; i < 100 && !engine.isGameOver(); i++) {
+            assertEquals(board.getSettledHash(), Playfield.of(board.snapshot()).getHash());
+            Placement expected = plain.findBest(board);
+            Placement actual = cached.findBest(board);
+            assertEquals(expected.toString(), actual.toString());
+            actual.play(engine);
+            if (!engine.isGameOver()) {
+                assertEquals(actual.getResult().getHash(), board.getSettledHash());
+            }
+        }
+        assertTrue(table.getHits() > 0);
+    }
+
+    @Test
+    void testExhaustedBudgetFallsBackToFirstLevel() {
+        BeamSearchPlanner planner = new BeamSearchPlanner(8, 4, 1, PlacementEvaluator.DEFAULT, null);
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(2));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+
+        Placement planned = planner.findBest(board);
+
+        assertNotNull(planned);
+        assertEquals(1, planner.getLastDepth());
+        assertEquals(1, planner.getCutShortCount());
+    }
+
+    @Test
+    void testLookaheadBotSurvivesAndReportsNodeRate() {
+        BeamSearchPlanner planner = new BeamSearchPlanner(4, 3, NO_BUDGET, PlacementEvaluator.DEFAULT, null);
+        PlacementBot bot = new PlacementBot(planner);
+        GameEngine engine = new GameEngine(new BitBoard(25, 10, new SevenBagBrickGenerator(11)));
+        engine.newGame();
+
+        while (engine.getPiecesLocked() < 500 && !engine.isGameOver()) {
+            bot.playPiece(engine);
+        }
+
+        assertFalse(engine.isGameOver());
+        assertEquals(500, planner.getPlanCount());
+        assertEquals(3.0, planner.getAverageDepth());
+        assertTrue(planner.getTotalNodes() > 500 * 3);
+        assertTrue(planner.getNodesPerSecond() > 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeamSearchPlanner(0, 3, NO_BUDGET, PlacementEvaluator.DEFAULT, null));
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.bot;
+
+import com.comp2042.engine.BatchReport;
+import com.comp2042.engine.BatchRunner;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the placement bot as a headless player and a hint engine
+class PlacementBotTest {
+
+    @Test
+    void testBotSurvivesSeededGames() {
+        BatchRunner runner = new BatchRunner(2, 2000,
+                seed -> new BitBoard(25, 10, new SevenBagBrickGenerator(seed)),
+                seed -> new PlacementBot());
+
+        BatchReport report = runner.run(0, 4);
+
+        assertEquals(0, report.getToppedOutCount());
+        assertEquals(8000, report.getTotalPieces());
+        for (int i = 0; i < report.getGameCount(); i++) {
+            // Every piece adds four cells, so 2000 pieces fill 800 lines' worth of a ten column board
+            assertTrue(report.getResult(i).getLines() > 700, report.getResult(i).toString());
+        }
+    }
+
+    @Test
+    void testSuggestLeavesBoardUnchanged() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(3));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+        PlacementBot bot = new PlacementBot();
+
+        Placement suggested = bot.suggest(board);
+        Placement played = bot.playPiece(board, engine);
+
+        assertEquals(suggested.toString(), played.toString());
+        assertEquals(1, engine.getPiecesLocked());
+    }
+}
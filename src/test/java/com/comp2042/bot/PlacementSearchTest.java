@@ -0,0 +1,201 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.data.DownData;
+import com.comp2042.data.ViewData;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import com.comp2042.model.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the placement search and its playfield
+// Covers line clears, the hold alternative, agreement with the real boards and with a parallel search
+class PlacementSearchTest {
+
+    // Four rows full except the last column
+    private static final int[] WELL = {0x1FF, 0x1FF, 0x1FF, 0x1FF};
+
+    @Test
+    void testFillsWellForFourLines() {
+        Playfield field = withBottomRows(WELL);
+
+        Placement best = new PlacementSearch().findBest(field, ShapeTable.I, 0, Playfield.SPAWN_X,
+                Playfield.SPAWN_Y, 0);
+
+        assertEquals(4, best.getLinesCleared());
+        assertEquals(9, best.getColumn() + ShapeTable.get(ShapeTable.I, best.getRotation()).getMinCol());
+        for (int row = 0; row < field.getRows(); row++) {
+            assertEquals(0, best.getResult().getRowBits(row));
+        }
+    }
+
+    @Test
+    void testHoldsWhenHeldBrickScoresBetter() {
+        Placement best = new PlacementSearch().findBest(withBottomRows(WELL), ShapeTable.O, 0, Playfield.SPAWN_X,
+                Playfield.SPAWN_Y, ShapeTable.I);
+
+        assertTrue(best.isHold());
+        assertEquals(ShapeTable.I, best.getType());
+        assertEquals(4, best.getLinesCleared());
+    }
+
+    @Test
+    void testEnumeratesEveryColumnOfEachRotation() {
+        Playfield field = new Playfield(25, 10);
+
+        List<Placement> placements = new PlacementSearch().enumerate(field, ShapeTable.O, 0, Playfield.SPAWN_X,
+                Playfield.SPAWN_Y, 0);
+
+        // The O brick has one rotation and is two columns wide
+        assertEquals(9, placements.size());
+        for (Placement placement : placements) {
+            assertEquals(placement.getColumn() - Playfield.SPAWN_X, placement.getShift());
+            assertFalse(placement.isHold());
+        }
+    }
+
+    @Test
+    void testPlayfieldMatchesBoardCellsAndWalls() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(4));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+        for (int i = 0; i < 12; i++) {
+            engine.hardDrop();
+        }
+
+        Playfield field = Playfield.of(board.snapshot());
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < 25; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(matrix[row][col] != 0, (field.getRowBits(row) & 1 << col) != 0, row + "," + col);
+            }
+        }
+        assertFalse(field.fits(ShapeTable.get(ShapeTable.I, 0), -1, 20));
+        assertFalse(field.fits(ShapeTable.get(ShapeTable.I, 0), 7, 20));
+        assertThrows(IllegalArgumentException.class, () -> new Playfield(25, 32));
+    }
+
+    @Test
+    void testPredictedPositionIsReachedOnSimpleBoard() {
+        assertPredictionsHold(new SimpleBoard(25, 10, new SevenBagBrickGenerator(21)));
+    }
+
+    @Test
+    void testPredictedPositionIsReachedOnBitBoard() {
+        assertPredictionsHold(new BitBoard(25, 10, new SevenBagBrickGenerator(21)));
+    }
+
+    @Test
+    void testParallelSearchMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PlacementSearch sequential = new PlacementSearch();
+            PlacementSearch parallel = new PlacementSearch(PlacementEvaluator.DEFAULT, pool);
+            SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(9));
+            GameEngine engine = new GameEngine(board);
+            engine.newGame();
+            for (int i = 0; i < 300 && !engine.isGameOver(); i++) {
+                Placement expected = sequential.findBest(board);
+                Placement actual = parallel.findBest(board);
+                assertEquals(expected.toString(), actual.toString());
+                assertEquals(expected.getShift(), actual.getShift());
+                expected.play(engine);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Plays bot moves and checks the brick sits where the search predicted just before each hard drop,
+    // and that the settled blocks afterwards match the predicted playfield
+    private static void assertPredictionsHold(Board board) {
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+        PlacementSearch search = new PlacementSearch();
+        for (int i = 0; i < 500 && !engine.isGameOver(); i++) {
+            Placement placement = search.findBest(board);
+            placement.play(new CheckingListener(engine, board, placement));
+            if (!engine.isGameOver()) {
+                Playfield actual = Playfield.of(board.snapshot());
+                for (int row = 0; row < actual.getRows(); row++) {
+                    assertEquals(placement.getResult().getRowBits(row), actual.getRowBits(row), "piece " + i);
+                }
+            }
+        }
+        assertTrue(engine.getScore().getLines() > 0);
+    }
+
+    private static Playfield withBottomRows(int... bottom) {
+        int[] rows = new int[25];
+        System.arraycopy(bottom, 0, rows, rows.length - bottom.length, bottom.length);
+        return Playfield.of(10, rows);
+    }
+
+    // Forwards moves to the engine and checks the falling brick against the placement before the hard drop
+    private static final class CheckingListener implements InputEventListener {
+        private final GameEngine engine;
+        private final Board board;
+        private final Placement placement;
+
+        CheckingListener(GameEngine engine, Board board, Placement placement) {
+            this.engine = engine;
+            this.board = board;
+            this.placement = placement;
+        }
+
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            return engine.onDownEvent(event);
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            return engine.onLeftEvent(event);
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            return engine.onRightEvent(event);
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            return engine.onRotateEvent(event);
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            BoardSnapshot snapshot = board.snapshot();
+            assertEquals(placement.getType(), snapshot.getBrickType());
+            assertEquals(placement.getRotation(), snapshot.getRotation());
+            assertEquals(placement.getColumn(), snapshot.getOffsetX());
+            assertEquals(placement.getRow(), board.getViewData().getGhostYPosition());
+            return engine.onHardDropEvent(event);
+        }
+
+        @Override
+        public ViewData onHoldEvent(MoveEvent event) {
+            return engine.onHoldEvent(event);
+        }
+
+        @Override
+        public ViewData onRewindEvent(MoveEvent event) {
+            return engine.onRewindEvent(event);
+        }
+
+        @Override
+        public void createNewGame() {
+            engine.createNewGame();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.comp2042.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the lock-free transposition table
+// Covers lookups, the depth-preferred replacement policy, generations, concurrent use and the statistics
+class TranspositionTableTest {
+
+    @Test
+    void testStoresAndProbes() {
+        TranspositionTable table = new TranspositionTable(1024);
+
+        table.store(42, 1.5, 3);
+
+        assertEquals(1.5, table.probe(42, 0));
+        assertEquals(1.5, table.probe(42, 3));
+        assertTrue(Double.isNaN(table.probe(42, 4)));
+        assertTrue(Double.isNaN(table.probe(43, 0)));
+        assertEquals(1024, table.getCapacity());
+        assertEquals(1024 * 3 * Long.BYTES, table.getSizeBytes());
+        assertEquals(1, table.countEntries());
+        assertEquals(0.5, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testDeepEntryOutlivesShallowOnesInItsBucket() {
+        TranspositionTable table = new TranspositionTable(2);
+
+        // Every key shares the single bucket
+        table.store(1, 10, 5);
+        table.store(2, 20, 0);
+        table.store(3, 30, 0);
+
+        assertEquals(10, table.probe(1, 0));
+        assertTrue(Double.isNaN(table.probe(2, 0)));
+        assertEquals(30, table.probe(3, 0));
+        assertEquals(1, table.getOverwrites());
+
+        // After a new generation the deep slot takes any result
+        table.newGeneration();
+        table.store(4, 40, 0);
+        assertTrue(Double.isNaN(table.probe(1, 0)));
+        assertEquals(40, table.probe(4, 0));
+    }
+
+    @Test
+    void testConcurrentWritersNeverExposeTornEntries() throws Exception {
+        TranspositionTable table = new TranspositionTable(64);
+        AtomicInteger wrong = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] workers = new Future<?>[4];
+            for (int t = 0; t < workers.length; t++) {
+                long seed = t;
+                workers[t] = executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 200_000; i++) {
+                        // Few keys over few buckets so writers keep colliding; each key has one right value
+                        long key = random.nextLong(512) * 0x9E3779B97F4A7C15L;
+                        if (random.nextBoolean()) {
+                            table.store(key, valueOf(key), random.nextInt(4));
+                        } else {
+                            double value = table.probe(key, 0);
+                            if (!Double.isNaN(value) && value != valueOf(key)) {
+                                wrong.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, wrong.get());
+        assertTrue(table.getHits() > 0);
+        assertTrue(table.getStores() > 0);
+    }
+
+    @Test
+    void testSizingAndReset() {
+        TranspositionTable table = TranspositionTable.ofBytes(64 * 1024);
+        for (long key = 1; key <= 100; key++) {
+            table.store(key, key, 0);
+            table.probe(key, 0);
+        }
+
+        assertTrue(table.getSizeBytes() <= 64 * 1024);
+        assertEquals(100, table.getHits());
+
+        table.clear();
+
+        assertEquals(0, table.countEntries());
+        assertEquals(0, table.getHits());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(1));
+    }
+
+    private static double valueOf(long key) {
+        return key >>> 40;
+    }
+}
@@ -2,15 +2,27 @@ package com.comp2042.controller;
 
 import com.comp2042.data.DownData;
 import com.comp2042.data.ViewData;
+import com.comp2042.engine.Replay;
+import com.comp2042.engine.ReplayRecorder;
+import com.comp2042.engine.RewindBuffer;
 import com.comp2042.event.EventSource;
 import com.comp2042.event.EventType;
 import com.comp2042.event.MoveEvent;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
 import com.comp2042.ui.GuiController;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -245,7 +257,7 @@ class GameControllerInputTest {
         gameController.createNewGame();
         
         // Verify GUI refresh methods called
-        verify(mockGuiController, atLeastOnce()).refreshGameBackground(any());
+        verify(mockGuiController, atLeastOnce()).refreshGameBackground(any(), any());
         verify(mockGuiController, atLeastOnce()).refreshBrick(any());
     }
 
@@ -258,7 +270,7 @@ class GameControllerInputTest {
         
         gameController.createNewGame();
         
-        verify(mockGuiController, atLeastOnce()).refreshGameBackground(any());
+        verify(mockGuiController, atLeastOnce()).refreshGameBackground(any(), any());
     }
 
     // COMPLEX INPUT SEQUENCE TESTS
@@ -402,4 +414,98 @@ class GameControllerInputTest {
         
         assertNotNull(result);
     }
+
+    // REWIND TESTS
+
+    @Test
+    void testUserRewindsLastPiece() {
+        GameController practice = new GameController(mockGuiController, new SimpleBoard(25, 10));
+        practice.enableRewind(new RewindBuffer());
+        practice.initializeGame();
+        practice.createNewGame();
+        practice.onHardDropEvent(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+        practice.onHardDropEvent(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+        verify(mockGuiController).setRewindEnabled(true);
+        clearInvocations(mockGuiController);
+
+        ViewData viewData = practice.onRewindEvent(MoveEvent.of(EventType.REWIND, EventSource.USER));
+
+        assertNotNull(viewData);
+        assertEquals(1, practice.getEngine().getPiecesLocked());
+        verify(mockGuiController).refreshGameBackground(any(), any());
+    }
+
+    @Test
+    void testRewindDoesNothingOutsidePractice() {
+        gameController.createNewGame();
+        gameController.onHardDropEvent(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+
+        gameController.onRewindEvent(MoveEvent.of(EventType.REWIND, EventSource.USER));
+
+        assertEquals(1, gameController.getEngine().getPiecesLocked());
+    }
+
+    // REPLAY RECORDING TESTS
+
+    @Test
+    void testRecordsEachGameToItsOwnFile(@TempDir Path dir) throws Exception {
+        // Hard drop until the game tops out, then start another game and abandon it
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameController recording = new GameController(mockGuiController, new SimpleBoard(25, 10, generator));
+        recording.recordReplays(new ReplayRecorder(dir, 5, Runnable::run), generator);
+        recording.initializeGame();
+        recording.createNewGame();
+        MoveEvent hardDrop = MoveEvent.of(EventType.HARD_DROP, EventSource.USER);
+        int drops = 0;
+        while (!recording.getEngine().isGameOver()) {
+            recording.onHardDropEvent(hardDrop);
+            drops++;
+        }
+        int finalScore = recording.getEngine().getScore().getScore();
+        recording.createNewGame();
+        recording.createNewGame();
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.collect(Collectors.toList());
+        }
+        assertEquals(2, files.size());
+        Replay toppedOut = null;
+        for (Path file : files) {
+            Replay replay = Replay.read(file);
+            if (replay.isToppedOut()) {
+                toppedOut = replay;
+            }
+        }
+        assertNotNull(toppedOut);
+        assertEquals(drops, toppedOut.getEventCount());
+        assertEquals(finalScore, toppedOut.getScore());
+        verify(mockGuiController).gameOver();
+    }
+
+    @Test
+    void testRejectedInputsAreNotRecorded(@TempDir Path dir) {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameController recording = new GameController(mockGuiController, new SimpleBoard(25, 10, generator));
+        ReplayRecorder recorder = new ReplayRecorder(dir, 5, Runnable::run);
+        recording.recordReplays(recorder, generator);
+        recording.initializeGame();
+        recording.createNewGame();
+        MoveEvent left = MoveEvent.of(EventType.LEFT, EventSource.USER);
+        MoveEvent hold = MoveEvent.of(EventType.HOLD, EventSource.USER);
+
+        // The first hold spawns a new brick and the second swaps back, after which holding is refused until a lock
+        recording.onHoldEvent(hold);
+        recording.onHoldEvent(hold);
+        for (int i = 0; i < 10; i++) {
+            recording.onLeftEvent(left);
+        }
+        int sizeAfterAccepted = recorder.getEncodedSize();
+        for (int i = 0; i < 100; i++) {
+            recording.onLeftEvent(left);
+            recording.onHoldEvent(hold);
+        }
+
+        assertEquals(sizeAfterAccepted, recorder.getEncodedSize(), "rejected inputs add no records");
+    }
 }
@@ -0,0 +1,146 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.EventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests held-key auto-repeat against a 10-column row with the brick starting in the middle
+// Covers DAS, ARR, 0ms ARR, frame-rate independence, ignored OS repeats and direction switching
+class AutoShiftTest {
+
+    private static final long MS = 1_000_000L;
+
+    private int column;
+    private AutoShift autoShift;
+
+    @BeforeEach
+    void setUp() {
+        column = 4;
+        autoShift = new AutoShift(() -> move(-1), () -> move(1), 100, 20);
+    }
+
+    private boolean move(int delta) {
+        int target = column + delta;
+        if (target < 0 || target > 9) {
+            return false;
+        }
+        column = target;
+        return true;
+    }
+
+    @Test
+    void testPressShiftsOnceAndWaitsForDas() {
+        autoShift.press(EventType.RIGHT, 0);
+        assertEquals(5, column);
+
+        autoShift.update(99 * MS);
+        assertEquals(5, column);
+
+        autoShift.update(100 * MS);
+        assertEquals(6, column);
+    }
+
+    @Test
+    void testRepeatsFollowArr() {
+        autoShift.press(EventType.LEFT, 0);
+
+        autoShift.update(100 * MS);
+        autoShift.update(139 * MS);
+        assertEquals(1, column, "initial shift, DAS shift and one repeat at 120ms");
+
+        autoShift.update(140 * MS);
+        assertEquals(0, column);
+    }
+
+    @Test
+    void testShiftsDependOnlyOnHoldTimeNotFrameRate() {
+        autoShift.press(EventType.LEFT, 0);
+        autoShift.update(145 * MS);
+        int oneFrame = column;
+
+        setUp();
+        autoShift.press(EventType.LEFT, 0);
+        for (long t = 0; t <= 145 * MS; t += 7 * MS) {
+            autoShift.update(t);
+        }
+        autoShift.update(145 * MS);
+
+        assertEquals(oneFrame, column);
+    }
+
+    @Test
+    void testZeroArrSlidesToWallInOneUpdate() {
+        autoShift.setTiming(100, 0);
+        autoShift.press(EventType.RIGHT, 0);
+
+        assertEquals(4, autoShift.update(100 * MS));
+        assertEquals(9, column);
+    }
+
+    @Test
+    void testRepeatsBlockedByWallAreNotQueued() {
+        autoShift.press(EventType.RIGHT, 0);
+        autoShift.update(1000 * MS);
+        assertEquals(9, column);
+
+        // Brick moved away from the wall, e.g. by a new spawn, and only repeats due from now on apply
+        column = 4;
+        autoShift.update(1001 * MS);
+        assertEquals(4, column);
+        autoShift.update(1020 * MS);
+        assertEquals(5, column);
+    }
+
+    @Test
+    void testOsKeyRepeatIsIgnored() {
+        autoShift.press(EventType.RIGHT, 0);
+        autoShift.press(EventType.RIGHT, 30 * MS);
+        autoShift.press(EventType.RIGHT, 60 * MS);
+
+        assertEquals(5, column);
+    }
+
+    @Test
+    void testReleaseStopsRepeat() {
+        autoShift.press(EventType.RIGHT, 0);
+        autoShift.release(EventType.RIGHT, 50 * MS);
+
+        autoShift.update(500 * MS);
+
+        assertEquals(5, column);
+        assertFalse(autoShift.isHeld(EventType.RIGHT));
+    }
+
+    @Test
+    void testLatestDirectionWinsAndOtherRechargesOnRelease() {
+        autoShift.press(EventType.RIGHT, 0);
+        autoShift.press(EventType.LEFT, 10 * MS);
+        assertEquals(4, column);
+
+        autoShift.release(EventType.LEFT, 20 * MS);
+        autoShift.update(119 * MS);
+        assertEquals(4, column, "right charges its DAS again from the release");
+
+        autoShift.update(120 * MS);
+        assertEquals(5, column);
+    }
+
+    @Test
+    void testReleaseAllForgetsHeldKeys() {
+        autoShift.press(EventType.LEFT, 0);
+        autoShift.releaseAll();
+
+        autoShift.update(500 * MS);
+        autoShift.press(EventType.LEFT, 500 * MS);
+
+        assertEquals(2, column, "only the two presses moved the brick");
+    }
+
+    @Test
+    void testRejectsOtherDirections() {
+        assertThrows(IllegalArgumentException.class, () -> autoShift.press(EventType.DOWN, 0));
+        assertThrows(IllegalArgumentException.class, () -> autoShift.setTiming(-1, 0));
+    }
+}
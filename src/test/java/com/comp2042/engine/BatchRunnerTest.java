@@ -0,0 +1,65 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the parallel batch runner
+// Covers determinism across thread counts, the piece limit and report aggregation
+class BatchRunnerTest {
+
+    @Test
+    void testResultsDoNotDependOnThreadCount() {
+        BatchReport single = new BatchRunner(1).run(100, 64);
+        BatchReport parallel = new BatchRunner(4).run(100, 64);
+
+        assertEquals(64, single.getGameCount());
+        for (int i = 0; i < 64; i++) {
+            GameResult a = single.getResult(i);
+            GameResult b = parallel.getResult(i);
+            assertEquals(100 + i, a.getSeed());
+            assertEquals(a.getSeed(), b.getSeed());
+            assertEquals(a.getScore(), b.getScore());
+            assertEquals(a.getLines(), b.getLines());
+            assertEquals(a.getPieces(), b.getPieces());
+        }
+        assertEquals(single.getTotalPieces(), parallel.getTotalPieces());
+    }
+
+    @Test
+    void testPieceLimitStopsGames() {
+        // A strategy that never moves stacks in the middle, so cap it below the topping out point
+        BatchRunner runner = new BatchRunner(2, 5,
+                seed -> new SimpleBoard(25, 10, new SevenBagBrickGenerator(seed)),
+                seed -> GameEngine::hardDrop);
+
+        BatchReport report = runner.run(0, 10);
+
+        assertEquals(50, report.getTotalPieces());
+        assertEquals(0, report.getToppedOutCount());
+        assertEquals(5, report.getPieces().getMax());
+    }
+
+    @Test
+    void testReportAggregatesGames() {
+        BatchReport report = new BatchRunner(2).run(7, 20);
+
+        assertEquals(20, report.getToppedOutCount());
+        assertEquals(2, report.getParallelism());
+        long pieces = 0;
+        for (int i = 0; i < report.getGameCount(); i++) {
+            pieces += report.getResult(i).getPieces();
+        }
+        assertEquals(pieces, report.getTotalPieces());
+        assertTrue(report.getPiecesPerSecond() > 0);
+        assertEquals(report.getPiecesPerSecond() / 2, report.getPiecesPerSecondPerCore(), 1e-9);
+        assertTrue(report.getScores().getMin() <= report.getScores().getMax());
+    }
+
+    @Test
+    void testInvalidParallelismIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(0));
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the sample distribution statistics
+class DistributionTest {
+
+    @Test
+    void testStatisticsOfSamples() {
+        int[] samples = {5, 1, 4, 2, 3, 10, 9, 8, 7, 6};
+        Distribution distribution = Distribution.of(samples);
+
+        assertEquals(10, distribution.getCount());
+        assertEquals(1, distribution.getMin());
+        assertEquals(10, distribution.getMax());
+        assertEquals(5.5, distribution.getMean(), 1e-9);
+        assertEquals(5, distribution.getPercentile(50));
+        assertEquals(9, distribution.getPercentile(90));
+        assertEquals(10, distribution.getPercentile(100));
+        assertEquals(5, samples[0]); // Samples are copied, not sorted in place
+    }
+
+    @Test
+    void testEmptyDistribution() {
+        Distribution distribution = Distribution.of(new int[0]);
+
+        assertEquals(0, distribution.getCount());
+        assertEquals(0, distribution.getMax());
+        assertEquals(0, distribution.getPercentile(50));
+        assertEquals(0.0, distribution.getMean());
+    }
+}
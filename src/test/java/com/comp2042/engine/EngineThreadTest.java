@@ -0,0 +1,256 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.GameSnapshot;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the engine thread's tick handling by calling tick directly, plus one run on a real thread
+// Covers queued inputs, pause, new game requests, stale snapshots, held keys, gravity and rewind
+class EngineThreadTest {
+
+    private static final long MS = 1_000_000L;
+
+    private GameEngine engine;
+    private EngineThread engineThread;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new SimpleBoard(25, 10, new SevenBagBrickGenerator(3)));
+        engineThread = new EngineThread(engine, 1000, 100, 20);
+        engineThread.requestNewGame();
+        engineThread.setPaused(false);
+        engineThread.tick(0);
+    }
+
+    @Test
+    void testNewGamePublishesSnapshot() {
+        GameSnapshot snapshot = engineThread.pollSnapshot();
+
+        assertNotNull(snapshot);
+        assertEquals(1, snapshot.getGame());
+        assertNotNull(snapshot.getBoardMatrix());
+        assertFalse(snapshot.isGameOver());
+        assertNull(engineThread.pollSnapshot(), "nothing changed since the last poll");
+    }
+
+    @Test
+    void testQueuedInputsApplyAtNextTick() {
+        engineThread.pollSnapshot();
+        int startX = engine.getBoard().getViewData().getxPosition();
+
+        engineThread.submit(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        engineThread.pressShift(EventType.LEFT);
+        engineThread.releaseShift(EventType.LEFT);
+        assertEquals(startX, engine.getBoard().getViewData().getxPosition(), "inputs wait for the tick");
+
+        engineThread.tick(MS);
+
+        GameSnapshot snapshot = engineThread.pollSnapshot();
+        assertEquals(startX - 1, snapshot.getViewData().getxPosition());
+        assertEquals(2, snapshot.getInputsApplied());
+    }
+
+    @Test
+    void testHardDropPublishesNewBoardAndScore() {
+        GameSnapshot before = engineThread.pollSnapshot();
+
+        engineThread.submit(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        engineThread.tick(MS);
+
+        GameSnapshot after = engineThread.pollSnapshot();
+        assertNotSame(before.getBoardMatrix(), after.getBoardMatrix(), "lock publishes a new board copy");
+        assertTrue(after.getScore() > 0);
+    }
+
+    @Test
+    void testRewindRestoresBoardBeforeLock() {
+        engine.setRewindBuffer(new RewindBuffer());
+        engineThread.requestNewGame();
+        engineThread.tick(MS);
+        GameSnapshot before = engineThread.pollSnapshot();
+
+        engineThread.submit(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+        engineThread.submit(MoveEvent.of(EventType.REWIND, EventSource.USER));
+        engineThread.tick(2 * MS);
+
+        GameSnapshot after = engineThread.pollSnapshot();
+        assertArrayEquals(before.getBoardMatrix(), after.getBoardMatrix());
+        assertEquals(0, after.getScore());
+        assertEquals(0, engine.getPiecesLocked());
+    }
+
+    @Test
+    void testBoardIsSharedUntilBackgroundChanges() {
+        GameSnapshot first = engineThread.pollSnapshot();
+
+        engineThread.submit(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        engineThread.tick(MS);
+
+        assertSame(first.getBoardMatrix(), engineThread.pollSnapshot().getBoardMatrix());
+    }
+
+    @Test
+    void testHeldKeyRepeatsOnEngineThread() {
+        engineThread.pressShift(EventType.RIGHT);
+        engineThread.tick(MS);
+        int afterPress = engine.getBoard().getViewData().getxPosition();
+
+        engineThread.tick(141 * MS);
+
+        assertEquals(afterPress + 2, engine.getBoard().getViewData().getxPosition(), "DAS at 101ms, one repeat at 121ms");
+        assertFalse(engineThread.pressShift(EventType.RIGHT), "OS repeat of a held key is ignored");
+    }
+
+    @Test
+    void testPauseDropsInputsAndStopsGravity() {
+        engineThread.pollSnapshot();
+        engineThread.setPaused(true);
+        engineThread.tick(MS);
+        int y = engine.getBoard().getViewData().getyPosition();
+
+        engineThread.submit(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        engineThread.tick(10_000 * MS);
+
+        assertEquals(y, engine.getBoard().getViewData().getyPosition());
+        assertEquals(0, engine.getPiecesLocked());
+    }
+
+    @Test
+    void testGravityRunsFromClock() {
+        int y = engine.getBoard().getViewData().getyPosition();
+
+        for (long t = 1; t <= 1300; t++) {
+            engineThread.tick(t * MS);
+        }
+
+        assertEquals(y + 2, engine.getBoard().getViewData().getyPosition(), "level 1 drops a row every 600ms");
+    }
+
+    @Test
+    void testSnapshotsOfReplacedGameAreDropped() {
+        engineThread.submit(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        engineThread.tick(MS);
+
+        engineThread.requestNewGame();
+
+        assertNull(engineThread.pollSnapshot(), "the published snapshot belongs to game 1");
+        engineThread.tick(2 * MS);
+        assertEquals(2, engineThread.pollSnapshot().getGame());
+    }
+
+    @Test
+    void testRunsOnItsOwnThread() throws InterruptedException {
+        EngineThread threaded = new EngineThread(new GameEngine(new SimpleBoard(25, 10, new SevenBagBrickGenerator(3))),
+                1000, 100, 20);
+        threaded.start();
+        try {
+            threaded.requestNewGame();
+            threaded.setPaused(false);
+            threaded.submit(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+
+            GameSnapshot snapshot = null;
+            long deadline = System.nanoTime() + 5_000 * MS;
+            while (System.nanoTime() < deadline) {
+                GameSnapshot polled = threaded.pollSnapshot();
+                if (polled != null) {
+                    snapshot = polled;
+                    if (snapshot.getInputsApplied() == 1) {
+                        break;
+                    }
+                }
+                Thread.sleep(1);
+            }
+
+            assertNotNull(snapshot);
+            assertEquals(1, snapshot.getInputsApplied());
+            assertTrue(snapshot.getScore() > 0);
+        } finally {
+            threaded.stop();
+        }
+    }
+
+    @Test
+    void testRecordsGameUntilGameOver(@TempDir Path dir) throws Exception {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameEngine recorded = new GameEngine(new SimpleBoard(25, 10, generator));
+        EngineThread recording = new EngineThread(recorded, 1000, 100, 20);
+        recording.recordReplays(new ReplayRecorder(dir, 9, Runnable::run), generator);
+        recording.requestNewGame();
+        recording.setPaused(false);
+        long now = 0;
+        recording.tick(now);
+        recording.submit(MoveEvent.of(EventType.LEFT, EventSource.USER));
+        while (!recorded.isGameOver()) {
+            recording.submit(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+            now += MS;
+            recording.tick(now);
+        }
+
+        Path file;
+        try (Stream<Path> files = Files.list(dir)) {
+            file = files.findFirst().orElseThrow();
+        }
+        Replay replay = Replay.read(file);
+        assertEquals(generator.getSeed(), replay.getSeed());
+        assertTrue(replay.isToppedOut());
+        assertEquals(recorded.getScore().getScore(), replay.getScore());
+        assertSame(MoveEvent.of(EventType.LEFT, EventSource.USER), replay.getEvent(0));
+        assertEquals(recorded.getPiecesLocked() + 1, replay.getEventCount());
+    }
+
+    @Test
+    void testShiftsBlockedByWallAreNotRecorded(@TempDir Path dir) {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameEngine recorded = new GameEngine(new SimpleBoard(25, 10, generator));
+        ReplayRecorder recorder = new ReplayRecorder(dir, 9, Runnable::run);
+        EngineThread recording = new EngineThread(recorded, 1000, 100, 20);
+        recording.recordReplays(recorder, generator);
+        recording.requestNewGame();
+        recording.setPaused(false);
+        recording.tick(0);
+
+        // Hold left until the brick reaches the wall, then keep holding until just before the first gravity row
+        recording.pressShift(EventType.LEFT);
+        for (long ms = 1; ms <= 300; ms++) {
+            recording.tick(ms * MS);
+        }
+        int wallX = recorded.getBoard().getViewData().getxPosition();
+        int sizeAtWall = recorder.getEncodedSize();
+        for (long ms = 301; ms < 590; ms++) {
+            recording.tick(ms * MS);
+        }
+
+        assertEquals(wallX, recorded.getBoard().getViewData().getxPosition());
+        assertEquals(sizeAtWall, recorder.getEncodedSize(), "repeats into the wall add no records");
+    }
+
+    @Test
+    void testRewindIsIgnoredWhileRecording(@TempDir Path dir) {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameEngine recorded = new GameEngine(new SimpleBoard(25, 10, generator));
+        recorded.setRewindBuffer(new RewindBuffer());
+        EngineThread recording = new EngineThread(recorded, 1000, 100, 20);
+        recording.recordReplays(new ReplayRecorder(dir, 9, Runnable::run), generator);
+        recording.requestNewGame();
+        recording.setPaused(false);
+        recording.tick(0);
+
+        recording.submit(MoveEvent.of(EventType.HARD_DROP, EventSource.USER));
+        recording.submit(MoveEvent.of(EventType.REWIND, EventSource.USER));
+        recording.tick(MS);
+
+        assertEquals(1, recorded.getPiecesLocked());
+    }
+}
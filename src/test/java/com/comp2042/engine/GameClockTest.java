@@ -0,0 +1,122 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the fixed-timestep gravity clock
+// Covers frame-rate independence, fractional and multi-row gravity, level changes and stalls
+class GameClockTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private int rowsDropped;
+    private GameClock clock;
+
+    @BeforeEach
+    void setUp() {
+        rowsDropped = 0;
+        clock = new GameClock(() -> {
+            rowsDropped++;
+            return true;
+        });
+        clock.start();
+        clock.advance(0);
+    }
+
+    @Test
+    void testLevelOneDropsAboutOneRowPer600Millis() {
+        for (long t = 0; t <= 6 * SECOND; t += 10_000_000) {
+            clock.advance(t);
+        }
+
+        assertEquals(10, rowsDropped, 1);
+    }
+
+    @Test
+    void testRowsDependOnlyOnElapsedTimeNotFrameTiming() {
+        Random random = new Random(9);
+        long now = 0;
+        for (int frame = 0; frame < 2000; frame++) {
+            now += 1_000_000 + random.nextInt(30_000_000);
+            clock.advance(now);
+        }
+        int irregular = rowsDropped;
+        long steps = clock.getStepCount();
+
+        setUp();
+        for (long t = 0; t <= now; t += GameClock.STEP_NANOS) {
+            clock.advance(t);
+        }
+        clock.advance(now);
+
+        assertEquals(steps, clock.getStepCount());
+        assertEquals(irregular, rowsDropped);
+    }
+
+    @Test
+    void testFastGravityDropsSeveralRowsPerStep() {
+        clock.setRowsPerSecond(GameClock.STEPS_PER_SECOND * 3.0);
+
+        clock.advance(GameClock.STEP_NANOS);
+
+        assertEquals(1, clock.getStepCount());
+        assertEquals(3, rowsDropped);
+    }
+
+    @Test
+    void testLockStopsRemainingRowsOfStep() {
+        int[] calls = new int[1];
+        GameClock locking = new GameClock(() -> ++calls[0] % 2 != 0);
+        locking.setRowsPerSecond(GameClock.STEPS_PER_SECOND * 5.0);
+        locking.start();
+        locking.advance(0);
+
+        locking.advance(GameClock.STEP_NANOS);
+
+        assertEquals(2, calls[0], "second row locked the brick, so the other three rows were discarded");
+    }
+
+    @Test
+    void testLevelChangeKeepsPartialRow() {
+        // 300 of the 600ms needed for a level 1 row have passed
+        clock.advance(SECOND * 3 / 10);
+        assertEquals(0, rowsDropped);
+
+        // Level 2 falls at 500ms per row, so the half row already accumulated needs only 250ms more
+        clock.setLevel(2);
+        clock.advance(SECOND * 3 / 10 + SECOND * 26 / 100);
+
+        assertEquals(1, rowsDropped);
+    }
+
+    @Test
+    void testStallCatchesUpAtMostOneSecond() {
+        int steps = clock.advance(10 * SECOND);
+
+        assertEquals(GameClock.MAX_CATCH_UP_STEPS, steps);
+        assertEquals(0, clock.advance(10 * SECOND + GameClock.STEP_NANOS / 2));
+    }
+
+    @Test
+    void testStoppedTimeIsNotCaughtUp() {
+        clock.stop();
+        assertEquals(0, clock.advance(5 * SECOND));
+
+        clock.start();
+        clock.advance(5 * SECOND);
+        clock.advance(5 * SECOND + GameClock.STEP_NANOS);
+
+        assertEquals(1, clock.getStepCount());
+    }
+
+    @Test
+    void testGravityMatchesOriginalFallIntervals() {
+        assertEquals(1000.0 / 600, GameClock.rowsPerSecondForLevel(1), 1e-9);
+        assertEquals(1000.0 / 100, GameClock.rowsPerSecondForLevel(6), 1e-9);
+        assertEquals(1000.0 / 50, GameClock.rowsPerSecondForLevel(20), 1e-9);
+    }
+}
@@ -0,0 +1,231 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.DownData;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the headless game engine without any view attached
+// Covers scoring, locking, game over notification, practice rewind and the JavaFX-free package boundary
+class GameEngineTest {
+
+    private GameEngine engine;
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new SimpleBoard(25, 10));
+        listener = new RecordingListener();
+        engine.setListener(listener);
+        engine.newGame();
+    }
+
+    @Test
+    void testNewGameNotifiesBackground() {
+        assertEquals(1, listener.backgroundChanges);
+        assertFalse(engine.isGameOver());
+    }
+
+    @Test
+    void testTickMovesWithoutScoring() {
+        assertNull(engine.tick());
+        assertEquals(0, engine.getScore().getScore());
+    }
+
+    @Test
+    void testSoftDropScoresOnePoint() {
+        assertNull(engine.softDrop());
+        assertEquals(1, engine.getScore().getScore());
+    }
+
+    @Test
+    void testHardDropLocksAndScoresDistance() {
+        ClearRow clearRow = engine.hardDrop();
+
+        assertNotNull(clearRow);
+        assertTrue(engine.getScore().getScore() > 0);
+        assertEquals(2, listener.backgroundChanges);
+    }
+
+    @Test
+    void testTicksEventuallyLockBrick() {
+        ClearRow clearRow = null;
+        for (int i = 0; i < 30 && clearRow == null; i++) {
+            clearRow = engine.tick();
+        }
+        assertNotNull(clearRow);
+        assertEquals(0, engine.getScore().getScore());
+    }
+
+    @Test
+    void testStackingToTopEndsGame() {
+        int pieces = 0;
+        while (!engine.isGameOver() && pieces < 100) {
+            engine.hardDrop();
+            pieces++;
+        }
+
+        assertTrue(engine.isGameOver());
+        assertEquals(1, listener.gameOvers);
+    }
+
+    @Test
+    void testEventAdapterReportsGameOverAsMissingClearRow() {
+        DownData result = null;
+        while (!engine.isGameOver()) {
+            result = engine.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        }
+        assertNull(result.getClearRow());
+        assertNotNull(result.getViewData());
+    }
+
+    @Test
+    void testNewGameClearsGameOver() {
+        while (!engine.isGameOver()) {
+            engine.hardDrop();
+        }
+
+        engine.newGame();
+
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getScore().getScore());
+    }
+
+    @Test
+    void testRewindIsOffByDefault() {
+        engine.hardDrop();
+
+        assertFalse(engine.rewind());
+        assertEquals(1, engine.getPiecesLocked());
+    }
+
+    @Test
+    void testRewindTakesBackLockedPieces() {
+        GameEngine practice = new GameEngine(new SimpleBoard(25, 10, new SevenBagBrickGenerator(3)));
+        practice.setRewindBuffer(new RewindBuffer());
+        practice.setListener(listener);
+        practice.newGame();
+        practice.moveLeft();
+        practice.hardDrop();
+        String afterFirst = describe(practice);
+        practice.rotate();
+        practice.hardDrop();
+        practice.moveRight();
+
+        // The falling piece is the third; rewinding once returns to the start of the second
+        assertTrue(practice.rewind());
+        assertEquals(afterFirst, describe(practice));
+        assertEquals(1, practice.getPiecesLocked());
+
+        // Playing on after a rewind brings the same bricks as before
+        practice.rotate();
+        practice.hardDrop();
+        practice.rewind();
+        practice.rewind();
+        assertEquals(0, practice.getPiecesLocked());
+        assertTrue(Arrays.stream(practice.getBoard().getBoardMatrix()).flatMapToInt(Arrays::stream).allMatch(c -> c == 0));
+        // With nothing left to take back, the first piece returns to its spawn
+        practice.moveLeft();
+        assertTrue(practice.rewind());
+        assertEquals(0, practice.getScore().getScore());
+    }
+
+    @Test
+    void testRewindRevivesToppedOutGame() {
+        GameEngine practice = new GameEngine(new SimpleBoard(25, 10, new SevenBagBrickGenerator(3)));
+        practice.setRewindBuffer(new RewindBuffer());
+        practice.setListener(listener);
+        practice.newGame();
+        while (!practice.isGameOver()) {
+            practice.hardDrop();
+        }
+        int pieces = practice.getPiecesLocked();
+
+        assertTrue(practice.rewind());
+
+        assertFalse(practice.isGameOver());
+        assertEquals(pieces - 1, practice.getPiecesLocked());
+        practice.moveLeft();
+        practice.hardDrop();
+        assertEquals(pieces, practice.getPiecesLocked());
+    }
+
+    @Test
+    void testManyRandomGamesRunHeadless() {
+        Random random = new Random(5);
+        int games = 0;
+        for (int piece = 0; piece < 20_000; piece++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    engine.moveLeft();
+                } else {
+                    engine.moveRight();
+                }
+            }
+            if (random.nextBoolean()) {
+                engine.rotate();
+            }
+            engine.hardDrop();
+            if (engine.isGameOver()) {
+                games++;
+                engine.newGame();
+            }
+        }
+        assertEquals(games, listener.gameOvers);
+    }
+
+    @Test
+    void testEngineSidePackagesDoNotReferenceJavaFx() throws IOException, URISyntaxException {
+        Path classesRoot = Path.of(GameEngine.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> packages = List.of("engine", "model", "data", "event", "bot");
+        for (String pkg : packages) {
+            try (Stream<Path> files = Files.walk(classesRoot.resolve("com/comp2042/" + pkg))) {
+                for (Path classFile : files.filter(p -> p.toString().endsWith(".class")).toList()) {
+                    String constants = new String(Files.readAllBytes(classFile), StandardCharsets.ISO_8859_1);
+                    assertFalse(constants.contains("javafx/"), classFile + " references JavaFX");
+                }
+            }
+        }
+    }
+
+    // The settled blocks, falling brick and score, as text
+    private static String describe(GameEngine engine) {
+        return Arrays.deepToString(engine.getBoard().getBoardMatrix())
+                + Arrays.deepToString(engine.getBoard().getViewData().getBrickData())
+                + engine.getBoard().getViewData().getxPosition() + "," + engine.getBoard().getViewData().getyPosition()
+                + "," + engine.getScore().getScore();
+    }
+
+    private static final class RecordingListener implements GameListener {
+        private int backgroundChanges;
+        private int gameOvers;
+
+        @Override
+        public void onBackgroundChanged(int[][] boardMatrix) {
+            backgroundChanges++;
+        }
+
+        @Override
+        public void onGameOver() {
+            gameOvers++;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the staged key-to-frame latency tracker
+// Covers stage splitting, ignored presses, gravity between frames and the report file
+class InputLatencyTrackerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testStagesAddUpToTotal() {
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        tracker.keyPressed(0);
+        tracker.dispatched(MS);
+        tracker.modelUpdated(3 * MS);
+        tracker.keyHandled();
+        assertTrue(tracker.frameRendered(10 * MS));
+
+        assertEquals(MS, tracker.getKeyToDispatch().getMaxNanos());
+        assertEquals(2 * MS, tracker.getDispatchToModel().getMaxNanos());
+        assertEquals(7 * MS, tracker.getModelToFrame().getMaxNanos());
+        assertEquals(10 * MS, tracker.getKeyToFrame().getMaxNanos());
+    }
+
+    @Test
+    void testPressThatReachedNothingIsDropped() {
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        tracker.keyPressed(0);
+        tracker.keyHandled();
+        // Gravity on the next pulse must not be taken for the dropped press
+        tracker.dispatched(5 * MS);
+        tracker.modelUpdated(6 * MS);
+
+        assertFalse(tracker.frameRendered(8 * MS));
+        assertEquals(0, tracker.getKeyToFrame().getCount());
+    }
+
+    @Test
+    void testOnlyFirstPressBeforeFrameIsMeasured() {
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        tracker.keyPressed(0);
+        tracker.dispatched(MS);
+        tracker.modelUpdated(2 * MS);
+        tracker.keyHandled();
+        tracker.keyPressed(4 * MS);
+        tracker.dispatched(5 * MS);
+        tracker.modelUpdated(6 * MS);
+        tracker.keyHandled();
+        tracker.frameRendered(16 * MS);
+
+        assertEquals(1, tracker.getKeyToFrame().getCount());
+        assertEquals(16 * MS, tracker.getKeyToFrame().getMaxNanos());
+    }
+
+    @Test
+    void testFramesWithoutPressRecordNothing() {
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        tracker.dispatched(MS);
+        tracker.modelUpdated(2 * MS);
+
+        assertFalse(tracker.frameRendered(16 * MS));
+    }
+
+    @Test
+    void testReportListsEveryStage(@TempDir Path dir) throws Exception {
+        InputLatencyTracker tracker = new InputLatencyTracker();
+        tracker.keyPressed(0);
+        tracker.dispatched(MS);
+        tracker.modelUpdated(2 * MS);
+        tracker.frameRendered(9 * MS);
+        Path file = dir.resolve("latency.txt");
+
+        tracker.writeReport(file);
+
+        String report = Files.readString(file);
+        assertTrue(report.startsWith("input -> frame"), report);
+        assertTrue(report.contains("key -> dispatch"));
+        assertTrue(report.contains("dispatch -> model"));
+        assertTrue(report.contains("model -> frame"));
+        assertTrue(report.contains("(n=1)"));
+        assertEquals(report, tracker.formatReport(), "the text handed to a background writer matches the file");
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the fixed-bucket latency histogram
+// Percentiles are bucket upper edges, so expected values are rounded up to 10 microseconds
+class LatencyHistogramTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testEmptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    void testPercentilesUseNearestRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * MS / 10 - 1); // just under 0.1ms, 0.2ms, ... 10ms
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5 * MS, histogram.getPercentileNanos(50));
+        assertEquals(9_900_000, histogram.getPercentileNanos(99));
+        assertEquals(10 * MS - 1, histogram.getPercentileNanos(100), "capped at the exact maximum");
+        assertEquals(10 * MS - 1, histogram.getMaxNanos());
+    }
+
+    @Test
+    void testSlowSamplesGoToOverflowButKeepExactMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(MS);
+        histogram.record(250 * MS);
+
+        assertEquals(250 * MS, histogram.getPercentileNanos(99));
+        assertEquals(250 * MS, histogram.getMaxNanos());
+    }
+
+    @Test
+    void testResetClearsSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3 * MS);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    void testWriteBucketsListsOnlyNonEmptyBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(15_000);
+        histogram.record(15_000);
+        histogram.record(200 * MS);
+        StringWriter text = new StringWriter();
+
+        histogram.writeBuckets(new PrintWriter(text, true));
+
+        String[] lines = text.toString().trim().split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains("<0.02 ms  2"), lines[1]);
+        assertTrue(lines[2].contains(">=100.00 ms  1"), lines[2]);
+    }
+}
@@ -0,0 +1,229 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests recording games and reading them back
+// Covers the header and trailer, tick deltas, replaying to the same result, background writes, file size and
+// malformed files
+class ReplayRecorderTest {
+
+    private static final long TICK = GameClock.STEP_NANOS;
+
+    private static final MoveEvent[] INPUTS = {
+            MoveEvent.of(EventType.LEFT, EventSource.USER),
+            MoveEvent.of(EventType.RIGHT, EventSource.USER),
+            MoveEvent.of(EventType.ROTATE, EventSource.USER),
+            MoveEvent.of(EventType.DOWN, EventSource.USER),
+            MoveEvent.of(EventType.HOLD, EventSource.USER),
+            MoveEvent.of(EventType.DOWN, EventSource.THREAD),
+            MoveEvent.of(EventType.HARD_DROP, EventSource.USER)
+    };
+
+    @TempDir
+    Path dir;
+
+    private SevenBagBrickGenerator generator;
+    private GameEngine engine;
+    private ReplayRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SevenBagBrickGenerator(0);
+        engine = new GameEngine(new SimpleBoard(25, 10, generator));
+        recorder = new ReplayRecorder(dir, 42);
+    }
+
+    @Test
+    void testRecordingReplaysToSameResult() throws IOException {
+        recorder.startGame(engine, generator, 0);
+        engine.newGame();
+        SplittableRandom random = new SplittableRandom(7);
+        long now = 0;
+        while (!engine.isGameOver()) {
+            now += random.nextInt(30) * TICK;
+            MoveEvent event = INPUTS[random.nextInt(INPUTS.length)];
+            recorder.record(event, now);
+            apply(engine, event);
+        }
+        Path file = recorder.endGame(engine, now);
+
+        Replay replay = Replay.read(file);
+        assertEquals(GameEngine.RULES_VERSION, replay.getRulesVersion());
+        assertEquals(25, replay.getRows());
+        assertEquals(10, replay.getColumns());
+        assertEquals(generator.getSeed(), replay.getSeed());
+        assertTrue(replay.isToppedOut());
+        assertEquals(engine.getScore().getScore(), replay.getScore());
+        assertEquals(engine.getScore().getLines(), replay.getLines());
+        assertEquals(engine.getScore().getLevel(), replay.getLevel());
+        assertEquals(engine.getPiecesLocked(), replay.getPieces());
+
+        // The seed and the inputs alone play the same game again
+        GameEngine replayed = new GameEngine(new SimpleBoard(replay.getRows(), replay.getColumns(),
+                new SevenBagBrickGenerator(replay.getSeed())));
+        replayed.newGame();
+        for (int i = 0; i < replay.getEventCount(); i++) {
+            apply(replayed, replay.getEvent(i));
+        }
+        assertTrue(replayed.isGameOver());
+        assertEquals(replay.getScore(), replayed.getScore().getScore());
+        assertEquals(replay.getPieces(), replayed.getPiecesLocked());
+    }
+
+    @Test
+    void testTicksAndEventsRoundTrip() throws IOException {
+        recorder.startGame(engine, generator, 1000);
+        engine.newGame();
+        recorder.record(INPUTS[0], 1000);
+        recorder.record(INPUTS[5], 1000 + 3 * TICK);
+        recorder.record(INPUTS[3], 1000 + 3 * TICK + TICK / 2);
+        // A long pause takes a multi-byte delta
+        recorder.record(INPUTS[6], 1000 + 100_000 * TICK);
+        Replay replay = Replay.read(recorder.endGame(engine, 1000 + 100_001 * TICK));
+
+        assertEquals(4, replay.getEventCount());
+        assertSame(INPUTS[0], replay.getEvent(0));
+        assertSame(INPUTS[5], replay.getEvent(1));
+        assertSame(INPUTS[3], replay.getEvent(2));
+        assertSame(INPUTS[6], replay.getEvent(3));
+        assertEquals(0, replay.getTick(0));
+        assertEquals(3, replay.getTick(1));
+        assertEquals(3, replay.getTick(2));
+        assertEquals(100_000, replay.getTick(3));
+        assertFalse(replay.isToppedOut(), "an unfinished game is recorded as abandoned");
+    }
+
+    @Test
+    void testEveryGameGetsNewSeed() {
+        recorder.startGame(engine, generator, 0);
+        long first = generator.getSeed();
+        recorder.startGame(engine, generator, 0);
+
+        assertNotEquals(first, generator.getSeed());
+    }
+
+    @Test
+    void testTenMinuteGameTakesFewKilobytes() {
+        recorder.startGame(engine, generator, 0);
+        SplittableRandom random = new SplittableRandom(11);
+        int events = 0;
+        // About three inputs and two gravity steps a second for ten minutes
+        for (long tick = 0; tick < 600 * GameClock.STEPS_PER_SECOND; tick += 1 + random.nextInt(47)) {
+            recorder.record(INPUTS[random.nextInt(INPUTS.length)], tick * TICK);
+            events++;
+        }
+
+        assertTrue(events > 2500);
+        // Gaps up to 15 ticks take one byte and longer ones two
+        assertTrue(recorder.getEncodedSize() < 2 * events, "size " + recorder.getEncodedSize());
+        assertTrue(recorder.getEncodedSize() < 8 * 1024, "size " + recorder.getEncodedSize());
+    }
+
+    @Test
+    void testIgnoresInputsOutsideGame() throws IOException {
+        recorder.record(INPUTS[0], 0);
+
+        assertFalse(recorder.isRecording());
+        assertNull(recorder.endGame(engine, 0));
+        assertEquals(0, Files.list(dir).count());
+    }
+
+    @Test
+    void testFinishedGamesAreWrittenByTheWriter() throws IOException {
+        Queue<Runnable> pending = new ArrayDeque<>();
+        ReplayRecorder background = new ReplayRecorder(dir, 42, pending::add);
+        List<Path> written = new ArrayList<>();
+        List<IOException> failures = new ArrayList<>();
+        ReplayRecorder.Listener listener = new ReplayRecorder.Listener() {
+            @Override
+            public void onReplayWritten(Path file) {
+                written.add(file);
+            }
+
+            @Override
+            public void onReplayFailed(Path file, IOException e) {
+                failures.add(e);
+            }
+        };
+        background.setListener(listener);
+        background.startGame(engine, generator, 0);
+        engine.newGame();
+        background.record(INPUTS[2], TICK);
+        background.finishGame(engine, TICK);
+        // The next game reuses the buffer before the first one is written
+        background.startGame(engine, generator, 2 * TICK);
+        background.record(INPUTS[6], 3 * TICK);
+
+        assertEquals(0, Files.list(dir).count());
+        pending.remove().run();
+
+        assertEquals(1, written.size());
+        Replay replay = Replay.read(written.get(0));
+        assertEquals(1, replay.getEventCount());
+        assertSame(INPUTS[2], replay.getEvent(0));
+
+        // A directory that cannot be created reports the failure instead of throwing on the game's thread
+        Path blocked = Files.createFile(dir.resolve("blocked"));
+        ReplayRecorder failing = new ReplayRecorder(blocked.resolve("replays"), 1, Runnable::run);
+        failing.setListener(listener);
+        failing.startGame(engine, generator, 0);
+        failing.finishGame(engine, TICK);
+
+        assertEquals(1, failures.size());
+        assertFalse(failing.isRecording());
+    }
+
+    @Test
+    void testRejectsMalformedRecordings() throws IOException {
+        recorder.startGame(engine, generator, 0);
+        engine.newGame();
+        recorder.record(INPUTS[2], TICK);
+        byte[] bytes = Files.readAllBytes(recorder.endGame(engine, TICK));
+
+        assertThrows(IOException.class, () -> Replay.read(ByteBuffer.wrap(bytes, 0, bytes.length - 2)));
+        bytes[0] = 0;
+        assertThrows(IOException.class, () -> Replay.read(ByteBuffer.wrap(bytes)));
+    }
+
+    private static void apply(GameEngine engine, MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN:
+                engine.onDownEvent(event);
+                break;
+            case LEFT:
+                engine.onLeftEvent(event);
+                break;
+            case RIGHT:
+                engine.onRightEvent(event);
+                break;
+            case ROTATE:
+                engine.onRotateEvent(event);
+                break;
+            case HARD_DROP:
+                engine.onHardDropEvent(event);
+                break;
+            case HOLD:
+                engine.onHoldEvent(event);
+                break;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.comp2042.engine;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the headless replay verifier
+// Covers matching replays on any thread count and board, tampered results, unreadable files, bad headers and rule changes
+class ReplayVerifierTest {
+
+    private static final MoveEvent[] INPUTS = {
+            MoveEvent.of(EventType.LEFT, EventSource.USER),
+            MoveEvent.of(EventType.RIGHT, EventSource.USER),
+            MoveEvent.of(EventType.ROTATE, EventSource.USER),
+            MoveEvent.of(EventType.DOWN, EventSource.USER),
+            MoveEvent.of(EventType.HOLD, EventSource.USER),
+            MoveEvent.of(EventType.DOWN, EventSource.THREAD),
+            MoveEvent.of(EventType.DOWN, EventSource.THREAD),
+            MoveEvent.of(EventType.HARD_DROP, EventSource.USER)
+    };
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRecordedGamesPassOnAnyThreadCount() throws IOException {
+        recordGames(60, 200);
+
+        ReplayReport single = new ReplayVerifier(1).verifyDirectory(dir);
+        ReplayReport parallel = new ReplayVerifier(4).verifyDirectory(dir);
+
+        assertEquals(60, single.getCheckCount());
+        assertTrue(single.isAllPassed(), single.toString());
+        assertTrue(parallel.isAllPassed(), parallel.toString());
+        assertEquals(single.getTotalEvents(), parallel.getTotalEvents());
+        for (int i = 0; i < single.getCheckCount(); i++) {
+            assertEquals(single.getCheck(i).getFile(), parallel.getCheck(i).getFile());
+            assertEquals(single.getCheck(i).getReplayed().getScore(), parallel.getCheck(i).getReplayed().getScore());
+        }
+        assertTrue(single.getReplaysPerSecond() > 0);
+        assertEquals(4, parallel.getParallelism());
+    }
+
+    @Test
+    void testAbandonedGamesPass() throws IOException {
+        // Games cut short by a new game are recorded without topping out
+        recordGames(10, 20);
+
+        ReplayReport report = new ReplayVerifier(2).verifyDirectory(dir);
+
+        assertTrue(report.isAllPassed(), report.toString());
+        assertFalse(report.getCheck(0).getRecorded().isToppedOut());
+    }
+
+    @Test
+    void testBitBoardReplaysSimpleBoardGames() throws IOException {
+        recordGames(20, 200);
+
+        ReplayVerifier verifier = new ReplayVerifier(2, replay -> new BitBoard(replay.getRows(), replay.getColumns(),
+                new SevenBagBrickGenerator(replay.getSeed())));
+
+        ReplayReport report = verifier.verifyDirectory(dir);
+        assertTrue(report.isAllPassed(), report.toString());
+    }
+
+    @Test
+    void testDetectsWrongResult() throws IOException {
+        // Store the result of an untouched engine instead of the game that was played
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10, generator));
+        ReplayRecorder recorder = new ReplayRecorder(dir, 3);
+        recorder.startGame(engine, generator, 0);
+        engine.newGame();
+        for (int i = 0; i < 5; i++) {
+            recorder.record(INPUTS[7], 0);
+            engine.hardDrop();
+        }
+        Path file = recorder.endGame(new GameEngine(new SimpleBoard(25, 10)), 0);
+
+        ReplayCheck check = new ReplayVerifier(1).check(file);
+
+        assertFalse(check.isPassed());
+        assertEquals(0, check.getRecorded().getScore());
+        assertEquals(engine.getScore().getScore(), check.getReplayed().getScore());
+        assertTrue(check.getProblem().contains("pieces 5 but recorded 0"), check.getProblem());
+    }
+
+    @Test
+    void testReportsUnreadableAndChangedRules() throws IOException {
+        recordGames(2, 10);
+        Path[] files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.sorted().toArray(Path[]::new);
+        }
+        Files.write(files[0], new byte[]{1, 2, 3});
+        byte[] bytes = Files.readAllBytes(files[1]);
+        // The rules version is the single byte varint after the magic number and format version
+        bytes[5] = (byte) (GameEngine.RULES_VERSION + 1);
+        Files.write(files[1], bytes);
+        Files.write(dir.resolve("notes.txt"), new byte[]{1});
+
+        ReplayReport report = new ReplayVerifier(2).verifyDirectory(dir);
+
+        assertEquals(2, report.getCheckCount());
+        assertEquals(0, report.getPassedCount());
+        assertTrue(report.getCheck(0).getProblem().startsWith("unreadable"));
+        assertTrue(report.getCheck(1).getProblem().contains("rules version"));
+        assertTrue(report.toString().contains("2 failed"));
+    }
+
+    @Test
+    void testBadHeadersFailWithoutStoppingTheBatch() throws IOException {
+        recordGames(4, 50);
+        Files.write(dir.resolve("replay-empty.bin"), header(0, 10));
+        Files.write(dir.resolve("replay-huge.bin"), header(Integer.MAX_VALUE, 10));
+        // Readable, but wider than a BitBoard row can hold
+        Files.write(dir.resolve("replay-wide.bin"), header(25, 40));
+
+        ReplayReport report = new ReplayVerifier(2, replay -> new BitBoard(replay.getRows(), replay.getColumns(),
+                new SevenBagBrickGenerator(replay.getSeed()))).verifyDirectory(dir);
+
+        assertEquals(7, report.getCheckCount());
+        assertEquals(4, report.getPassedCount());
+        for (int i = 0; i < report.getCheckCount(); i++) {
+            ReplayCheck check = report.getCheck(i);
+            String name = check.getFile().getFileName().toString();
+            if (name.equals("replay-empty.bin") || name.equals("replay-huge.bin")) {
+                assertTrue(check.getProblem().startsWith("unreadable"), check.getProblem());
+            } else if (name.equals("replay-wide.bin")) {
+                assertTrue(check.getProblem().startsWith("unplayable"), check.getProblem());
+            }
+        }
+    }
+
+    // Encodes a recording with no inputs and the given board size in its header
+    private static byte[] header(int rows, int columns) {
+        ByteBuffer out = ByteBuffer.allocate(64);
+        out.putInt(Replay.MAGIC);
+        out.put((byte) Replay.FORMAT_VERSION);
+        putVarint(out, GameEngine.RULES_VERSION);
+        putVarint(out, rows);
+        putVarint(out, columns);
+        out.putLong(1);
+        out.putLong(0);
+        putVarint(out, Replay.CODE_END);
+        out.put((byte) 0);
+        for (int field = 0; field < 4; field++) {
+            putVarint(out, 0);
+        }
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    private static void putVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    // Records games of random inputs, each stopping at game over or after the given number of inputs
+    private void recordGames(int games, int maxInputs) throws IOException {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10, generator));
+        ReplayRecorder recorder = new ReplayRecorder(dir, 17);
+        SplittableRandom random = new SplittableRandom(23);
+        for (int game = 0; game < games; game++) {
+            recorder.startGame(engine, generator, 0);
+            engine.newGame();
+            for (int i = 0; i < maxInputs && !engine.isGameOver(); i++) {
+                MoveEvent event = INPUTS[random.nextInt(INPUTS.length)];
+                recorder.record(event, i * GameClock.STEP_NANOS);
+                switch (event.getEventType()) {
+                    case LEFT:
+                        engine.onLeftEvent(event);
+                        break;
+                    case RIGHT:
+                        engine.onRightEvent(event);
+                        break;
+                    case ROTATE:
+                        engine.onRotateEvent(event);
+                        break;
+                    case DOWN:
+                        engine.onDownEvent(event);
+                        break;
+                    case HOLD:
+                        engine.onHoldEvent(event);
+                        break;
+                    case HARD_DROP:
+                        engine.onHardDropEvent(event);
+                        break;
+                }
+            }
+            assertNotNull(recorder.endGame(engine, maxInputs * GameClock.STEP_NANOS));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.comp2042.engine;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the practice rewind buffer
+// Covers rebuilding snapshots from steps, the piece and memory limits and the saving over full snapshots
+class RewindBufferTest {
+
+    @Test
+    void testPopRebuildsEverySnapshotInReverse() {
+        List<BoardSnapshot> taken = playPieces(300);
+        RewindBuffer buffer = new RewindBuffer(1000, 1 << 20);
+        for (BoardSnapshot snapshot : taken) {
+            buffer.push(snapshot);
+        }
+
+        assertEquals(taken.size() - 1, buffer.getRewindableCount());
+        assertSame(taken.get(taken.size() - 1), buffer.latest());
+        for (int i = taken.size() - 2; i >= 0; i--) {
+            assertSameState(taken.get(i), buffer.pop());
+        }
+        assertNull(buffer.pop());
+        assertSameState(taken.get(0), buffer.latest());
+    }
+
+    @Test
+    void testPieceLimitDropsOldest() {
+        List<BoardSnapshot> taken = playPieces(20);
+        RewindBuffer buffer = new RewindBuffer(5, 1 << 20);
+        for (BoardSnapshot snapshot : taken) {
+            buffer.push(snapshot);
+        }
+
+        assertEquals(5, buffer.getRewindableCount());
+        for (int i = 1; i <= 5; i++) {
+            assertSameState(taken.get(taken.size() - 1 - i), buffer.pop());
+        }
+        assertNull(buffer.pop());
+    }
+
+    @Test
+    void testMemoryLimitIsRespected() {
+        List<BoardSnapshot> taken = playPieces(300);
+        RewindBuffer buffer = new RewindBuffer(1000, 4096);
+        for (BoardSnapshot snapshot : taken) {
+            buffer.push(snapshot);
+            assertTrue(buffer.getUsedBytes() <= 4096, "used " + buffer.getUsedBytes());
+        }
+        int kept = buffer.getRewindableCount();
+        assertTrue(kept > 0 && kept < 299, "kept " + kept);
+
+        // The steps still held rebuild the most recent snapshots
+        for (int i = 1; i <= kept; i++) {
+            assertSameState(taken.get(taken.size() - 1 - i), buffer.pop());
+        }
+        assertEquals(0, buffer.getUsedBytes());
+    }
+
+    @Test
+    void testStepsAreSmallerThanFullSnapshots() {
+        List<BoardSnapshot> taken = playPieces(300);
+        RewindBuffer buffer = new RewindBuffer(1000, 1 << 20);
+        long fullBytes = 0;
+        for (BoardSnapshot snapshot : taken) {
+            buffer.push(snapshot);
+            fullBytes += snapshot.getSizeBytes();
+        }
+
+        assertTrue(buffer.getUsedBytes() < fullBytes / 2,
+                buffer.getUsedBytes() + " bytes against " + fullBytes + " for full snapshots");
+    }
+
+    @Test
+    void testClearForgetsEverything() {
+        RewindBuffer buffer = new RewindBuffer();
+        for (BoardSnapshot snapshot : playPieces(10)) {
+            buffer.push(snapshot);
+        }
+
+        buffer.clear();
+
+        assertNull(buffer.latest());
+        assertNull(buffer.pop());
+        assertEquals(0, buffer.getUsedBytes());
+        assertThrows(IllegalArgumentException.class, () -> new RewindBuffer(0, 100));
+    }
+
+    // Plays random placements and snapshots the board at the start of every piece
+    private static List<BoardSnapshot> playPieces(int pieces) {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(8));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+        SplittableRandom random = new SplittableRandom(13);
+        List<BoardSnapshot> taken = new ArrayList<>();
+        taken.add(board.snapshot());
+        while (taken.size() < pieces) {
+            if (random.nextBoolean()) {
+                engine.hold();
+            }
+            for (int i = random.nextInt(4); i > 0; i--) {
+                engine.rotate();
+            }
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    engine.moveLeft();
+                } else {
+                    engine.moveRight();
+                }
+            }
+            engine.hardDrop();
+            if (engine.isGameOver()) {
+                engine.newGame();
+            }
+            taken.add(board.snapshot());
+        }
+        return taken;
+    }
+
+    private static void assertSameState(BoardSnapshot expected, BoardSnapshot actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getFirstRow(), actual.getFirstRow());
+        for (int row = 0; row < expected.getRows(); row++) {
+            for (int col = 0; col < expected.getColumns(); col++) {
+                assertEquals(expected.getCell(row, col), actual.getCell(row, col), "cell " + row + "," + col);
+            }
+        }
+        assertEquals(expected.getBrickType(), actual.getBrickType());
+        assertEquals(expected.getRotation(), actual.getRotation());
+        assertEquals(expected.getOffsetX(), actual.getOffsetX());
+        assertEquals(expected.getOffsetY(), actual.getOffsetY());
+        assertEquals(expected.getHeldType(), actual.getHeldType());
+        assertEquals(expected.canHold(), actual.canHold());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getLines(), actual.getLines());
+        assertArrayEquals(expected.getGeneratorState(), actual.getGeneratorState());
+        assertEquals(expected.getSizeBytes(), actual.getSizeBytes());
+    }
+}
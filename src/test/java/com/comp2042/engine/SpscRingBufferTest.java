@@ -0,0 +1,74 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the single-producer/single-consumer ring
+// Covers FIFO order, full and empty rings, wrap-around and a concurrent producer and consumer
+class SpscRingBufferTest {
+
+    @Test
+    void testKeepsFifoOrderAcrossWrapAround() {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(4);
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            assertTrue(ring.offer(round * 2));
+            assertTrue(ring.offer(round * 2 + 1));
+            assertEquals(next++, ring.poll());
+            assertEquals(next++, ring.poll());
+        }
+        assertNull(ring.poll());
+    }
+
+    @Test
+    void testRejectsOfferWhenFull() {
+        SpscRingBuffer<String> ring = new SpscRingBuffer<>(2);
+
+        assertTrue(ring.offer("a"));
+        assertTrue(ring.offer("b"));
+        assertFalse(ring.offer("c"));
+        assertEquals(2, ring.size());
+
+        assertEquals("a", ring.poll());
+        assertTrue(ring.offer("c"));
+        assertEquals("b", ring.poll());
+        assertEquals("c", ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testRejectsBadCapacityAndNull() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<>(3));
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<>(0));
+        assertThrows(NullPointerException.class, () -> new SpscRingBuffer<>(2).offer(null));
+    }
+
+    @Test
+    void testConcurrentProducerAndConsumerLoseNothing() throws InterruptedException {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(64);
+        int count = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!ring.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < count) {
+            Integer value = ring.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected, value.intValue());
+            expected++;
+        }
+        producer.join();
+
+        assertNull(ring.poll());
+    }
+}
@@ -75,4 +75,22 @@ class MoveEventTest {
         assertEquals(EventType.HARD_DROP, event.getEventType());
         assertEquals(EventSource.USER, event.getEventSource());
     }
+
+    @Test
+    void testSameTypeAndSourceReturnsSameInstance() {
+        // Events are shared, so raising one never allocates
+        assertSame(MoveEvent.of(EventType.LEFT, EventSource.USER), MoveEvent.of(EventType.LEFT, EventSource.USER));
+        assertNotSame(MoveEvent.of(EventType.DOWN, EventSource.USER), MoveEvent.of(EventType.DOWN, EventSource.THREAD));
+    }
+
+    @Test
+    void testEveryTypeAndSourceHasItsOwnEvent() {
+        for (EventType type : EventType.values()) {
+            for (EventSource source : EventSource.values()) {
+                MoveEvent event = MoveEvent.of(type, source);
+                assertEquals(type, event.getEventType());
+                assertEquals(source, event.getEventSource());
+            }
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the shared input tests against BitBoard, and checks it matches SimpleBoard move for move
+class BitBoardInputTest extends BoardInputTest {
+
+    @Override
+    protected Board createBoard() {
+        return new BitBoard(25, 10);
+    }
+
+    // EQUIVALENCE WITH SIMPLEBOARD
+
+    @Test
+    void testMatchesSimpleBoardForSameBrickSequence() {
+        // Record one random brick sequence and replay it into both boards
+        RandomBrickGenerator source = new RandomBrickGenerator();
+        List<Brick> sequence = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            sequence.add(source.getBrick());
+        }
+        BitBoard bitBoard = new BitBoard(25, 10, new FixedBrickGenerator(sequence));
+        SimpleBoard simpleBoard = new SimpleBoard(25, 10, new FixedBrickGenerator(sequence));
+        bitBoard.newGame();
+        simpleBoard.newGame();
+
+        Random moves = new Random(42);
+        for (int piece = 0; piece < 150; piece++) {
+            for (int step = 0; step < 12; step++) {
+                int action = moves.nextInt(5);
+                boolean bitResult;
+                boolean simpleResult;
+                if (action == 0) {
+                    bitResult = bitBoard.moveBrickLeft();
+                    simpleResult = simpleBoard.moveBrickLeft();
+                } else if (action == 1) {
+                    bitResult = bitBoard.moveBrickRight();
+                    simpleResult = simpleBoard.moveBrickRight();
+                } else if (action == 2) {
+                    bitResult = bitBoard.rotateLeftBrick();
+                    simpleResult = simpleBoard.rotateLeftBrick();
+                } else if (action == 3) {
+                    bitResult = bitBoard.holdCurrentBrick();
+                    simpleResult = simpleBoard.holdCurrentBrick();
+                } else {
+                    bitResult = bitBoard.moveBrickDown();
+                    simpleResult = simpleBoard.moveBrickDown();
+                }
+                assertEquals(simpleResult, bitResult);
+            }
+            assertEquals(simpleBoard.hardDropBrick(), bitBoard.hardDropBrick());
+            bitBoard.mergeBrickToBackground();
+            simpleBoard.mergeBrickToBackground();
+            assertEquals(simpleBoard.clearRows().getLinesRemoved(), bitBoard.clearRows().getLinesRemoved());
+            assertArrayEquals(simpleBoard.getBoardMatrix(), bitBoard.getBoardMatrix());
+            assertEquals(simpleBoard.isDangerLineReached(), bitBoard.isDangerLineReached());
+            if (simpleBoard.isDangerLineReached()) {
+                bitBoard.newGame();
+                simpleBoard.newGame();
+            } else {
+                bitBoard.createNewBrick();
+                simpleBoard.createNewBrick();
+            }
+            assertEquals(simpleBoard.getViewData().getGhostYPosition(), bitBoard.getViewData().getGhostYPosition());
+        }
+    }
+
+    // Replays a fixed brick sequence so two boards receive identical pieces
+    private static final class FixedBrickGenerator implements BrickGenerator {
+        private final List<Brick> sequence;
+        private int next;
+
+        FixedBrickGenerator(List<Brick> sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return sequence.get(next++ % sequence.size());
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return sequence.get(next % sequence.size());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.model;
+
+import com.comp2042.data.BoardChanges;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the background change sets reported by both boards
+// A shadow copy updated only through the change sets must always match the real board
+class BoardChangesTest {
+
+    @Test
+    void testSimpleBoardChangesKeepShadowInSync() {
+        playAndCompare(new SimpleBoard(25, 10, new SevenBagBrickGenerator(4)));
+    }
+
+    @Test
+    void testBitBoardChangesKeepShadowInSync() {
+        playAndCompare(new BitBoard(25, 10, new SevenBagBrickGenerator(4)));
+    }
+
+    @Test
+    void testLockWithoutClearMarksOnlyBrickCells() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(8));
+        board.newGame();
+        board.getBackgroundChanges().reset();
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.clearRows();
+
+        BoardChanges changes = board.getBackgroundChanges();
+        assertFalse(changes.isFullRefresh());
+        assertEquals(4, changes.getCellCount());
+        assertEquals(-1, changes.getFirstDirtyRow());
+    }
+
+    @Test
+    void testNewGameAsksForFullRefresh() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(8));
+        board.getBackgroundChanges().reset();
+
+        board.newGame();
+
+        assertTrue(board.getBackgroundChanges().isFullRefresh());
+    }
+
+    @Test
+    void testTooManyCellsFallBackToFullRefresh() {
+        BoardChanges changes = new BoardChanges(2);
+        changes.reset();
+
+        changes.markCell(3, 1);
+        changes.markCell(3, 2);
+        assertFalse(changes.isFullRefresh());
+        changes.markCell(4, 1);
+
+        assertTrue(changes.isFullRefresh());
+        assertEquals(0, changes.getCellCount());
+    }
+
+    private static void playAndCompare(Board board) {
+        Random random = new Random(21);
+        board.newGame();
+        int[][] shadow = new int[25][10];
+        int linesCleared = 0;
+        for (int piece = 0; piece < 5000; piece++) {
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            if (random.nextBoolean()) {
+                board.rotateLeftBrick();
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            linesCleared += board.clearRows().getLinesRemoved();
+
+            if (board.isDangerLineReached()) {
+                board.newGame();
+            } else {
+                board.createNewBrick();
+            }
+            apply(board.getBoardMatrix(), board.getBackgroundChanges(), shadow);
+            board.getBackgroundChanges().reset();
+            assertArrayEquals(board.getBoardMatrix(), shadow, "shadow out of sync after piece " + piece);
+        }
+        assertTrue(linesCleared > 0, "random play should clear some lines");
+    }
+
+    // Copies only what the change set names, the way a view would restyle its cells
+    private static void apply(int[][] board, BoardChanges changes, int[][] shadow) {
+        int firstRow = changes.isFullRefresh() ? 0 : Math.max(0, changes.getFirstDirtyRow());
+        int lastRow = changes.isFullRefresh() ? board.length - 1 : changes.getLastDirtyRow();
+        for (int row = firstRow; row <= lastRow; row++) {
+            System.arraycopy(board[row], 0, shadow[row], 0, board[row].length);
+        }
+        for (int i = 0; i < changes.getCellCount(); i++) {
+            int row = changes.getCellRow(i);
+            int col = changes.getCellColumn(i);
+            shadow[row][col] = board[row][col];
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.comp2042.model;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.data.ViewData;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests board snapshots on both board implementations
+// Covers packing, restoring mid-game, continuing identically after a restore and size checks
+class BoardSnapshotTest {
+
+    @Test
+    void testPackedCellsRoundTrip() {
+        int[][] matrix = new int[6][20];
+        SplittableRandom random = new SplittableRandom(5);
+        for (int row = 2; row < matrix.length; row++) {
+            for (int col = 0; col < 20; col++) {
+                matrix[row][col] = random.nextInt(16);
+            }
+        }
+        BoardSnapshot snapshot = new BoardSnapshot(6, 20, 2, BoardSnapshot.packCells(matrix, 2, 20),
+                1, 0, 0, 0, 0, true, 0, 1, 0, new long[0]);
+
+        // 20 cells at 4 bits take two longs per row
+        assertEquals(2, BoardSnapshot.wordsPerRow(20));
+        int[] row = new int[20];
+        for (int r = 0; r < matrix.length; r++) {
+            snapshot.unpackRow(r, row);
+            assertArrayEquals(matrix[r], row);
+            for (int c = 0; c < 20; c++) {
+                assertEquals(matrix[r][c], snapshot.getCell(r, c));
+            }
+        }
+    }
+
+    @Test
+    void testSimpleBoardRestoresSavedState() {
+        assertRestoresSavedState(() -> new SimpleBoard(25, 10, new SevenBagBrickGenerator(11)));
+    }
+
+    @Test
+    void testBitBoardRestoresSavedState() {
+        assertRestoresSavedState(() -> new BitBoard(25, 10, new SevenBagBrickGenerator(11)));
+    }
+
+    @Test
+    void testSnapshotMovesBetweenBoardTypes() {
+        SimpleBoard simple = new SimpleBoard(25, 10, new SevenBagBrickGenerator(4));
+        simple.newGame();
+        play(simple, new SplittableRandom(2), 300);
+        BitBoard bit = new BitBoard(25, 10, new SevenBagBrickGenerator(99));
+        bit.newGame();
+
+        bit.restore(simple.snapshot());
+
+        assertEquals(describe(simple), describe(bit));
+        play(simple, new SplittableRandom(8), 300);
+        play(bit, new SplittableRandom(8), 300);
+        assertEquals(describe(simple), describe(bit));
+    }
+
+    @Test
+    void testEmptyBoardStoresNoRows() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(1));
+        board.newGame();
+
+        BoardSnapshot snapshot = board.snapshot();
+
+        assertEquals(25, snapshot.getFirstRow());
+        assertEquals(0, snapshot.getCell(24, 0));
+        // One long per occupied row, so a full 25 row board would add 200 bytes at most
+        assertTrue(snapshot.getSizeBytes() < 200, "size " + snapshot.getSizeBytes());
+    }
+
+    @Test
+    void testRandomGeneratorRestoresQueue() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        long[] state = generator.saveState();
+        int[] expected = new int[4];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = generator.getBrick().getTypeId();
+        }
+
+        generator.restoreState(state);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], generator.getBrick().getTypeId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> generator.restoreState(new long[]{0x91}));
+    }
+
+    @Test
+    void testRejectsSnapshotOfAnotherSize() {
+        SimpleBoard small = new SimpleBoard(20, 10, new SevenBagBrickGenerator(1));
+        small.newGame();
+        BoardSnapshot snapshot = small.snapshot();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimpleBoard(25, 10, new SevenBagBrickGenerator(1)).restore(snapshot));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BitBoard(25, 10, new SevenBagBrickGenerator(1)).restore(snapshot));
+    }
+
+    // Plays on from a snapshot, restores it and checks that the same inputs give the same game again
+    private static void assertRestoresSavedState(Supplier<Board> boards) {
+        Board board = boards.get();
+        board.newGame();
+        play(board, new SplittableRandom(3), 400);
+        board.holdCurrentBrick();
+        BoardSnapshot snapshot = board.snapshot();
+        String saved = describe(board);
+
+        play(board, new SplittableRandom(6), 400);
+        String continued = describe(board);
+        assertNotEquals(saved, continued);
+
+        board.restore(snapshot);
+        assertEquals(saved, describe(board));
+        play(board, new SplittableRandom(6), 400);
+        assertEquals(continued, describe(board));
+
+        // A fresh board of the same kind picks up the game as well
+        Board other = boards.get();
+        other.newGame();
+        other.restore(snapshot);
+        play(other, new SplittableRandom(6), 400);
+        assertEquals(continued, describe(other));
+    }
+
+    // Applies random inputs, locking bricks the way the engine does and starting over when the stack tops out
+    private static void play(Board board, SplittableRandom random, int inputs) {
+        for (int i = 0; i < inputs; i++) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    board.moveBrickLeft();
+                    break;
+                case 1:
+                    board.moveBrickRight();
+                    break;
+                case 2:
+                    board.rotateLeftBrick();
+                    break;
+                case 3:
+                    board.holdCurrentBrick();
+                    break;
+                case 4:
+                    board.hardDropBrick();
+                    lock(board);
+                    break;
+                default:
+                    if (!board.moveBrickDown()) {
+                        lock(board);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private static void lock(Board board) {
+        board.mergeBrickToBackground();
+        board.getScore().add(board.clearRows().getScoreBonus());
+        if (board.isDangerLineReached()) {
+            board.newGame();
+        } else {
+            board.createNewBrick();
+        }
+    }
+
+    // Everything a player can see, as text
+    private static String describe(Board board) {
+        ViewData view = board.getViewData();
+        StringBuilder text = new StringBuilder(Arrays.deepToString(board.getBoardMatrix()));
+        text.append(Arrays.deepToString(view.getBrickData()))
+                .append(view.getxPosition()).append(',').append(view.getyPosition())
+                .append(',').append(view.getGhostYPosition())
+                .append(Arrays.deepToString(view.getHeldBrickData()));
+        for (int[][] next : view.getNext4BricksData()) {
+            text.append(Arrays.deepToString(next));
+        }
+        Score score = board.getScore();
+        return text.append(score.getScore()).append(',').append(score.getLevel()).append(',')
+                .append(score.getLines()).toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042.model;
+
+import com.comp2042.util.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the ring-buffer row storage against the full-copy line clear
+// Covers both the shift-down and the shift-up-and-rotate paths and the row hashes moving with the rows
+class RowStorageTest {
+
+    @Test
+    void testSetTracksFillCounts() {
+        RowStorage storage = new RowStorage(5, 4);
+
+        storage.set(3, 0, 2);
+        storage.set(3, 1, 2);
+        storage.set(3, 1, 5); // Recoloring a filled cell keeps the count
+        storage.set(3, 0, 0);
+
+        assertEquals(1, storage.getFillCount(3));
+        assertFalse(storage.isFull(3));
+    }
+
+    @Test
+    void testRemovingBottomRowOfTallStackShiftsLowerSide() {
+        RowStorage storage = new RowStorage(6, 3);
+        fillRow(storage, 1, 1);
+        fillRow(storage, 2, 2);
+        fillRow(storage, 3, 3);
+        fillRow(storage, 4, 4);
+        fillRow(storage, 5, 5);
+        storage.set(0, 0, 9);
+
+        storage.removeRows(new int[]{5}, 1, 0);
+
+        int[][] matrix = storage.asMatrix();
+        assertArrayEquals(new int[]{0, 0, 0}, matrix[0]);
+        assertArrayEquals(new int[]{9, 0, 0}, matrix[1]);
+        assertArrayEquals(new int[]{1, 1, 1}, matrix[2]);
+        assertArrayEquals(new int[]{4, 4, 4}, matrix[5]);
+        assertEquals(0, storage.getFillCount(0));
+        assertEquals(3, storage.getFillCount(5));
+    }
+
+    @Test
+    void testRemovingRowsMatchesFullCopyClear() {
+        Random random = new Random(3);
+        RowStorage storage = new RowStorage(40, 6);
+        int[][] expected = new int[40][6];
+        for (int round = 0; round < 500; round++) {
+            // Scatter blocks over the lower part of the board, filling some rows completely
+            int stackTop = 40 - 1 - random.nextInt(40);
+            for (int row = stackTop; row < 40; row++) {
+                boolean full = random.nextInt(4) == 0;
+                for (int col = 0; col < 6; col++) {
+                    if (full || random.nextInt(3) == 0) {
+                        int color = 1 + random.nextInt(7);
+                        storage.set(row, col, color);
+                        expected[row][col] = color;
+                    }
+                }
+            }
+            int top = highestFilledRow(expected);
+            int[] full = new int[40];
+            int fullCount = 0;
+            for (int row = 0; row < 40; row++) {
+                if (storage.isFull(row)) {
+                    full[fullCount++] = row;
+                }
+            }
+
+            storage.removeRows(full, fullCount, top);
+            expected = MatrixOperations.checkRemoving(expected).getNewMatrix();
+
+            assertArrayEquals(expected, storage.asMatrix());
+            for (int row = 0; row < 40; row++) {
+                assertEquals(countFilled(expected[row]), storage.getFillCount(row));
+                assertEquals(hashFilled(expected[row]), storage.getRowHash(row));
+            }
+            if (round % 20 == 0) {
+                storage.clear();
+                expected = new int[40][6];
+            }
+        }
+    }
+
+    private static void fillRow(RowStorage storage, int row, int color) {
+        for (int col = 0; col < storage.getColumnCount(); col++) {
+            storage.set(row, col, color);
+        }
+    }
+
+    private static int highestFilledRow(int[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            if (countFilled(matrix[row]) > 0) {
+                return row;
+            }
+        }
+        return matrix.length;
+    }
+
+    private static long hashFilled(int[] row) {
+        long hash = 0;
+        for (int col = 0; col < row.length; col++) {
+            if (row[col] != 0) {
+                hash ^= Zobrist.cellKey(col);
+            }
+        }
+        return hash;
+    }
+
+    private static int countFilled(int[] row) {
+        int count = 0;
+        for (int cell : row) {
+            if (cell != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -19,39 +19,39 @@ class ScoreTest {
 
     @Test
     void testInitialScore() {
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getScore());
     }
 
     @Test
     void testAddScore() {
         score.add(100);
-        assertEquals(100, score.scoreProperty().get());
+        assertEquals(100, score.getScore());
         
         score.add(50);
-        assertEquals(150, score.scoreProperty().get());
+        assertEquals(150, score.getScore());
     }
 
     // LINE CLEARING TESTS
 
     @Test
     void testInitialLines() {
-        assertEquals(0, score.linesProperty().get());
+        assertEquals(0, score.getLines());
     }
 
     @Test
     void testAddLines() {
         score.addLines(1);
-        assertEquals(1, score.linesProperty().get());
+        assertEquals(1, score.getLines());
         
         score.addLines(3);
-        assertEquals(4, score.linesProperty().get());
+        assertEquals(4, score.getLines());
     }
 
     // LEVEL PROGRESSION TESTS
 
     @Test
     void testInitialLevel() {
-        assertEquals(1, score.levelProperty().get());
+        assertEquals(1, score.getLevel());
     }
 
     @Test
@@ -59,20 +59,20 @@ class ScoreTest {
         // Level formula: (lines / 3) + 1
         
         score.addLines(2); // 2 lines
-        assertEquals(1, score.levelProperty().get()); // (2/3) + 1 = 1
+        assertEquals(1, score.getLevel()); // (2/3) + 1 = 1
         
         score.addLines(1); // 3 lines total
-        assertEquals(2, score.levelProperty().get()); // (3/3) + 1 = 2
+        assertEquals(2, score.getLevel()); // (3/3) + 1 = 2
         
         score.addLines(3); // 6 lines total
-        assertEquals(3, score.levelProperty().get()); // (6/3) + 1 = 3
+        assertEquals(3, score.getLevel()); // (6/3) + 1 = 3
     }
 
     @Test
     void testLevelFormulaWithTetris() {
         // TETRIS (4 lines at once)
         score.addLines(4);
-        assertEquals(2, score.levelProperty().get()); // (4/3) + 1 = 2
+        assertEquals(2, score.getLevel()); // (4/3) + 1 = 2
     }
 
     // RESET TEST
@@ -85,9 +85,9 @@ class ScoreTest {
         score.reset();
         
         // All values reset
-        assertEquals(0, score.scoreProperty().get());
-        assertEquals(0, score.linesProperty().get());
-        assertEquals(1, score.levelProperty().get());
+        assertEquals(0, score.getScore());
+        assertEquals(0, score.getLines());
+        assertEquals(1, score.getLevel());
     }
 
     // GAME SCENARIO TEST
@@ -98,34 +98,34 @@ class ScoreTest {
         score.add(50);
         score.addLines(1);
         
-        assertEquals(50, score.scoreProperty().get());
-        assertEquals(1, score.linesProperty().get());
-        assertEquals(1, score.levelProperty().get());
+        assertEquals(50, score.getScore());
+        assertEquals(1, score.getLines());
+        assertEquals(1, score.getLevel());
         
         // Player gets TETRIS (4 lines)
         score.add(800);
         score.addLines(4);
         
-        assertEquals(850, score.scoreProperty().get());
-        assertEquals(5, score.linesProperty().get());
-        assertEquals(2, score.levelProperty().get()); // (5/3) + 1 = 2
+        assertEquals(850, score.getScore());
+        assertEquals(5, score.getLines());
+        assertEquals(2, score.getLevel()); // (5/3) + 1 = 2
     }
 
     @Test
     void testLargeScore() {
         score.add(999999);
-        assertEquals(999999, score.scoreProperty().get());
+        assertEquals(999999, score.getScore());
     }
 
     @Test
     void testMultipleLevels() {
         score.addLines(12); // Should reach level 5
-        assertEquals(5, score.levelProperty().get());
+        assertEquals(5, score.getLevel());
     }
 
     @Test
     void testZeroAddition() {
         score.add(0);
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getScore());
     }
 }
@@ -0,0 +1,102 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Tests that SimpleBoard movement does not create garbage
+// Measures bytes allocated by the current thread around move, rotate and drop calls
+class SimpleBoardAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+
+    private SimpleBoard board;
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeEach
+    void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters not available on this JVM");
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // Seeded bag generator keeps the brick sequence, and so the measured work, the same on every run
+        board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(1));
+        board.createNewBrick();
+    }
+
+    @Test
+    void testHorizontalMovesAndRotationAllocateNothing() {
+        // Warm up so class loading and JIT compilation are not counted
+        moveSideways(ITERATIONS);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        moveSideways(ITERATIONS);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated, "bytes allocated for " + (ITERATIONS * 4) + " moves");
+    }
+
+    @Test
+    void testDownMovesAndHardDropAllocateNothing() {
+        // First drop from the spawn row exercises the full ghost search
+        long firstDropBefore = threadBean.getCurrentThreadAllocatedBytes();
+        int distance = board.hardDropBrick();
+        long firstDropAllocated = threadBean.getCurrentThreadAllocatedBytes() - firstDropBefore;
+        assertTrue(distance > 0);
+
+        dropRepeatedly(ITERATIONS);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        dropRepeatedly(ITERATIONS);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated, "bytes allocated for down moves and hard drops");
+        // Interpreted first call may touch class metadata, but must not copy the 25x10 board
+        assertTrue(firstDropAllocated < 25 * 10 * Integer.BYTES, "first hard drop allocated " + firstDropAllocated);
+    }
+
+    @Test
+    void testSpawningBricksAllocatesNothing() {
+        // Shapes come from the static shape table, so spawning no longer copies rotation matrices
+        // Warm up with the measured workload so first-call costs of either method are not counted
+        spawnAndRotate(ITERATIONS);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        spawnAndRotate(ITERATIONS);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated, "bytes allocated for spawning bricks");
+    }
+
+    private void spawnAndRotate(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            board.createNewBrick();
+            board.rotateLeftBrick();
+        }
+    }
+
+    // Left, right and rotations in the open without ever locking the brick
+    private void moveSideways(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            board.moveBrickLeft();
+            board.rotateLeftBrick();
+            board.moveBrickRight();
+            board.rotateLeftBrick();
+        }
+    }
+
+    // Soft drop and ghost/hard drop calculation, never merging the brick
+    private void dropRepeatedly(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            board.moveBrickDown();
+            board.hardDropBrick();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the skyline-based ghost position against the row-by-row scan
+// Covers open drops, tucks under overhangs and line clears
+class SimpleBoardGhostTest {
+
+    private SimpleBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(25, 10);
+        board.newGame();
+    }
+
+    @Test
+    void testGhostOnEmptyBoardMatchesScan() {
+        assertEquals(board.calculateGhostPositionByScan(), board.calculateGhostPosition());
+    }
+
+    @Test
+    void testGhostMatchesScanDuringRandomPlay() {
+        Random random = new Random(7);
+        for (int piece = 0; piece < 2000; piece++) {
+            // Sink part of the way first so later sideways moves can slide under overhangs
+            int sink = random.nextInt(20);
+            for (int i = 0; i < sink; i++) {
+                board.moveBrickDown();
+            }
+            for (int step = 0; step < 8; step++) {
+                switch (random.nextInt(4)) {
+                    case 0 -> board.moveBrickLeft();
+                    case 1 -> board.moveBrickRight();
+                    case 2 -> board.rotateLeftBrick();
+                    default -> board.moveBrickDown();
+                }
+                assertEquals(board.calculateGhostPositionByScan(), board.calculateGhostPosition());
+            }
+            int ghostY = board.calculateGhostPositionByScan();
+            board.hardDropBrick();
+            assertEquals(ghostY, board.getViewData().getyPosition());
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.isDangerLineReached()) {
+                board.newGame();
+            } else {
+                board.createNewBrick();
+            }
+            assertEquals(board.calculateGhostPositionByScan(), board.calculateGhostPosition());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.ShapeTable;
+import com.comp2042.util.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the row fill counters and in-place line clearing against the full-board scan
+// Uses only I and O bricks so rows fill up and clear often
+class SimpleBoardLineClearTest {
+
+    @Test
+    void testClearRowsMatchesFullScanDuringRandomPlay() {
+        Random random = new Random(11);
+        SimpleBoard board = new SimpleBoard(25, 10, new FlatBrickGenerator(random));
+        board.newGame();
+        int totalLinesCleared = 0;
+        for (int piece = 0; piece < 3000; piece++) {
+            if (random.nextBoolean()) {
+                board.rotateLeftBrick();
+            }
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+
+            ClearRow expected = MatrixOperations.checkRemoving(MatrixOperations.copy(board.getBoardMatrix()));
+            ClearRow actual = board.clearRows();
+
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+            assertEquals(expected.getScoreBonus(), actual.getScoreBonus());
+            assertArrayEquals(expected.getClearedRows(), actual.getClearedRows());
+            assertArrayEquals(expected.getNewMatrix(), board.getBoardMatrix());
+            totalLinesCleared += actual.getLinesRemoved();
+
+            if (board.isDangerLineReached()) {
+                board.newGame();
+            } else {
+                board.createNewBrick();
+            }
+        }
+        assertTrue(totalLinesCleared > 0, "random play should clear some lines");
+    }
+
+    @Test
+    void testBottomRowsClearReportTheirIndices() {
+        SimpleBoard board = new SimpleBoard(25, 10, new FlatBrickGenerator(null));
+        board.newGame();
+        placeSquaresLeavingGap(board);
+        // The last square fills columns 4 and 5 of rows 23 and 24
+        placeSquare(board, -1);
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(2, result.getLinesRemoved());
+        assertArrayEquals(new int[]{23, 24}, result.getClearedRows());
+        for (int[] row : board.getBoardMatrix()) {
+            assertArrayEquals(new int[10], row);
+        }
+    }
+
+    @Test
+    void testClearRowsWithoutNewMergeReportsNothing() {
+        SimpleBoard board = new SimpleBoard(25, 10, new FlatBrickGenerator(null));
+        board.newGame();
+        placeSquaresLeavingGap(board);
+        placeSquare(board, -1);
+        assertEquals(2, board.clearRows().getLinesRemoved());
+
+        ClearRow again = board.clearRows();
+
+        assertEquals(0, again.getLinesRemoved());
+        assertEquals(0, again.getClearedRows().length);
+    }
+
+    @Test
+    void testIsDangerLineReachedFollowsMergedCells() {
+        SimpleBoard board = new SimpleBoard(25, 10, new FlatBrickGenerator(null));
+        board.newGame();
+        assertFalse(board.isDangerLineReached());
+
+        // Lock the spawned square where it is, covering the danger row
+        board.mergeBrickToBackground();
+
+        assertTrue(board.isDangerLineReached());
+    }
+
+    // Fills rows 23 and 24 with squares everywhere except columns 4 and 5, clearing nothing
+    private static void placeSquaresLeavingGap(SimpleBoard board) {
+        for (int shift : new int[]{-5, -3, 1, 3}) {
+            placeSquare(board, shift);
+            assertEquals(0, board.clearRows().getLinesRemoved());
+            board.createNewBrick();
+        }
+    }
+
+    // Shifts the spawned square (cells at x + 1 and x + 2) sideways and locks it on the floor
+    private static void placeSquare(SimpleBoard board, int shift) {
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+        }
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+    }
+
+    // Hands out only I and O bricks chosen at random, or only O bricks when no random source is given
+    // The brick classes are package-private, so one instance of each is taken from the random generator
+    private static final class FlatBrickGenerator implements BrickGenerator {
+        private final Random random;
+        private final Brick iBrick = findBrick(ShapeTable.I);
+        private final Brick oBrick = findBrick(ShapeTable.O);
+        private Brick next;
+
+        FlatBrickGenerator(Random random) {
+            this.random = random;
+            this.next = pick();
+        }
+
+        private static Brick findBrick(int type) {
+            RandomBrickGenerator generator = new RandomBrickGenerator();
+            Brick brick = generator.getBrick();
+            while (brick.getTypeId() != type) {
+                brick = generator.getBrick();
+            }
+            return brick;
+        }
+
+        private Brick pick() {
+            return random != null && random.nextBoolean() ? iBrick : oBrick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            Brick brick = next;
+            next = pick();
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return next;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.comp2042.model;
+
+import com.comp2042.data.BoardSnapshot;
+import com.comp2042.model.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests Zobrist hashing of board states
+// Covers the incremental SimpleBoard hash against a full recount, agreement between boards, and restores
+class ZobristTest {
+
+    @Test
+    void testIncrementalHashMatchesFullRecount() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(6));
+        board.newGame();
+        assertEquals(0, board.getSettledHash());
+        SplittableRandom random = new SplittableRandom(6);
+        int cleared = 0;
+        for (int piece = 0; piece < 5000; piece++) {
+            playRandomPiece(board, random);
+            board.mergeBrickToBackground();
+            cleared += board.clearRows().getLinesRemoved();
+            assertEquals(recount(board.getBoardMatrix()), board.getSettledHash(), "piece " + piece);
+            if (board.isDangerLineReached()) {
+                board.newGame();
+                assertEquals(0, board.getSettledHash());
+            } else {
+                board.createNewBrick();
+            }
+        }
+        assertTrue(cleared > 0, "random play should clear some lines");
+    }
+
+    @Test
+    void testBoardsHashEqualStatesEqually() {
+        SimpleBoard simple = new SimpleBoard(25, 10, new SevenBagBrickGenerator(12));
+        BitBoard bits = new BitBoard(25, 10, new SevenBagBrickGenerator(12));
+        simple.newGame();
+        bits.newGame();
+        SplittableRandom simpleMoves = new SplittableRandom(3);
+        SplittableRandom bitMoves = new SplittableRandom(3);
+        for (int piece = 0; piece < 300 && !simple.isDangerLineReached(); piece++) {
+            playRandomPiece(simple, simpleMoves);
+            playRandomPiece(bits, bitMoves);
+            assertEquals(simple.getStateHash(), bits.getStateHash(), "piece " + piece);
+            simple.mergeBrickToBackground();
+            bits.mergeBrickToBackground();
+            simple.clearRows();
+            bits.clearRows();
+            assertEquals(simple.getSettledHash(), bits.getSettledHash(), "piece " + piece);
+            simple.createNewBrick();
+            bits.createNewBrick();
+        }
+    }
+
+    @Test
+    void testStateHashTracksPieceAndHold() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(1));
+        board.newGame();
+        long spawned = board.getStateHash();
+
+        board.moveBrickLeft();
+        long moved = board.getStateHash();
+        board.moveBrickRight();
+
+        assertNotEquals(spawned, moved);
+        assertEquals(spawned, board.getStateHash());
+        board.holdCurrentBrick();
+        assertNotEquals(spawned, board.getStateHash());
+        assertEquals(0, board.getSettledHash());
+    }
+
+    @Test
+    void testRestoreRebuildsHash() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SevenBagBrickGenerator(8));
+        board.newGame();
+        SplittableRandom random = new SplittableRandom(8);
+        for (int piece = 0; piece < 15; piece++) {
+            playRandomPiece(board, random);
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        BoardSnapshot saved = board.snapshot();
+        long savedHash = board.getStateHash();
+        for (int piece = 0; piece < 15; piece++) {
+            playRandomPiece(board, random);
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+
+        board.restore(saved);
+
+        assertEquals(savedHash, board.getStateHash());
+        assertEquals(recount(board.getBoardMatrix()), board.getSettledHash());
+    }
+
+    private static void playRandomPiece(Board board, SplittableRandom random) {
+        for (int i = random.nextInt(4); i > 0; i--) {
+            board.rotateLeftBrick();
+        }
+        int shift = random.nextInt(11) - 5;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+        }
+        board.hardDropBrick();
+    }
+
+    private static long recount(int[][] matrix) {
+        long hash = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            int bits = 0;
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    bits |= 1 << col;
+                }
+            }
+            hash ^= Zobrist.rowTerm(row, Zobrist.rowContent(bits));
+        }
+        return hash;
+    }
+}
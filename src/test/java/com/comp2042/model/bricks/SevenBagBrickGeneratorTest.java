@@ -0,0 +1,167 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Tests the seeded 7-bag generator
+// Covers determinism, the bag guarantee, preview consistency, saved states and allocation-free drawing
+class SevenBagBrickGeneratorTest {
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        SevenBagBrickGenerator first = new SevenBagBrickGenerator(42);
+        SevenBagBrickGenerator second = new SevenBagBrickGenerator(42);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.getBrick().getTypeId(), second.getBrick().getTypeId());
+        }
+    }
+
+    @Test
+    void testDifferentSeedsGiveDifferentSequences() {
+        SevenBagBrickGenerator first = new SevenBagBrickGenerator(1);
+        SevenBagBrickGenerator second = new SevenBagBrickGenerator(2);
+        boolean differs = false;
+        for (int i = 0; i < 70 && !differs; i++) {
+            differs = first.getBrick().getTypeId() != second.getBrick().getTypeId();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testEveryBagHoldsAllSevenTypes() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(7);
+        for (int bag = 0; bag < 200; bag++) {
+            boolean[] seen = new boolean[ShapeTable.TYPE_COUNT + 1];
+            for (int i = 0; i < ShapeTable.TYPE_COUNT; i++) {
+                int type = generator.getBrick().getTypeId();
+                assertFalse(seen[type], "type " + type + " repeated within bag " + bag);
+                seen[type] = true;
+            }
+        }
+    }
+
+    @Test
+    void testPreviewMatchesUpcomingBricks() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(3, 6);
+        assertEquals(6, generator.getPreviewSize());
+        for (int round = 0; round < 50; round++) {
+            int[] preview = new int[6];
+            for (int i = 0; i < 6; i++) {
+                preview[i] = generator.getPreviewTypeId(i);
+                assertEquals(preview[i], generator.getPreview(i).getTypeId());
+            }
+            assertEquals(preview[0], generator.getNextBrick().getTypeId());
+            assertEquals(preview[0], generator.getBrick().getTypeId());
+            for (int i = 1; i < 6; i++) {
+                assertEquals(preview[i], generator.getPreviewTypeId(i - 1));
+            }
+        }
+    }
+
+    @Test
+    void testPreviewIndexOutsideDepthIsRejected() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(3, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPreview(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPreview(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SevenBagBrickGenerator(3, 0));
+    }
+
+    @Test
+    void testResetRestartsSequence() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(99);
+        int[] firstRun = new int[20];
+        for (int i = 0; i < firstRun.length; i++) {
+            firstRun[i] = generator.getBrick().getTypeId();
+        }
+
+        generator.reset(99);
+
+        assertEquals(99, generator.getSeed());
+        for (int expected : firstRun) {
+            assertEquals(expected, generator.getBrick().getTypeId());
+        }
+    }
+
+    @Test
+    void testSequenceMatchesSplittableRandomShuffle() {
+        // The explicit random state must keep the sequences of seeds used by existing replays
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(1234);
+        SplittableRandom random = new SplittableRandom(1234);
+        int[] bag = new int[ShapeTable.TYPE_COUNT];
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < bag.length; i++) {
+                bag[i] = i + 1;
+            }
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            for (int type : bag) {
+                assertEquals(type, generator.getBrick().getTypeId());
+            }
+        }
+    }
+
+    @Test
+    void testRestoredStateContinuesSequence() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(9, 20);
+        for (int i = 0; i < 12; i++) {
+            generator.getBrick();
+        }
+        long[] state = generator.saveState();
+        int[] expected = new int[100];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = generator.getBrick().getTypeId();
+        }
+
+        SevenBagBrickGenerator other = new SevenBagBrickGenerator(0, 20);
+        other.restoreState(state);
+
+        assertEquals(9, other.getSeed());
+        assertEquals(expected[0], other.getNextBrick().getTypeId());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], other.getBrick().getTypeId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new SevenBagBrickGenerator(0).restoreState(state));
+        // A preview slot holding type 0 is not a brick
+        long[] corrupt = state.clone();
+        corrupt[corrupt.length - 1] &= ~0xFL;
+        assertThrows(IllegalArgumentException.class, () -> other.restoreState(corrupt));
+    }
+
+    @Test
+    void testDrawingAndPreviewAllocateNothing() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters not available on this JVM");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(5);
+        long sink = drawAndPreview(generator);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        sink += drawAndPreview(generator);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated, "bytes allocated while drawing bricks (checksum " + sink + ")");
+    }
+
+    private static long drawAndPreview(SevenBagBrickGenerator generator) {
+        long sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            sum += generator.getBrick().getTypeId();
+            for (int p = 0; p < generator.getPreviewSize(); p++) {
+                sum += generator.getPreview(p).getTypeId();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests the precomputed brick shape table
+// Tests rotation counts, matrices, bounding boxes, cell lists and row masks
+class ShapeTableTest {
+
+    @Test
+    void testRotationCounts() {
+        assertEquals(2, ShapeTable.getRotationCount(ShapeTable.I));
+        assertEquals(4, ShapeTable.getRotationCount(ShapeTable.J));
+        assertEquals(4, ShapeTable.getRotationCount(ShapeTable.L));
+        assertEquals(1, ShapeTable.getRotationCount(ShapeTable.O));
+        assertEquals(2, ShapeTable.getRotationCount(ShapeTable.S));
+        assertEquals(4, ShapeTable.getRotationCount(ShapeTable.T));
+        assertEquals(2, ShapeTable.getRotationCount(ShapeTable.Z));
+    }
+
+    @Test
+    void testBricksMatchTable() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        for (int i = 0; i < 50; i++) {
+            Brick brick = generator.getBrick();
+            List<int[][]> rotations = brick.getShapeMatrix();
+            assertEquals(ShapeTable.getRotationCount(brick.getTypeId()), rotations.size());
+            for (int r = 0; r < rotations.size(); r++) {
+                assertArrayEquals(ShapeTable.get(brick.getTypeId(), r).getMatrix(), rotations.get(r));
+            }
+        }
+    }
+
+    @Test
+    void testBrickMatricesAreCopies() {
+        // Callers that modify their matrices must not corrupt the shared table
+        Brick brick = new TBrick();
+        brick.getShapeMatrix().get(0)[1][0] = 0;
+        assertEquals(ShapeTable.T, ShapeTable.get(ShapeTable.T, 0).getMatrix()[1][0]);
+    }
+
+    @Test
+    void testHorizontalIBrickGeometry() {
+        BrickShape shape = ShapeTable.get(ShapeTable.I, 0);
+
+        assertEquals(1, shape.getMinRow());
+        assertEquals(1, shape.getMaxRow());
+        assertEquals(0, shape.getMinCol());
+        assertEquals(3, shape.getMaxCol());
+        assertEquals(0b1111, shape.getRowMask(1));
+        assertEquals(0, shape.getRowMask(0));
+        assertEquals(4, shape.getCellCount());
+    }
+
+    @Test
+    void testCellListsMatchMatrix() {
+        for (int type = 1; type <= ShapeTable.TYPE_COUNT; type++) {
+            for (int rotation = 0; rotation < ShapeTable.getRotationCount(type); rotation++) {
+                BrickShape shape = ShapeTable.get(type, rotation);
+                assertEquals(4, shape.getCellCount());
+                for (int i = 0; i < shape.getCellCount(); i++) {
+                    assertEquals(type, shape.getMatrix()[shape.getCellRow(i)][shape.getCellCol(i)]);
+                    assertTrue((shape.getRowMask(shape.getCellRow(i)) & (1 << shape.getCellCol(i))) != 0);
+                }
+            }
+        }
+    }
+}
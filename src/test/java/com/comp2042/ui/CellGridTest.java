@@ -0,0 +1,81 @@
+package com.comp2042.ui;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests CellGrid and CellPalette
+// Covers styling per grid style and skipping cells that already show the requested color
+class CellGridTest {
+
+    @Test
+    void testBoardCellsStartEmptyWithGridline() {
+        CellGrid grid = new CellGrid(2, 3, 20, CellGrid.Style.BOARD);
+
+        Rectangle cell = grid.getCell(1, 2);
+        assertSame(CellPalette.EMPTY_FILL, cell.getFill());
+        assertSame(CellPalette.EMPTY_STROKE, cell.getStroke());
+        assertEquals(0, grid.getShownColor(1, 2));
+    }
+
+    @Test
+    void testSetAppliesPaletteColors() {
+        CellGrid grid = new CellGrid(1, 1, 20, CellGrid.Style.BOARD);
+
+        grid.set(0, 0, 5);
+
+        Rectangle cell = grid.getCell(0, 0);
+        assertSame(CellPalette.getBlockFill(5), cell.getFill());
+        assertSame(CellPalette.BLOCK_STROKE, cell.getStroke());
+        assertEquals(CellPalette.BLOCK_ARC, cell.getArcWidth());
+        assertEquals(5, grid.getShownColor(0, 0));
+    }
+
+    @Test
+    void testSettingSameColorSkipsRectangle() {
+        CellGrid grid = new CellGrid(1, 1, 20, CellGrid.Style.PREVIEW);
+        grid.set(0, 0, 3);
+        int[] writes = new int[1];
+        grid.getCell(0, 0).fillProperty().addListener(observable -> writes[0]++);
+        grid.getCell(0, 0).getFill(); // Validate so the next write fires
+
+        grid.set(0, 0, 3);
+        assertEquals(0, writes[0]);
+
+        grid.set(0, 0, 4);
+        assertEquals(1, writes[0]);
+    }
+
+    @Test
+    void testSetAllClearsCellsOutsideShape() {
+        CellGrid grid = new CellGrid(4, 4, 20, CellGrid.Style.PREVIEW);
+        grid.setAll(new int[][]{{1, 1, 1, 1}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}});
+
+        grid.setAll(new int[][]{{0, 4, 4, 0}});
+
+        assertEquals(4, grid.getShownColor(0, 1));
+        assertEquals(0, grid.getShownColor(0, 0));
+        assertEquals(0, grid.getShownColor(1, 1));
+        assertSame(Color.TRANSPARENT, grid.getCell(1, 1).getFill());
+        assertNull(grid.getCell(1, 1).getStroke());
+    }
+
+    @Test
+    void testGhostCellsOnlyChangeOutline() {
+        CellGrid grid = new CellGrid(1, 2, 20, CellGrid.Style.GHOST);
+
+        grid.setAll(new int[][]{{6, 0}});
+
+        assertSame(CellPalette.GHOST_STROKE, grid.getCell(0, 0).getStroke());
+        assertSame(Color.TRANSPARENT, grid.getCell(0, 1).getStroke());
+        assertSame(Color.TRANSPARENT, grid.getCell(0, 0).getFill());
+    }
+
+    @Test
+    void testUnknownColorIdIsWhite() {
+        assertSame(Color.WHITE, CellPalette.getBlockFill(42));
+        assertSame(Color.TRANSPARENT, CellPalette.getBlockFill(0));
+    }
+}
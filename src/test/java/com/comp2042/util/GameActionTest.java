@@ -9,7 +9,7 @@ class GameActionTest {
     @Test
     void testAllActionsExist() {
         GameAction[] actions = GameAction.values();
-        assertEquals(8, actions.length);
+        assertEquals(10, actions.length);
     }
 
     @Test
@@ -0,0 +1,51 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests GameSettings
+// Tests defaults, updating the render mode, and cycling through modes
+class GameSettingsTest {
+
+    private GameSettings settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = GameSettings.getInstance();
+        settings.resetToDefaults();
+    }
+
+    @AfterEach
+    void tearDown() {
+        settings.resetToDefaults();
+    }
+
+    @Test
+    void testSingletonInstance() {
+        assertSame(GameSettings.getInstance(), GameSettings.getInstance());
+    }
+
+    @Test
+    void testDefaultRenderModeIsNodes() {
+        assertEquals(RenderMode.NODES, settings.getRenderMode());
+    }
+
+    @Test
+    void testSetRenderMode() {
+        settings.setRenderMode(RenderMode.CANVAS);
+
+        assertEquals(RenderMode.CANVAS, settings.getRenderMode());
+    }
+
+    @Test
+    void testRenderModeCyclesThroughAllModes() {
+        RenderMode mode = RenderMode.NODES;
+        for (int i = 0; i < RenderMode.values().length; i++) {
+            assertNotNull(mode.getDisplayName());
+            mode = mode.next();
+        }
+        assertEquals(RenderMode.NODES, mode);
+    }
+}
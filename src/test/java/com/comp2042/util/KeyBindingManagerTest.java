@@ -86,5 +86,28 @@ class KeyBindingManagerTest {
             assertNotNull(manager.getPrimaryBinding(action));
         }
     }
+
+    @Test
+    void testRepeatTimingPersistsAndResets() {
+        manager.setDasMillis(100);
+        manager.setArrMillis(0);
+
+        assertEquals(100, manager.getDasMillis());
+        assertEquals(0, manager.getArrMillis());
+
+        manager.resetToDefaults();
+
+        assertEquals(KeyBindingManager.DEFAULT_DAS_MILLIS, manager.getDasMillis());
+        assertEquals(KeyBindingManager.DEFAULT_ARR_MILLIS, manager.getArrMillis());
+    }
+
+    @Test
+    void testRepeatTimingIsClamped() {
+        manager.setDasMillis(-5);
+        manager.setArrMillis(60_000);
+
+        assertEquals(0, manager.getDasMillis());
+        assertEquals(KeyBindingManager.MAX_REPEAT_MILLIS, manager.getArrMillis());
+    }
 }
 
@@ -91,6 +91,23 @@ class MatrixOperationsTest {
         assertEquals(200, result.getScoreBonus()); // 50 * 2 * 2
     }
 
+    @Test
+    void testCheckRemovingReportsClearedRowIndices() {
+        int[][] board = new int[10][10];
+        
+        // Fill rows 4 and 9, with a partial row between them
+        for (int j = 0; j < 10; j++) {
+            board[4][j] = 1;
+            board[9][j] = 1;
+        }
+        board[6][0] = 2;
+        
+        ClearRow result = MatrixOperations.checkRemoving(board);
+        
+        assertArrayEquals(new int[]{4, 9}, result.getClearedRows());
+        assertEquals(2, result.getNewMatrix()[7][0]); // Partial row drops by the one cleared row below it
+    }
+
     @Test
     void testCheckRemovingThreeFullRows() {
         int[][] board = new int[10][10];